@@ -0,0 +1,82 @@
+package com.scait.data.validator.benchmark;
+
+import com.scait.data.validator.Difference;
+import com.scait.data.validator.ResettableValidationResult;
+import com.scait.data.validator.ValidationPlan;
+import com.scait.data.validator.ValidationResult;
+import com.scait.data.validator.impl.DataValidator;
+import com.scait.data.validator.impl.Expectation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Validation of tiny batches at a high rate: a validator per batch against a compiled plan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BatchBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int batchSize;
+
+    @Param({"0", "1"})
+    private double failureRatio;
+
+    private List<BenchmarkItem> batch;
+    private ValidationPlan<BenchmarkItem> plan;
+    private ResettableValidationResult batchResult;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        batch = IntStream.range(0, batchSize)
+                .mapToObj((int index) -> BenchmarkItem.of(index, failureRatio))
+                .collect(Collectors.toList());
+        plan = newValidator().compile();
+        batchResult = plan.newBatchResult();
+    }
+
+    @Benchmark
+    public ValidationResult validator() {
+        return newValidator().accept(batch.stream()).validate();
+    }
+
+    @Benchmark
+    public ValidationResult planBatch() {
+        return plan.validateBatch(batch);
+    }
+
+    @Benchmark
+    public ValidationResult planReusedResult() {
+        return plan.validateBatch(batch, batchResult);
+    }
+
+    private static DataValidator<BenchmarkItem> newValidator() {
+        final var validator = new DataValidator<BenchmarkItem>();
+        validator
+                .setItemId(BenchmarkItem::getId)
+                .expect(Expectation.of(() -> 0, BenchmarkItem::getValue, Integer::compareTo,
+                        Difference.GREATER_OR_EQUAL))
+                .expect(Expectation.of((BenchmarkItem item) -> true,
+                        (BenchmarkItem item) -> !item.getName().isEmpty()));
+        return validator;
+    }
+}
@@ -0,0 +1,48 @@
+package com.scait.data.validator.benchmark;
+
+/**
+ * Data object of validation benchmarks.
+ */
+public class BenchmarkItem {
+
+    private final int id;
+    private final int value;
+    private final String name;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param id    - id
+     * @param value - value
+     * @param name  - name
+     */
+    public BenchmarkItem(int id, int value, String name) {
+        this.id = id;
+        this.value = value;
+        this.name = name;
+    }
+
+    /**
+     * Creates a benchmark item that fails validation for a share of indexes.
+     *
+     * @param index        - index of the item
+     * @param failureRatio - share of items that fail validation
+     * @return - benchmark item
+     */
+    public static BenchmarkItem of(int index, double failureRatio) {
+        final var failed = index % 10_000 < failureRatio * 10_000;
+        return new BenchmarkItem(index, failed ? -1 : index % 1_000, "item");
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,83 @@
+package com.scait.data.validator.benchmark;
+
+import com.scait.data.validator.Difference;
+import com.scait.data.validator.ValidationResult;
+import com.scait.data.validator.impl.ColumnExpectation;
+import com.scait.data.validator.impl.ColumnarDataValidator;
+import com.scait.data.validator.impl.DataValidator;
+import com.scait.data.validator.impl.Expectation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Validation of the same values as objects and as primitive columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ColumnarBenchmark {
+
+    @Param({"1000000"})
+    private int itemCount;
+
+    @Param({"0", "0.01"})
+    private double failureRatio;
+
+    private List<BenchmarkItem> items;
+    private long[] ids;
+    private int[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = IntStream.range(0, itemCount)
+                .mapToObj((int index) -> BenchmarkItem.of(index, failureRatio))
+                .collect(Collectors.toList());
+        ids = items.stream().mapToLong(BenchmarkItem::getId).toArray();
+        values = items.stream().mapToInt(BenchmarkItem::getValue).toArray();
+    }
+
+    @Benchmark
+    public ValidationResult objects() {
+        return new DataValidator<BenchmarkItem>()
+                .accept(items.stream())
+                .setItemId(BenchmarkItem::getId)
+                .expect(Expectation.of(() -> 0, BenchmarkItem::getValue, Integer::compareTo,
+                        Difference.GREATER_OR_EQUAL))
+                .validate();
+    }
+
+    @Benchmark
+    public ValidationResult columns() {
+        return new ColumnarDataValidator()
+                .setItemIds(ids)
+                .expect(ColumnExpectation.of(values, Difference.GREATER_OR_EQUAL, 0))
+                .validate();
+    }
+
+    @Benchmark
+    public int columnsFailureCount() {
+        return new ColumnarDataValidator()
+                .expect(ColumnExpectation.of(values, Difference.GREATER_OR_EQUAL, 0))
+                .validate()
+                .getFailureBitmap(0)
+                .cardinality();
+    }
+}
@@ -0,0 +1,66 @@
+package com.scait.data.validator.benchmark;
+
+import com.scait.data.validator.Difference;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.ValidationResult;
+import com.scait.data.validator.impl.DataValidator;
+import com.scait.data.validator.impl.Expectation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of {@link ValidationResult#getFailedConditions(Object)} lookup by item id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LookupBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int failureCount;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private ValidationResult validationResult;
+    private Integer[] itemIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var validator = new DataValidator<BenchmarkItem>();
+        validator
+                .accept(IntStream.range(0, failureCount).mapToObj((int index) -> BenchmarkItem.of(index, 1)))
+                .setItemId(BenchmarkItem::getId)
+                .expect(Expectation.of(() -> 0, BenchmarkItem::getValue, Integer::compareTo,
+                        Difference.GREATER_OR_EQUAL));
+        if (parallel) {
+            validator.parallel();
+        }
+        validationResult = validator.validate();
+        itemIds = IntStream.range(0, failureCount).boxed().toArray(Integer[]::new);
+    }
+
+    @Benchmark
+    public Set<FailedCondition> getFailedConditions() {
+        next = next + 1 == itemIds.length ? 0 : next + 1;
+        return validationResult.getFailedConditions(itemIds[next]);
+    }
+}
@@ -0,0 +1,102 @@
+package com.scait.data.validator.benchmark;
+
+import com.scait.data.validator.Difference;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.ValidationResult;
+import com.scait.data.validator.impl.DataValidator;
+import com.scait.data.validator.impl.Expectation;
+import com.scait.data.validator.impl.FailureSinks;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of sequential and parallel validation.
+ * Items are generated lazily, so large item counts do not need the heap to hold the input.
+ * Failed conditions are retained by the result up to {@link #MAX_RETAINED_FAILURES}; configurations that fail more
+ * push failed conditions to a counting sink instead, so the heap holds neither the input nor the failures.
+ * Default item counts stop at 10M; larger counts are run explicitly, e.g. {@code -p itemCount=100000000}.
+ * Items per second are reported by the {@code items} counter; bytes per item are
+ * {@code gc.alloc.rate.norm} divided by the item count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ValidationBenchmark {
+
+    /**
+     * Max count of failed conditions kept by the validation result of a configuration.
+     */
+    private static final long MAX_RETAINED_FAILURES = 1_000_000;
+
+    @Param({"1000", "100000", "10000000"})
+    private int itemCount;
+
+    @Param({"1", "4", "16"})
+    private int expectationCount;
+
+    @Param({"0", "0.01", "0.5"})
+    private double failureRatio;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private List<Expectation<BenchmarkItem, ?>> expectations;
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Counter of validated items.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ItemCounter {
+
+        public long items;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        expectations = new ArrayList<>();
+        for (var i = 0; i < expectationCount; i++) {
+            expectations.add(Expectation.of(() -> 0, BenchmarkItem::getValue, Integer::compareTo,
+                    Difference.GREATER_OR_EQUAL));
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validate(ItemCounter counter) {
+        final var validator = new DataValidator<BenchmarkItem>();
+        validator
+                .accept(IntStream.range(0, itemCount).mapToObj((int index) -> BenchmarkItem.of(index, failureRatio)))
+                .setItemId(BenchmarkItem::getId);
+        expectations.forEach(validator::expect);
+        if (parallel) {
+            validator.parallel();
+        }
+        final var expectedFailures = (long) Math.ceil(itemCount * failureRatio) * expectationCount;
+        final var validationResult = expectedFailures <= MAX_RETAINED_FAILURES
+                ? validator.validate()
+                : validator.validate(FailureSinks.of((FailedCondition failedCondition) -> failures.increment()));
+        counter.items += itemCount;
+        return validationResult;
+    }
+}
@@ -0,0 +1,19 @@
+package com.scait.data.validator;
+
+import java.util.List;
+
+/**
+ * Validation result that keeps aggregated failures instead of every failed condition,
+ * so its memory use does not depend on the count of failures.
+ * Failed conditions and failed item ids of the result are the ones of the samples;
+ * failure count is exact.
+ */
+public interface AggregatedValidationResult extends ValidationResult {
+
+    /**
+     * Gets aggregated failures per expectation, in the order the expectations failed first.
+     *
+     * @return - List of FailureSummary
+     */
+    List<FailureSummary> getFailureSummaries();
+}
@@ -0,0 +1,56 @@
+package com.scait.data.validator;
+
+/**
+ * Bounds of a range expectation: whether the actual value may be equal to the lower and upper bounds.
+ */
+public enum Bounds {
+
+    /**
+     * Case when the actual value should be between bounds, both bounds included.
+     */
+    INCLUSIVE(Difference.GREATER_OR_EQUAL, Difference.LESS_OR_EQUAL),
+    /**
+     * Case when the actual value should be between bounds, both bounds excluded.
+     */
+    EXCLUSIVE(Difference.GREATER, Difference.LESS),
+    /**
+     * Case when the actual value should be between bounds, lower bound included and upper bound excluded.
+     */
+    LOWER_INCLUSIVE(Difference.GREATER_OR_EQUAL, Difference.LESS),
+    /**
+     * Case when the actual value should be between bounds, lower bound excluded and upper bound included.
+     */
+    UPPER_INCLUSIVE(Difference.GREATER, Difference.LESS_OR_EQUAL);
+
+    private final Difference lowerDifference;
+    private final Difference upperDifference;
+
+    /**
+     * Bounds constructor.
+     *
+     * @param lowerDifference - expected difference of the actual value and the lower bound
+     * @param upperDifference - expected difference of the actual value and the upper bound
+     */
+    Bounds(Difference lowerDifference, Difference upperDifference) {
+        this.lowerDifference = lowerDifference;
+        this.upperDifference = upperDifference;
+    }
+
+    /**
+     * Gets expected difference of the actual value and the lower bound.
+     *
+     * @return - lower bound difference
+     */
+    public Difference getLowerDifference() {
+        return lowerDifference;
+    }
+
+    /**
+     * Gets expected difference of the actual value and the upper bound.
+     *
+     * @return - upper bound difference
+     */
+    public Difference getUpperDifference() {
+        return upperDifference;
+    }
+}
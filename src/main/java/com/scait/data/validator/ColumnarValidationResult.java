@@ -0,0 +1,26 @@
+package com.scait.data.validator;
+
+import java.util.BitSet;
+
+/**
+ * Result of columnar verification: a failure bitmap per expectation.
+ * Failed conditions are produced from the bitmaps and the id column on the first read of failed conditions,
+ * so the count of failures and the bitmaps do not allocate a condition per failed row.
+ */
+public interface ColumnarValidationResult extends ValidationResult {
+
+    /**
+     * Gets count of verified rows.
+     *
+     * @return - count of rows
+     */
+    int getRowCount();
+
+    /**
+     * Gets rows that failed an expectation.
+     *
+     * @param expectation - index of the expectation in the order it was added
+     * @return - copy of the failure bitmap, a set bit per failed row
+     */
+    BitSet getFailureBitmap(int expectation);
+}
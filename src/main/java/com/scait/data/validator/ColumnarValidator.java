@@ -0,0 +1,41 @@
+package com.scait.data.validator;
+
+import com.scait.data.validator.impl.ColumnExpectation;
+
+/**
+ * Validator of columnar data: primitive columns of the same row count and an optional id column.
+ * Every expectation is evaluated column by column, without row objects and per row dispatch.
+ */
+public interface ColumnarValidator {
+
+    /**
+     * Sets id column of rows. Row index is used as item id by default.
+     *
+     * @param ids - ids of rows
+     * @return - validator instance
+     */
+    ColumnarValidator setItemIds(long[] ids);
+
+    /**
+     * Adds verification expectation on a column.
+     *
+     * @param expectation - expectation for verification
+     * @return - validator instance
+     */
+    ColumnarValidator expect(ColumnExpectation expectation);
+
+    /**
+     * Sets verification parallel mode enabled: ranges of rows are verified on the common pool.
+     *
+     * @return - validator instance
+     */
+    ColumnarValidator parallel();
+
+    /**
+     * Starts verification of all columns.
+     *
+     * @return - verification validation result
+     * @throws IllegalArgumentException - in case columns have different row counts
+     */
+    ColumnarValidationResult validate();
+}
@@ -0,0 +1,38 @@
+package com.scait.data.validator;
+
+import java.time.Duration;
+
+/**
+ * Statistics of a single expectation of a validation run.
+ */
+public interface ExpectationStatistics {
+
+    /**
+     * Gets name of the expectation.
+     *
+     * @return - name of the expectation; position of the expectation, e.g. "expectation-2", in case it is not named
+     */
+    String getExpectationName();
+
+    /**
+     * Gets count of items the expectation was evaluated on.
+     *
+     * @return - count of checked items
+     */
+    long getCheckedCount();
+
+    /**
+     * Gets count of items the expectation failed on, including failures over the failure budget.
+     *
+     * @return - count of failed items
+     */
+    long getFailedCount();
+
+    /**
+     * Gets cumulative time of the expectation evaluation over all threads.
+     * Unless the run is instrumented, only a sample of evaluations is timed and the time is estimated from it.
+     *
+     * @return - cumulative evaluation time
+     */
+    Duration getEvaluationTime();
+}
@@ -25,4 +25,13 @@ public interface FailedCondition {
      * @return - actual value
      */
     Object getActualValue();
+
+    /**
+     * Gets name of the expectation that failed.
+     *
+     * @return - name of the expectation; null in case it is unknown or not named
+     */
+    default String getExpectationName() {
+        return null;
+    }
 }
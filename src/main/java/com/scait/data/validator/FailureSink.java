@@ -0,0 +1,34 @@
+package com.scait.data.validator;
+
+/**
+ * Receiver of failed conditions that are pushed as soon as they are found by a validation.
+ * Sink is called concurrently in parallel validation mode, so it should be thread-safe in that case.
+ */
+@FunctionalInterface
+public interface FailureSink {
+
+    /**
+     * Accepts a failed condition found by validation.
+     * Implementation may block to apply backpressure on the validation.
+     *
+     * @param failedCondition - failed condition item
+     */
+    void accept(FailedCondition failedCondition);
+
+    /**
+     * Notifies the sink that validation is finished and no more failed conditions will be pushed.
+     */
+    default void complete() {
+        //No op.
+    }
+
+    /**
+     * Notifies the sink that validation failed with an error and no more failed conditions will be pushed.
+     * Sink is not completed in that case.
+     *
+     * @param error - error of validation
+     */
+    default void fail(Throwable error) {
+        //No op.
+    }
+}
@@ -0,0 +1,48 @@
+package com.scait.data.validator;
+
+import com.scait.data.validator.impl.Expectation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated failures of a single expectation.
+ */
+public interface FailureSummary {
+
+    /**
+     * Gets expectation that failed.
+     *
+     * @return - expectation; null for failed conditions of unknown expectation
+     */
+    Expectation<?, ?> getExpectation();
+
+    /**
+     * Gets name of the expectation that failed.
+     *
+     * @return - name of the expectation; null in case it is unknown or not named
+     */
+    String getExpectationName();
+
+    /**
+     * Gets count of failed conditions of the expectation.
+     *
+     * @return - exact count of failed conditions
+     */
+    long getFailureCount();
+
+    /**
+     * Gets the most frequent actual values of failed conditions with their counts, most frequent first.
+     * Counts are upper bounds: a value that replaced a less frequent one inherits its count.
+     *
+     * @return - top actual values with counts
+     */
+    Map<Object, Long> getTopActualValues();
+
+    /**
+     * Gets uniform random sample of failed conditions of the expectation.
+     *
+     * @return - sample of failed conditions
+     */
+    List<FailedCondition> getSample();
+}
@@ -0,0 +1,34 @@
+package com.scait.data.validator;
+
+/**
+ * Validation that accepts items one by one instead of pre-built streams.
+ * Instance is not thread-safe: items should be offered from a single thread.
+ *
+ * @param <T> - Type of entity to be validated
+ */
+public interface IncrementalValidation<T> {
+
+    /**
+     * Validates an item against all expectations of the validator.
+     *
+     * @param item - verification item
+     * @return - true in case validation accepts more items; false in case failure budget is reached
+     */
+    boolean offer(T item);
+
+    /**
+     * Validates all items of an iterable against all expectations of the validator.
+     * Stops as soon as failure budget is reached.
+     *
+     * @param items - verification items
+     * @return - true in case validation accepts more items; false in case failure budget is reached
+     */
+    boolean offerAll(Iterable<? extends T> items);
+
+    /**
+     * Finishes validation, completes the failure sink and gets the validation result.
+     *
+     * @return - verification validation result
+     */
+    ValidationResult finish();
+}
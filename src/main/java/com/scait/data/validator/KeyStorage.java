@@ -0,0 +1,17 @@
+package com.scait.data.validator;
+
+/**
+ * Storage of key sets of cross item expectations.
+ */
+public enum KeyStorage {
+
+    /**
+     * Case when keys are kept in primitive arrays on the Java heap.
+     */
+    HEAP,
+    /**
+     * Case when keys are kept in direct memory out of the Java heap, for key sets too large for the heap.
+     * Direct memory is limited by the -XX:MaxDirectMemorySize option of the JVM.
+     */
+    OFF_HEAP
+}
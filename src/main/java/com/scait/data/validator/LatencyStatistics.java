@@ -0,0 +1,39 @@
+package com.scait.data.validator;
+
+import java.time.Duration;
+
+/**
+ * Latency distribution of evaluations of a single expectation.
+ */
+public interface LatencyStatistics {
+
+    /**
+     * Gets name of the expectation.
+     *
+     * @return - name of the expectation
+     */
+    String getExpectationName();
+
+    /**
+     * Gets count of recorded evaluations.
+     *
+     * @return - count of evaluations
+     */
+    long getCount();
+
+    /**
+     * Gets latency of the given percentile of evaluations.
+     * Latency is an upper bound of a logarithmic bucket, so its relative error is within 12.5%.
+     *
+     * @param percentile - percentile from 0 to 100
+     * @return - latency of the percentile
+     */
+    Duration getPercentile(double percentile);
+
+    /**
+     * Gets max latency of evaluations.
+     *
+     * @return - max latency
+     */
+    Duration getMax();
+}
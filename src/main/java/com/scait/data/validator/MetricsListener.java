@@ -0,0 +1,15 @@
+package com.scait.data.validator;
+
+/**
+ * Listener of verification metrics.
+ */
+@FunctionalInterface
+public interface MetricsListener {
+
+    /**
+     * Handles a snapshot of verification metrics.
+     *
+     * @param metrics - metrics of the verification
+     */
+    void onMetrics(ValidationMetrics metrics);
+}
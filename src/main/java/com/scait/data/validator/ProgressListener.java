@@ -0,0 +1,17 @@
+package com.scait.data.validator;
+
+/**
+ * Listener of validation progress.
+ * Called periodically while validation runs and once when it is finished.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * Receives current progress of the validation.
+     *
+     * @param processedItems   - count of items processed so far
+     * @param failedConditions - count of failed conditions found so far
+     */
+    void onProgress(long processedItems, long failedConditions);
+}
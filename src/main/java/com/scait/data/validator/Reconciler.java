@@ -0,0 +1,85 @@
+package com.scait.data.validator;
+
+import com.scait.data.validator.impl.Expectation;
+import com.scait.data.validator.impl.MatchedPair;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Interface that helps to reconcile two data sets in one place: a left (source) data set
+ * and a right (target) data set are joined by item id, expectations are verified on matched pairs,
+ * and items without a pair are reported as failed conditions of "missing on left" and "missing on right"
+ * expectations. Failed condition of an item missing on right has the left item as expected value
+ * and null actual value; failed condition of an item missing on left has null expected value
+ * and the right item as actual value.
+ *
+ * @param <T> - Type of entity to be reconciled
+ * @param <K> - Type of item id
+ */
+public interface Reconciler<T, K> {
+
+    /**
+     * Accepts stream of left (source) data.
+     *
+     * @param data - stream of left data
+     * @return - reconciler instance
+     */
+    Reconciler<T, K> acceptLeft(Stream<T> data);
+
+    /**
+     * Accepts stream of right (target) data.
+     *
+     * @param data - stream of right data
+     * @return - reconciler instance
+     */
+    Reconciler<T, K> acceptRight(Stream<T> data);
+
+    /**
+     * Sets an entity item id the data sets are joined by.
+     * Using entity self object by default.
+     *
+     * @param idProvider - id provider function
+     * @return - reconciler instance
+     */
+    Reconciler<T, K> setItemId(Function<T, K> idProvider);
+
+    /**
+     * Adds verification expectation of matched pairs.
+     *
+     * @param expectation - expectation for verification
+     * @return - reconciler instance
+     */
+    Reconciler<T, K> expect(Expectation<MatchedPair<T>, ?> expectation);
+
+    /**
+     * Declares that both data sets are sorted by item id, so they are merge joined
+     * while reading, without keeping either data set in memory.
+     * Reconciliation fails with {@link IllegalStateException} as soon as ids of either data set go backwards.
+     *
+     * @param idComparator - comparator of item ids both data sets are sorted by
+     * @return - reconciler instance
+     */
+    Reconciler<T, K> sorted(Comparator<? super K> idComparator);
+
+    /**
+     * Spills both data sets to partition files of a local directory before they are joined,
+     * so only a single partition of the left data set is kept in memory at a time.
+     * Items should be {@link java.io.Serializable}. Files are deleted once reconciliation is finished.
+     *
+     * @param directory  - directory of partition files
+     * @param partitions - count of partitions, should be positive
+     * @return - reconciler instance
+     */
+    Reconciler<T, K> spillTo(Path directory, int partitions);
+
+    /**
+     * Starts reconciliation of all accepted data.
+     * Left data set is hash joined with the right one, unless the data sets are sorted.
+     *
+     * @return - reconciliation validation result
+     */
+    ValidationResult reconcile();
+}
@@ -0,0 +1,77 @@
+package com.scait.data.validator;
+
+/**
+ * Flyweight view of a record of a file source: fields are read straight from the file buffer.
+ * The same view instance is moved from record to record, so it should not be kept beyond an evaluation:
+ * item id should be taken from the view, e.g. {@link #getOffset()}, or the record should be materialized.
+ * Validators materialize views that are kept on their own: item ids of failed conditions that are views
+ * and records handed to other threads by virtual thread validation.
+ * Numeric fields of text records are parsed from ASCII decimals, numeric fields of binary records
+ * are read as two's complement integers of 1, 2, 4 or 8 bytes and IEEE floating point numbers of 4 or 8 bytes.
+ */
+public interface RecordView {
+
+    /**
+     * Gets offset of the record in the file, which identifies the record.
+     *
+     * @return - offset of the first byte of the record
+     */
+    long getOffset();
+
+    /**
+     * Gets count of fields of the record.
+     *
+     * @return - count of fields
+     */
+    int getFieldCount();
+
+    /**
+     * Gets length of the field in bytes, without quotes of delimited fields and padding of fixed width text fields.
+     *
+     * @param field - index of the field
+     * @return - length of the field
+     */
+    int getFieldLength(int field);
+
+    /**
+     * Reads the field as a long value without allocation.
+     *
+     * @param field - index of the field
+     * @return - value of the field
+     * @throws NumberFormatException - in case the field is not an integer number
+     */
+    long getLong(int field);
+
+    /**
+     * Reads the field as a double value, without allocation for plain decimals.
+     *
+     * @param field - index of the field
+     * @return - value of the field
+     * @throws NumberFormatException - in case the field is not a number
+     */
+    double getDouble(int field);
+
+    /**
+     * Compares the field with a value without allocation for ASCII values.
+     *
+     * @param field - index of the field
+     * @param value - value to compare with
+     * @return - true in case the field has the same characters as the value
+     */
+    boolean contentEquals(int field, CharSequence value);
+
+    /**
+     * Decodes the field to a string. Allocates, so it suits failed conditions rather than every record.
+     *
+     * @param field - index of the field
+     * @return - value of the field
+     */
+    String getString(int field);
+
+    /**
+     * Copies the record out of the file buffer, so it can be kept, e.g. as an item id of a failed condition.
+     *
+     * @return - immutable view of a copy of the record
+     */
+    RecordView materialize();
+}
@@ -0,0 +1,13 @@
+package com.scait.data.validator;
+
+/**
+ * Validation result that can be reused by many validations of a single thread,
+ * so a high rate of small validations does not allocate a result per validation.
+ */
+public interface ResettableValidationResult extends ValidationResult {
+
+    /**
+     * Clears failed conditions, truncation and expectation statistics, keeping allocated capacity.
+     */
+    void reset();
+}
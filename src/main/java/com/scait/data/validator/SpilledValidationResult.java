@@ -0,0 +1,41 @@
+package com.scait.data.validator;
+
+import java.util.function.Consumer;
+
+/**
+ * Validation result that keeps a bounded count of failed conditions in memory and spills the rest
+ * to temporary files, so a validation with more failures than the heap can hold still produces a result.
+ * Failed conditions are kept in the order they were added; equal failed conditions are not merged.
+ * {@link #getFailedConditions()} and {@link #getFailedItemIds()} read all failures back to memory,
+ * prefer {@link #forEachFailedCondition(Consumer)} and {@link #getFailedConditions(Object)} for large results.
+ * Result should be closed to delete its temporary files.
+ */
+public interface SpilledValidationResult extends ValidationResult, AutoCloseable {
+
+    /**
+     * Passes every failed condition to the action, reading spilled failed conditions one at a time.
+     *
+     * @param action - action to perform on failed conditions
+     */
+    void forEachFailedCondition(Consumer<? super FailedCondition> action);
+
+    /**
+     * Gets total count of failed conditions, which may exceed {@link #getFailureCount()} of large results.
+     *
+     * @return - count of failed conditions
+     */
+    long getTotalFailureCount();
+
+    /**
+     * Gets count of failed conditions that are spilled to temporary files.
+     *
+     * @return - count of spilled failed conditions
+     */
+    long getSpilledCount();
+
+    /**
+     * Deletes temporary files of the result. Failed conditions are not available after the result is closed.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,53 @@
+package com.scait.data.validator;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Snapshot of metrics of an instrumented verification.
+ */
+public interface ValidationMetrics {
+
+    /**
+     * Gets time elapsed since the verification started.
+     *
+     * @return - elapsed time
+     */
+    Duration getElapsedTime();
+
+    /**
+     * Gets count of items processed so far.
+     *
+     * @return - count of processed items
+     */
+    long getProcessedItems();
+
+    /**
+     * Gets throughput of the verification.
+     *
+     * @return - processed items per second
+     */
+    double getItemsPerSecond();
+
+    /**
+     * Gets count of parallel tasks that are submitted but not finished yet.
+     *
+     * @return - count of pending tasks; 0 for sequential verification
+     */
+    int getQueueDepth();
+
+    /**
+     * Gets approximate count of bytes allocated by the JVM per processed item since the verification started.
+     * Allocations of other threads of the JVM are included.
+     *
+     * @return - allocated bytes per item; -1 in case the JVM does not measure thread allocations
+     */
+    long getAllocatedBytesPerItem();
+
+    /**
+     * Gets latency distribution of every expectation, in the order the expectations were added.
+     *
+     * @return - List of LatencyStatistics
+     */
+    List<LatencyStatistics> getExpectationLatencies();
+}
@@ -0,0 +1,95 @@
+package com.scait.data.validator;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Immutable validation plan compiled from a {@link Validator}: expectations, item id provider and run settings.
+ * Plan is thread-safe and reusable: every validation is a separate run with its own result,
+ * so a single plan can validate many payloads from many threads.
+ * Later changes of the validator do not affect the plan.
+ * Batch validation suits tiny payloads validated at a high rate: items are verified sequentially
+ * on the calling thread in declaration order of expectations, without expectation statistics,
+ * progress or metrics reporting, and a batch that passes does not allocate. Plans with cross item expectations
+ * validate a batch in a regular run.
+ *
+ * @param <T> - Type of entity to be validated
+ */
+public interface ValidationPlan<T> {
+
+    /**
+     * Validates a stream of data in a new run of the plan.
+     *
+     * @param data - stream of data for verification
+     * @return - verification validation result
+     */
+    ValidationResult validate(Stream<T> data);
+
+    /**
+     * Validates items in a new run of the plan.
+     * Items are verified sequentially on the calling thread, which suits small payloads.
+     *
+     * @param items - verification items
+     * @return - verification validation result
+     */
+    ValidationResult validate(Iterable<? extends T> items);
+
+    /**
+     * Validates a stream of data in a new run of the plan and pushes failed conditions
+     * to the sink as soon as they are found.
+     *
+     * @param data        - stream of data for verification
+     * @param failureSink - sink of failed conditions
+     * @return - verification validation result
+     */
+    ValidationResult validate(Stream<T> data, FailureSink failureSink);
+
+    /**
+     * Opens incremental verification of items that are offered one by one in a new run of the plan.
+     *
+     * @return - incremental validation
+     */
+    IncrementalValidation<T> open();
+
+    /**
+     * Opens incremental verification of items that are offered one by one in a new run of the plan
+     * and pushes failed conditions to the sink as soon as they are found.
+     *
+     * @param failureSink - sink of failed conditions
+     * @return - incremental validation
+     */
+    IncrementalValidation<T> open(FailureSink failureSink);
+
+    /**
+     * Validates a batch of items in a new run of the plan.
+     *
+     * @param items - verification items
+     * @return - verification validation result; shared immutable successful result in case all items pass
+     */
+    ValidationResult validateBatch(List<? extends T> items);
+
+    /**
+     * Validates a batch of items in a new run of the plan.
+     *
+     * @param items - verification items
+     * @return - verification validation result; shared immutable successful result in case all items pass
+     */
+    ValidationResult validateBatch(T[] items);
+
+    /**
+     * Validates a batch of items in a new run of the plan and records failed conditions to a reused result,
+     * which is reset first.
+     *
+     * @param items            - verification items
+     * @param validationResult - result to reuse, see {@link #newBatchResult()}
+     * @return - the given validation result
+     */
+    ResettableValidationResult validateBatch(List<? extends T> items, ResettableValidationResult validationResult);
+
+    /**
+     * Creates an empty result that can be reused by batch validations of a single thread.
+     *
+     * @return - resettable validation result
+     */
+    ResettableValidationResult newBatchResult();
+}
@@ -1,5 +1,6 @@
 package com.scait.data.validator;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -21,6 +22,19 @@ public interface ValidationResult {
      */
     boolean isFailed();
 
+    /**
+     * Defines whether validation was stopped before all items were verified,
+     * e.g. because a failure budget of the validator was reached.
+     *
+     * @return - true in case the result does not cover all items and expectations
+     */
+    boolean isTruncated();
+
+    /**
+     * Marks the validation result as truncated.
+     */
+    void markTruncated();
+
     /**
      * Adds failed condition to the validation result.
      *
@@ -42,4 +56,34 @@ public interface ValidationResult {
      * @return - Set of FailedCondition
      */
     Set<FailedCondition> getFailedConditions();
+
+    /**
+     * Gets ids of all items that have at least one failed condition.
+     * Returned set is an unmodifiable view backed by the result index, so no copy is made.
+     *
+     * @return - Set of failed item ids
+     */
+    Set<Object> getFailedItemIds();
+
+    /**
+     * Gets total count of failed conditions of all items.
+     *
+     * @return - count of failed conditions
+     */
+    int getFailureCount();
+
+    /**
+     * Gets statistics of every expectation of the validation, in the order the expectations were added.
+     * Statistics are live: they are updated while validation is in progress.
+     *
+     * @return - List of ExpectationStatistics
+     */
+    List<ExpectationStatistics> getExpectationStatistics();
+
+    /**
+     * Sets statistics of expectations of the validation.
+     *
+     * @param expectationStatistics - statistics of expectations
+     */
+    void setExpectationStatistics(List<ExpectationStatistics> expectationStatistics);
 }
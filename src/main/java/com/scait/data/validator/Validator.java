@@ -1,8 +1,15 @@
 package com.scait.data.validator;
 
+import com.scait.data.validator.impl.CrossItemExpectation;
 import com.scait.data.validator.impl.Expectation;
+import com.scait.data.validator.impl.FingerprintStore;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -38,6 +45,15 @@ public interface Validator<T> {
      */
     Validator<T> expect(Expectation<T, ?> expectation);
 
+    /**
+     * Adds verification expectation that relates items of a run to each other, e.g. unique keys.
+     * The expectation is evaluated within validation runs only, see {@link CrossItemExpectation}.
+     *
+     * @param expectation - cross item expectation for verification
+     * @return - verifier instance
+     */
+    Validator<T> expect(CrossItemExpectation<T, ?, ?> expectation);
+
     /**
      * Sets data verification parallel mode enabled.
      *
@@ -45,10 +61,193 @@ public interface Validator<T> {
      */
     Validator<T> parallel();
 
+    /**
+     * Sets data verification parallel mode enabled with a parallelism.
+     * Verification runs on a dedicated pool of the parallelism size unless an executor is set.
+     * The pool is created once per compiled plan and shared by its runs, see {@link #compile()}.
+     *
+     * @param parallelism - count of parallel workers, should be positive
+     * @return - verifier instance
+     */
+    Validator<T> parallel(int parallelism);
+
+    /**
+     * Sets data verification parallel mode enabled on an executor instead of the common pool.
+     *
+     * @param executor - executor of parallel verification, e.g. a fork join pool
+     * @return - verifier instance
+     */
+    Validator<T> parallel(Executor executor);
+
+    /**
+     * Sets failed conditions of parallel verification to be reported in encounter order of items,
+     * so parallel and sequential verification produce identical results.
+     *
+     * @return - verifier instance
+     */
+    Validator<T> ordered();
+
+    /**
+     * Sets virtual thread verification mode enabled: every item is verified on its own virtual thread.
+     * Suits expectations with blocking lookups; takes precedence over parallel mode.
+     * Requires Java 21 or later.
+     *
+     * @param maxConcurrency - max count of items verified at the same time, should be positive
+     * @return - verifier instance
+     * @throws UnsupportedOperationException - in case virtual threads are not supported by the running JVM
+     */
+    Validator<T> virtualThreads(int maxConcurrency);
+
+    /**
+     * Sets fail fast mode: validation stops on the first failed condition.
+     * Same as {@code maxFailures(1)}.
+     *
+     * @return - verifier instance
+     */
+    Validator<T> failFast();
+
+    /**
+     * Sets a failure budget of the validation.
+     * Validation stops as soon as the count of failed conditions reaches the budget
+     * and the validation result is marked as truncated.
+     *
+     * @param maxFailures - max count of failed conditions, should be positive
+     * @return - verifier instance
+     */
+    Validator<T> maxFailures(int maxFailures);
+
+    /**
+     * Sets a failure budget of a single item.
+     * Remaining expectations of the item are skipped as soon as the count of its failed conditions
+     * reaches the budget and the validation result is marked as truncated.
+     * Cross item expectations still see the item, so aggregates and key sets stay complete,
+     * but their failed conditions of the item beyond the budget are not recorded.
+     *
+     * @param maxFailuresPerItem - max count of failed conditions per item, should be positive
+     * @return - verifier instance
+     */
+    Validator<T> maxFailuresPerItem(int maxFailuresPerItem);
+
+    /**
+     * Reorders evaluation of expectations during verification by their measured cost and failure rate,
+     * so cheap expectations that fail often are evaluated first. Pays off together with a per item failure cap
+     * and expectation dependencies, as an item skips the rest of expectations sooner.
+     * Failed conditions of an item follow the evaluation order.
+     *
+     * @return - verifier instance
+     */
+    Validator<T> adaptiveOrder();
+
+    /**
+     * Skips items that are unchanged since the previous run of the store and carries their failed conditions
+     * forward, so a snapshot with few changed items is verified at the cost of fingerprinting.
+     * Items are matched by item id; an item is unchanged when its fingerprint is the same,
+     * so the fingerprint should cover every field the expectations read.
+     * Store is replaced by the outcomes of the run once the run is completed, and may be saved between runs.
+     * Store keeps names of expectations of the run in order; a store of other names, count or order of expectations
+     * is ignored and every item is verified, so expectations should be named to tell changed rules apart.
+     * Statistics of expectations count verified items only. Cannot be used with cross item expectations.
+     *
+     * @param fingerprint - fingerprint of the content of an item, e.g. 64-bit hash of its fields
+     * @param store       - store of fingerprints and outcomes of the previous run
+     * @return - verifier instance
+     */
+    Validator<T> skipUnchanged(ToLongFunction<? super T> fingerprint, FingerprintStore store);
+
+    /**
+     * Sets a listener of verification progress.
+     * Progress is read from striped counters of the verification on a timer and reported
+     * periodically and once when verification is finished.
+     *
+     * @param listener - listener of verification progress
+     * @param period   - period of progress reports, should be positive
+     * @return - verifier instance
+     */
+    Validator<T> onProgress(ProgressListener listener, Duration period);
+
+    /**
+     * Instruments verification: items throughput, latency distribution of every expectation,
+     * queue depth of parallel verification and allocation per item.
+     * Metrics are reported periodically and once when verification is finished.
+     * Verification that is not instrumented does not record latencies.
+     *
+     * @param listener - listener of verification metrics
+     * @param period   - period of metrics reports, should be positive
+     * @return - verifier instance
+     */
+    Validator<T> instrument(MetricsListener listener, Duration period);
+
     /**
      * Starts verification of all accepted data and creates a validation result.
      *
      * @return - verification validation result
      */
     ValidationResult validate();
+
+    /**
+     * Starts verification of all accepted data and pushes failed conditions to the sink as soon as they are found.
+     * Failed conditions are not retained by the validation result, so memory use is bounded by the sink.
+     *
+     * @param failureSink - sink of failed conditions
+     * @return - verification validation result that keeps failure count only
+     */
+    ValidationResult validate(FailureSink failureSink);
+
+    /**
+     * Starts verification of all accepted data and aggregates failed conditions per expectation:
+     * counts, top actual values and a bounded random sample of failed conditions.
+     * Memory use of the result does not depend on the count of failures.
+     *
+     * @param topValues  - count of the most frequent actual values to keep per expectation
+     * @param sampleSize - size of the sample of failed conditions per expectation
+     * @return - aggregated verification validation result
+     */
+    AggregatedValidationResult validateAggregated(int topValues, int sampleSize);
+
+    /**
+     * Starts verification of all accepted data and keeps at most a budget of failed conditions in memory;
+     * the rest are spilled to temporary files of the directory, see {@link SpilledValidationResult}.
+     * Result should be closed to delete the files.
+     *
+     * @param directory    - directory to create temporary files in
+     * @param memoryBudget - max count of failed conditions kept in memory
+     * @return - verification validation result backed by temporary files
+     */
+    SpilledValidationResult validateSpilling(Path directory, int memoryBudget);
+
+    /**
+     * Starts verification of all accepted data on an executor.
+     * Cancellation of the returned future stops verification on the next item or expectation.
+     *
+     * @param executor - executor of verification; parallel modes still use their own workers
+     * @return - future of verification validation result
+     */
+    CompletableFuture<ValidationResult> validateAsync(Executor executor);
+
+    /**
+     * Compiles expectations, item id provider and settings of the validator into an immutable plan,
+     * which validates data of many runs, possibly concurrent, without rebuilding the expectations.
+     * Accepted streams are not part of the plan.
+     *
+     * @return - compiled validation plan
+     */
+    ValidationPlan<T> compile();
+
+    /**
+     * Opens incremental verification of items that are offered one by one.
+     * Items are verified sequentially; accepted streams are not verified.
+     *
+     * @return - incremental validation
+     */
+    IncrementalValidation<T> open();
+
+    /**
+     * Opens incremental verification of items that are offered one by one and pushes failed conditions
+     * to the sink as soon as they are found.
+     * Items are verified sequentially; accepted streams are not verified.
+     *
+     * @param failureSink - sink of failed conditions
+     * @return - incremental validation
+     */
+    IncrementalValidation<T> open(FailureSink failureSink);
 }
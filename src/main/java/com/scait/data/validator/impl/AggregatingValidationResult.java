@@ -0,0 +1,134 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.AggregatedValidationResult;
+import com.scait.data.validator.ExpectationStatistics;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.FailureSummary;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link AggregatedValidationResult} class.
+ * Aggregates failed conditions per expectation, so memory use is O(expectations * (top values + sample size))
+ * regardless of the count of failures. Safe for parallel validation: aggregates of different expectations
+ * are updated independently.
+ */
+class AggregatingValidationResult implements AggregatedValidationResult {
+
+    /**
+     * Aggregate key of failed conditions of unknown expectation, as concurrent map does not permit null keys.
+     */
+    private static final Object UNKNOWN_EXPECTATION = new Object();
+
+    private final int topValues;
+    private final int sampleSize;
+    private final Map<Object, FailureAggregate> aggregates = new ConcurrentHashMap<>();
+    private final List<FailureSummary> summaries = new CopyOnWriteArrayList<>();
+    private final LongAdder failureCount = new LongAdder();
+    private volatile boolean truncated;
+    private volatile List<ExpectationStatistics> expectationStatistics = List.of();
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param topValues  - count of top actual values to keep per expectation
+     * @param sampleSize - size of the sample of failed conditions per expectation
+     */
+    AggregatingValidationResult(int topValues, int sampleSize) {
+        this.topValues = topValues;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return failureCount.sum() == 0;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return !isSuccessful();
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public void markTruncated() {
+        truncated = true;
+    }
+
+    @Override
+    public void addFailedCondition(FailedCondition failedCondition) {
+        final var expectation = failedCondition instanceof FailedRecord
+                ? ((FailedRecord<?, ?>) failedCondition).getExpectation() : null;
+        aggregates
+                .computeIfAbsent(expectation == null ? UNKNOWN_EXPECTATION : expectation, (Object key) -> {
+                    final var aggregate = new FailureAggregate(expectation, topValues, sampleSize);
+                    summaries.add(aggregate);
+                    return aggregate;
+                })
+                .add(failedCondition);
+        failureCount.increment();
+    }
+
+    @Override
+    public List<FailureSummary> getFailureSummaries() {
+        return List.copyOf(summaries);
+    }
+
+    @Override
+    public Set<FailedCondition> getFailedConditions(Object itemId) {
+        return summaries.stream()
+                .flatMap((FailureSummary summary) -> summary.getSample().stream())
+                .filter((FailedCondition condition) -> Objects.equals(itemId, condition.getItemId()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public Set<FailedCondition> getFailedConditions() {
+        return summaries.stream()
+                .flatMap((FailureSummary summary) -> summary.getSample().stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public Set<Object> getFailedItemIds() {
+        return summaries.stream()
+                .flatMap((FailureSummary summary) -> summary.getSample().stream())
+                .map(FailedCondition::getItemId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public int getFailureCount() {
+        return failureCount.intValue();
+    }
+
+    @Override
+    public List<ExpectationStatistics> getExpectationStatistics() {
+        return expectationStatistics;
+    }
+
+    @Override
+    public void setExpectationStatistics(List<ExpectationStatistics> expectationStatistics) {
+        this.expectationStatistics = expectationStatistics;
+    }
+
+    @Override
+    public String toString() {
+        return "AggregatingValidationResult{" +
+                "failureSummaries=" + summaries +
+                ", truncated=" + truncated +
+                '}';
+    }
+}
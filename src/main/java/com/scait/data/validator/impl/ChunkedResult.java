@@ -0,0 +1,21 @@
+package com.scait.data.validator.impl;
+
+/**
+ * Validation result that collects failed conditions of parallel chunks separately,
+ * so the encounter order of failed conditions can be restored when chunks are merged.
+ */
+interface ChunkedResult {
+
+    /**
+     * Starts collecting failed conditions of a chunk on the current thread.
+     * Chunks are ordered by keys lexicographically.
+     *
+     * @param orderKey - order key of the chunk in the encounter order of items
+     */
+    void beginChunk(int[] orderKey);
+
+    /**
+     * Finishes collecting failed conditions of the current chunk on the current thread.
+     */
+    void endChunk();
+}
@@ -0,0 +1,483 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Bounds;
+import com.scait.data.validator.Difference;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Expectation on a column of primitive values for columnar validation.
+ * Every check is compiled into an inclusive range of justified values, optionally inverted for
+ * {@link Difference#NOT_EQUAL}, and the column is evaluated by a branch free loop that packs outcomes of 64 rows
+ * into a word of the failure bitmap. Heap columns are read from their arrays, direct buffers by absolute gets.
+ * Values of double columns are compared by their ordered keys, see {@link #keyOf(double)}, so a check orders them
+ * as {@link Double#compare(double, double)} does, the same as {@link DoubleExpectation}.
+ */
+public abstract class ColumnExpectation {
+
+    private static final long[] EMPTY_RANGE = {1, 0};
+
+    private final int rowCount;
+    private final boolean inverted;
+    private String name;
+
+    private ColumnExpectation(int rowCount, boolean inverted) {
+        this.rowCount = rowCount;
+        this.inverted = inverted;
+    }
+
+    /**
+     * Names the expectation, so its failed conditions and statistics can be told apart.
+     *
+     * @param name - name of the expectation
+     * @return - the expectation
+     */
+    public ColumnExpectation named(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Gets name of the expectation.
+     *
+     * @return - name of the expectation; null in case it is not named
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets count of rows of the column.
+     *
+     * @return - count of rows
+     */
+    int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Defines whether values in the range are failures rather than justified values.
+     *
+     * @return - true for {@link Difference#NOT_EQUAL}
+     */
+    boolean isInverted() {
+        return inverted;
+    }
+
+    /**
+     * Evaluates rows of a range of bitmap words: bit of a row is set in case the row fails the expectation.
+     *
+     * @param bitmap   - failure bitmap of the column
+     * @param fromWord - first word to evaluate
+     * @param toWord   - word after the last word to evaluate
+     */
+    abstract void evaluate(long[] bitmap, int fromWord, int toWord);
+
+    /**
+     * Gets value of a row for a failed condition.
+     *
+     * @param row - index of the row
+     * @return - boxed value of the row
+     */
+    abstract Object getActualValue(int row);
+
+    /**
+     * Gets expected value of a failed row: the expected value, or the bound that is violated.
+     *
+     * @param row - index of the row
+     * @return - boxed expected value
+     */
+    abstract Object getExpectedValue(int row);
+
+    /**
+     * Constructs new expectation on an int column.
+     *
+     * @param column        - values of the column
+     * @param difference    - expected difference of values and the expected value
+     * @param expectedValue - expected value
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation of(int[] column, Difference difference, int expectedValue) {
+        return of(IntBuffer.wrap(column), difference, expectedValue);
+    }
+
+    /**
+     * Constructs new expectation on an int column.
+     *
+     * @param column        - values of the column from its position to its limit
+     * @param difference    - expected difference of values and the expected value
+     * @param expectedValue - expected value
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation of(IntBuffer column, Difference difference, int expectedValue) {
+        final var range = range(difference, expectedValue, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return new IntColumn(column, range, difference == Difference.NOT_EQUAL, expectedValue, expectedValue);
+    }
+
+    /**
+     * Constructs new range expectation on an int column.
+     *
+     * @param column     - values of the column
+     * @param lowerValue - lower bound
+     * @param upperValue - upper bound
+     * @param bounds     - whether bounds are included
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation between(int[] column, int lowerValue, int upperValue, Bounds bounds) {
+        return between(IntBuffer.wrap(column), lowerValue, upperValue, bounds);
+    }
+
+    /**
+     * Constructs new range expectation on an int column.
+     *
+     * @param column     - values of the column from its position to its limit
+     * @param lowerValue - lower bound
+     * @param upperValue - upper bound
+     * @param bounds     - whether bounds are included
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation between(IntBuffer column, int lowerValue, int upperValue, Bounds bounds) {
+        final var range = intersection(
+                range(bounds.getLowerDifference(), lowerValue, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                range(bounds.getUpperDifference(), upperValue, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        return new IntColumn(column, range, false, lowerValue, upperValue);
+    }
+
+    /**
+     * Constructs new expectation on a long column.
+     *
+     * @param column        - values of the column
+     * @param difference    - expected difference of values and the expected value
+     * @param expectedValue - expected value
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation of(long[] column, Difference difference, long expectedValue) {
+        return of(LongBuffer.wrap(column), difference, expectedValue);
+    }
+
+    /**
+     * Constructs new expectation on a long column.
+     *
+     * @param column        - values of the column from its position to its limit
+     * @param difference    - expected difference of values and the expected value
+     * @param expectedValue - expected value
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation of(LongBuffer column, Difference difference, long expectedValue) {
+        final var range = range(difference, expectedValue, Long.MIN_VALUE, Long.MAX_VALUE);
+        return new LongColumn(column, range, difference == Difference.NOT_EQUAL, expectedValue, expectedValue);
+    }
+
+    /**
+     * Constructs new range expectation on a long column.
+     *
+     * @param column     - values of the column
+     * @param lowerValue - lower bound
+     * @param upperValue - upper bound
+     * @param bounds     - whether bounds are included
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation between(long[] column, long lowerValue, long upperValue, Bounds bounds) {
+        return between(LongBuffer.wrap(column), lowerValue, upperValue, bounds);
+    }
+
+    /**
+     * Constructs new range expectation on a long column.
+     *
+     * @param column     - values of the column from its position to its limit
+     * @param lowerValue - lower bound
+     * @param upperValue - upper bound
+     * @param bounds     - whether bounds are included
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation between(LongBuffer column, long lowerValue, long upperValue, Bounds bounds) {
+        final var range = intersection(
+                range(bounds.getLowerDifference(), lowerValue, Long.MIN_VALUE, Long.MAX_VALUE),
+                range(bounds.getUpperDifference(), upperValue, Long.MIN_VALUE, Long.MAX_VALUE));
+        return new LongColumn(column, range, false, lowerValue, upperValue);
+    }
+
+    /**
+     * Constructs new expectation on a double column.
+     *
+     * @param column        - values of the column
+     * @param difference    - expected difference of values and the expected value
+     * @param expectedValue - expected value
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation of(double[] column, Difference difference, double expectedValue) {
+        return of(DoubleBuffer.wrap(column), difference, expectedValue);
+    }
+
+    /**
+     * Constructs new expectation on a double column.
+     *
+     * @param column        - values of the column from its position to its limit
+     * @param difference    - expected difference of values and the expected value
+     * @param expectedValue - expected value
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation of(DoubleBuffer column, Difference difference, double expectedValue) {
+        final var range = range(difference, keyOf(expectedValue), Long.MIN_VALUE, Long.MAX_VALUE);
+        return new DoubleColumn(column, range, difference == Difference.NOT_EQUAL, expectedValue, expectedValue);
+    }
+
+    /**
+     * Constructs new range expectation on a double column.
+     *
+     * @param column     - values of the column
+     * @param lowerValue - lower bound
+     * @param upperValue - upper bound
+     * @param bounds     - whether bounds are included
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation between(double[] column, double lowerValue, double upperValue, Bounds bounds) {
+        return between(DoubleBuffer.wrap(column), lowerValue, upperValue, bounds);
+    }
+
+    /**
+     * Constructs new range expectation on a double column.
+     *
+     * @param column     - values of the column from its position to its limit
+     * @param lowerValue - lower bound
+     * @param upperValue - upper bound
+     * @param bounds     - whether bounds are included
+     * @return - constructed expectation
+     */
+    public static ColumnExpectation between(DoubleBuffer column, double lowerValue, double upperValue,
+                                            Bounds bounds) {
+        final var range = intersection(
+                range(bounds.getLowerDifference(), keyOf(lowerValue), Long.MIN_VALUE, Long.MAX_VALUE),
+                range(bounds.getUpperDifference(), keyOf(upperValue), Long.MIN_VALUE, Long.MAX_VALUE));
+        return new DoubleColumn(column, range, false, lowerValue, upperValue);
+    }
+
+    /**
+     * Gets inclusive range of integer values in [min, max] that match a difference with an expected value.
+     *
+     * @return - lower and upper bound; lower bound is greater than upper bound for an empty range
+     */
+    private static long[] range(Difference difference, long expectedValue, long min, long max) {
+        switch (difference) {
+            case LESS:
+                return expectedValue == min ? EMPTY_RANGE : new long[]{min, expectedValue - 1};
+            case LESS_OR_EQUAL:
+                return new long[]{min, expectedValue};
+            case EQUAL:
+            case NOT_EQUAL:
+                return new long[]{expectedValue, expectedValue};
+            case GREATER_OR_EQUAL:
+                return new long[]{expectedValue, max};
+            case GREATER:
+                return expectedValue == max ? EMPTY_RANGE : new long[]{expectedValue + 1, max};
+            default:
+                throw new IllegalArgumentException("Unsupported difference: " + difference);
+        }
+    }
+
+    /**
+     * Gets ordered key of a double value: keys of values compare as {@link Double#compare(double, double)} compares
+     * the values, so -0.0 is less than 0.0 and NaN is greater than positive infinity.
+     * Bits of negative values but the sign are flipped, so their order is reversed.
+     *
+     * @param value - double value
+     * @return - ordered key of the value
+     */
+    private static long keyOf(double value) {
+        final var bits = Double.doubleToLongBits(value);
+        return bits ^ (bits >> 63 & Long.MAX_VALUE);
+    }
+
+    private static long[] intersection(long[] first, long[] second) {
+        final long[] range = {Math.max(first[0], second[0]), Math.min(first[1], second[1])};
+        return range[0] > range[1] ? EMPTY_RANGE : range;
+    }
+
+    /**
+     * Gets count of rows of a bitmap word.
+     */
+    private static int rowsOf(int word, int rowCount) {
+        return Math.min(Long.SIZE, rowCount - (word << 6));
+    }
+
+    /**
+     * Expectation on a column of int values.
+     */
+    private static final class IntColumn extends ColumnExpectation {
+
+        private final IntBuffer buffer;
+        private final int[] array;
+        private final int arrayOffset;
+        private final int lower;
+        private final int upper;
+        private final int expectedLower;
+        private final int expectedUpper;
+
+        private IntColumn(IntBuffer column, long[] range, boolean inverted, int expectedLower, int expectedUpper) {
+            super(column.remaining(), inverted);
+            this.buffer = column.slice();
+            this.array = buffer.hasArray() ? buffer.array() : null;
+            this.arrayOffset = buffer.hasArray() ? buffer.arrayOffset() : 0;
+            this.lower = (int) range[0];
+            this.upper = (int) range[1];
+            this.expectedLower = expectedLower;
+            this.expectedUpper = expectedUpper;
+        }
+
+        @Override
+        void evaluate(long[] bitmap, int fromWord, int toWord) {
+            final var inverted = isInverted();
+            final var rowCount = getRowCount();
+            for (var word = fromWord; word < toWord; word++) {
+                final var base = word << 6;
+                final var rows = rowsOf(word, rowCount);
+                var bits = 0L;
+                if (array != null) {
+                    final var start = arrayOffset + base;
+                    for (var bit = 0; bit < rows; bit++) {
+                        final var value = array[start + bit];
+                        bits |= ((value < lower | value > upper) ^ inverted ? 1L : 0L) << bit;
+                    }
+                } else {
+                    for (var bit = 0; bit < rows; bit++) {
+                        final var value = buffer.get(base + bit);
+                        bits |= ((value < lower | value > upper) ^ inverted ? 1L : 0L) << bit;
+                    }
+                }
+                bitmap[word] = bits;
+            }
+        }
+
+        @Override
+        Object getActualValue(int row) {
+            return buffer.get(row);
+        }
+
+        @Override
+        Object getExpectedValue(int row) {
+            return buffer.get(row) < lower ? expectedLower : expectedUpper;
+        }
+    }
+
+    /**
+     * Expectation on a column of long values.
+     */
+    private static final class LongColumn extends ColumnExpectation {
+
+        private final LongBuffer buffer;
+        private final long[] array;
+        private final int arrayOffset;
+        private final long lower;
+        private final long upper;
+        private final long expectedLower;
+        private final long expectedUpper;
+
+        private LongColumn(LongBuffer column, long[] range, boolean inverted, long expectedLower,
+                           long expectedUpper) {
+            super(column.remaining(), inverted);
+            this.buffer = column.slice();
+            this.array = buffer.hasArray() ? buffer.array() : null;
+            this.arrayOffset = buffer.hasArray() ? buffer.arrayOffset() : 0;
+            this.lower = range[0];
+            this.upper = range[1];
+            this.expectedLower = expectedLower;
+            this.expectedUpper = expectedUpper;
+        }
+
+        @Override
+        void evaluate(long[] bitmap, int fromWord, int toWord) {
+            final var inverted = isInverted();
+            final var rowCount = getRowCount();
+            for (var word = fromWord; word < toWord; word++) {
+                final var base = word << 6;
+                final var rows = rowsOf(word, rowCount);
+                var bits = 0L;
+                if (array != null) {
+                    final var start = arrayOffset + base;
+                    for (var bit = 0; bit < rows; bit++) {
+                        final var value = array[start + bit];
+                        bits |= ((value < lower | value > upper) ^ inverted ? 1L : 0L) << bit;
+                    }
+                } else {
+                    for (var bit = 0; bit < rows; bit++) {
+                        final var value = buffer.get(base + bit);
+                        bits |= ((value < lower | value > upper) ^ inverted ? 1L : 0L) << bit;
+                    }
+                }
+                bitmap[word] = bits;
+            }
+        }
+
+        @Override
+        Object getActualValue(int row) {
+            return buffer.get(row);
+        }
+
+        @Override
+        Object getExpectedValue(int row) {
+            return buffer.get(row) < lower ? expectedLower : expectedUpper;
+        }
+    }
+
+    /**
+     * Expectation on a column of double values.
+     */
+    private static final class DoubleColumn extends ColumnExpectation {
+
+        private final DoubleBuffer buffer;
+        private final double[] array;
+        private final int arrayOffset;
+        private final long lower;
+        private final long upper;
+        private final double expectedLower;
+        private final double expectedUpper;
+
+        private DoubleColumn(DoubleBuffer column, long[] range, boolean inverted, double expectedLower,
+                             double expectedUpper) {
+            super(column.remaining(), inverted);
+            this.buffer = column.slice();
+            this.array = buffer.hasArray() ? buffer.array() : null;
+            this.arrayOffset = buffer.hasArray() ? buffer.arrayOffset() : 0;
+            this.lower = range[0];
+            this.upper = range[1];
+            this.expectedLower = expectedLower;
+            this.expectedUpper = expectedUpper;
+        }
+
+        @Override
+        void evaluate(long[] bitmap, int fromWord, int toWord) {
+            final var inverted = isInverted();
+            final var rowCount = getRowCount();
+            for (var word = fromWord; word < toWord; word++) {
+                final var base = word << 6;
+                final var rows = rowsOf(word, rowCount);
+                var bits = 0L;
+                if (array != null) {
+                    final var start = arrayOffset + base;
+                    for (var bit = 0; bit < rows; bit++) {
+                        final var key = keyOf(array[start + bit]);
+                        bits |= ((key < lower | key > upper) ^ inverted ? 1L : 0L) << bit;
+                    }
+                } else {
+                    for (var bit = 0; bit < rows; bit++) {
+                        final var key = keyOf(buffer.get(base + bit));
+                        bits |= ((key < lower | key > upper) ^ inverted ? 1L : 0L) << bit;
+                    }
+                }
+                bitmap[word] = bits;
+            }
+        }
+
+        @Override
+        Object getActualValue(int row) {
+            return buffer.get(row);
+        }
+
+        @Override
+        Object getExpectedValue(int row) {
+            return keyOf(buffer.get(row)) < lower ? expectedLower : expectedUpper;
+        }
+    }
+}
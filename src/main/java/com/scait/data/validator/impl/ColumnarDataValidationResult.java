@@ -0,0 +1,160 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ColumnarValidationResult;
+import com.scait.data.validator.ExpectationStatistics;
+import com.scait.data.validator.FailedCondition;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of {@link ColumnarValidationResult} class.
+ * Keeps a failure bitmap per expectation; failed conditions are joined with the id column once,
+ * in row order, on the first read or update of failed conditions.
+ */
+class ColumnarDataValidationResult implements ColumnarValidationResult {
+
+    private final ColumnExpectation[] columns;
+    private final long[][] bitmaps;
+    private final long[] ids;
+    private final int rowCount;
+    private final long bitmapFailureCount;
+    private volatile boolean truncated;
+    private volatile List<ExpectationStatistics> expectationStatistics = List.of();
+    private DataValidationResult failedConditions;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param columns  - evaluated expectations
+     * @param bitmaps  - failure bitmaps of the expectations
+     * @param ids      - ids of rows; null to use row indices
+     * @param rowCount - count of rows
+     */
+    ColumnarDataValidationResult(ColumnExpectation[] columns, long[][] bitmaps, long[] ids, int rowCount) {
+        this.columns = columns;
+        this.bitmaps = bitmaps;
+        this.ids = ids;
+        this.rowCount = rowCount;
+        var failureCount = 0L;
+        for (long[] bitmap : bitmaps) {
+            for (long word : bitmap) {
+                failureCount += Long.bitCount(word);
+            }
+        }
+        this.bitmapFailureCount = failureCount;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public BitSet getFailureBitmap(int expectation) {
+        return BitSet.valueOf(bitmaps[expectation]);
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return getFailureCount() == 0;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return !isSuccessful();
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public void markTruncated() {
+        truncated = true;
+    }
+
+    @Override
+    public synchronized void addFailedCondition(FailedCondition failedCondition) {
+        failedConditions().addFailedCondition(failedCondition);
+    }
+
+    @Override
+    public synchronized Set<FailedCondition> getFailedConditions(Object itemId) {
+        return failedConditions().getFailedConditions(itemId);
+    }
+
+    @Override
+    public synchronized Set<FailedCondition> getFailedConditions() {
+        return failedConditions().getFailedConditions();
+    }
+
+    @Override
+    public synchronized Set<Object> getFailedItemIds() {
+        return failedConditions().getFailedItemIds();
+    }
+
+    @Override
+    public synchronized int getFailureCount() {
+        if (failedConditions == null) {
+            return (int) Math.min(Integer.MAX_VALUE, bitmapFailureCount);
+        }
+        return failedConditions.getFailureCount();
+    }
+
+    @Override
+    public List<ExpectationStatistics> getExpectationStatistics() {
+        return expectationStatistics;
+    }
+
+    @Override
+    public void setExpectationStatistics(List<ExpectationStatistics> expectationStatistics) {
+        this.expectationStatistics = expectationStatistics;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarValidationResult{" +
+                "rowCount=" + rowCount +
+                ", failureCount=" + getFailureCount() +
+                ", truncated=" + truncated +
+                '}';
+    }
+
+    /**
+     * Joins failure bitmaps with the id column, row by row.
+     */
+    private DataValidationResult failedConditions() {
+        if (failedConditions != null) {
+            return failedConditions;
+        }
+        final var joined = new DataValidationResult();
+        final var words = rowCount == 0 ? 0 : bitmaps.length == 0 ? 0 : bitmaps[0].length;
+        for (var word = 0; word < words; word++) {
+            var failedRows = 0L;
+            for (long[] bitmap : bitmaps) {
+                failedRows |= bitmap[word];
+            }
+            while (failedRows != 0) {
+                final var bit = Long.numberOfTrailingZeros(failedRows);
+                failedRows &= failedRows - 1;
+                final var row = (word << 6) + bit;
+                final Object itemId = ids != null ? ids[row] : (long) row;
+                for (var index = 0; index < columns.length; index++) {
+                    if ((bitmaps[index][word] & (1L << bit)) != 0) {
+                        joined.addFailedCondition(new FailedRecord<>(
+                                itemId,
+                                columns[index].getExpectedValue(row),
+                                columns[index].getActualValue(row),
+                                columns[index].getName()
+                        ));
+                    }
+                }
+            }
+        }
+        failedConditions = joined;
+        return joined;
+    }
+}
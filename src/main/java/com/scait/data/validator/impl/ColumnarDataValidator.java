@@ -0,0 +1,98 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ColumnarValidationResult;
+import com.scait.data.validator.ColumnarValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of {@link ColumnarValidator} class.
+ * Rows are split into ranges of bitmap words; every range is evaluated column by column,
+ * so a column is streamed through the cache once per range and parallel tasks never share a bitmap word.
+ */
+public class ColumnarDataValidator implements ColumnarValidator {
+
+    /**
+     * Count of bitmap words of a range of rows, 2^20 rows.
+     */
+    private static final int WORDS_PER_RANGE = 1 << 14;
+
+    private final List<ColumnExpectation> expectations = new ArrayList<>();
+    private long[] ids;
+    private boolean parallel;
+
+    /**
+     * Default constructor.
+     */
+    public ColumnarDataValidator() {
+        //No op.
+    }
+
+    @Override
+    public ColumnarValidator setItemIds(long[] ids) {
+        this.ids = Objects.requireNonNull(ids, "ids");
+        return this;
+    }
+
+    @Override
+    public ColumnarValidator expect(ColumnExpectation expectation) {
+        expectations.add(Objects.requireNonNull(expectation, "expectation"));
+        return this;
+    }
+
+    @Override
+    public ColumnarValidator parallel() {
+        parallel = true;
+        return this;
+    }
+
+    @Override
+    public ColumnarValidationResult validate() {
+        final var columns = expectations.toArray(new ColumnExpectation[0]);
+        final var rowCount = rowCountOf(columns);
+        final var words = (rowCount + Long.SIZE - 1) / Long.SIZE;
+        final var bitmaps = new long[columns.length][words];
+        final var counters = new ExpectationCounter[columns.length];
+        for (var index = 0; index < columns.length; index++) {
+            final var name = columns[index].getName();
+            counters[index] = new ExpectationCounter(name != null ? name : "expectation-" + (index + 1));
+        }
+        final var ranges = (words + WORDS_PER_RANGE - 1) / WORDS_PER_RANGE;
+        final var rangeStream = IntStream.range(0, ranges);
+        (parallel ? rangeStream.parallel() : rangeStream).forEach((int range) -> evaluate(columns, bitmaps, counters,
+                range * WORDS_PER_RANGE, Math.min(words, (range + 1) * WORDS_PER_RANGE), rowCount));
+        final var validationResult = new ColumnarDataValidationResult(columns, bitmaps, ids, rowCount);
+        validationResult.setExpectationStatistics(List.of(counters));
+        return validationResult;
+    }
+
+    private static void evaluate(ColumnExpectation[] columns, long[][] bitmaps, ExpectationCounter[] counters,
+                                 int fromWord, int toWord, int rowCount) {
+        final var rows = Math.min(rowCount, toWord * Long.SIZE) - fromWord * Long.SIZE;
+        for (var index = 0; index < columns.length; index++) {
+            final var bitmap = bitmaps[index];
+            final var start = System.nanoTime();
+            columns[index].evaluate(bitmap, fromWord, toWord);
+            final var nanos = System.nanoTime() - start;
+            var failed = 0L;
+            for (var word = fromWord; word < toWord; word++) {
+                failed += Long.bitCount(bitmap[word]);
+            }
+            counters[index].record(rows, failed, nanos);
+        }
+    }
+
+    private int rowCountOf(ColumnExpectation[] columns) {
+        final var rowCount = ids != null ? ids.length : columns.length > 0 ? columns[0].getRowCount() : 0;
+        for (ColumnExpectation column : columns) {
+            if (column.getRowCount() != rowCount) {
+                throw new IllegalArgumentException("Column of " + column.getRowCount() + " rows, expected "
+                        + rowCount + " rows");
+            }
+        }
+        return rowCount;
+    }
+}
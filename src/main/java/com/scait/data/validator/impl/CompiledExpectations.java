@@ -0,0 +1,186 @@
+package com.scait.data.validator.impl;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable table of expectations of a compiled validation plan.
+ * Expectations are flattened into an array with indices of their prerequisites and names of their counters,
+ * so runs of the plan share the table and allocate only their own counters and run states.
+ *
+ * @param <T> - type of entity for validation
+ */
+class CompiledExpectations<T> {
+
+    private final Expectation<T, ?>[] expectations;
+    private final String[] names;
+    private final int[][] prerequisites;
+    private final int[] declarationOrder;
+    private final boolean crossItem;
+    private final boolean runScoped;
+    private final ThreadLocal<long[]> unmetExpectations;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param expectations - expectations in declaration order, prerequisites go before dependent expectations
+     */
+    @SuppressWarnings("unchecked")
+    CompiledExpectations(List<Expectation<T, ?>> expectations) {
+        this.expectations = (Expectation<T, ?>[]) expectations.toArray(new Expectation<?, ?>[0]);
+        this.names = new String[this.expectations.length];
+        this.prerequisites = new int[this.expectations.length][];
+        this.declarationOrder = new int[this.expectations.length];
+        final Map<Expectation<?, ?>, Integer> indices = new IdentityHashMap<>();
+        var dependent = false;
+        var crossItem = false;
+        var runScoped = false;
+        for (var index = 0; index < this.expectations.length; index++) {
+            final var expectation = this.expectations[index];
+            final var name = expectation.getName();
+            names[index] = name != null ? name : "expectation-" + (index + 1);
+            prerequisites[index] = expectation.getPrerequisites().stream()
+                    .mapToInt((Expectation<T, ?> prerequisite) -> indices.get(prerequisite))
+                    .toArray();
+            dependent |= prerequisites[index].length > 0;
+            crossItem |= expectation.isCrossItem();
+            runScoped |= expectation.isRunScoped();
+            declarationOrder[index] = index;
+            indices.put(expectation, index);
+        }
+        this.crossItem = crossItem;
+        this.runScoped = runScoped;
+        this.unmetExpectations = dependent
+                ? ThreadLocal.withInitial(() -> new long[(this.expectations.length + Long.SIZE - 1) / Long.SIZE])
+                : null;
+    }
+
+    /**
+     * Gets count of expectations.
+     *
+     * @return - count of expectations
+     */
+    int size() {
+        return expectations.length;
+    }
+
+    /**
+     * Gets expectation by index.
+     *
+     * @param index - index of the expectation
+     * @return - expectation
+     */
+    Expectation<T, ?> get(int index) {
+        return expectations[index];
+    }
+
+    /**
+     * Gets name of expectation statistics by index.
+     *
+     * @param index - index of the expectation
+     * @return - name of the expectation, or a name by its position in case it is not named
+     */
+    String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets signature of the expectations: names of expectations in declaration order, one per expectation,
+     * so any change of names, count or order of expectations changes the signature.
+     *
+     * @return - names of expectations
+     */
+    List<String> getSignature() {
+        return List.of(names);
+    }
+
+    /**
+     * Gets indices of prerequisites of the expectation.
+     *
+     * @param index - index of the expectation
+     * @return - indices of prerequisites; the array should not be modified
+     */
+    int[] getPrerequisites(int index) {
+        return prerequisites[index];
+    }
+
+    /**
+     * Gets indices of expectations in declaration order.
+     *
+     * @return - expectation indices; the array should not be modified
+     */
+    int[] getDeclarationOrder() {
+        return declarationOrder;
+    }
+
+    /**
+     * Defines whether any expectation keeps state across items of a run, see {@link CrossItemExpectation}.
+     *
+     * @return - true in case runs should create run states of expectations
+     */
+    boolean isCrossItem() {
+        return crossItem;
+    }
+
+    /**
+     * Defines whether any expectation has values computed once per run, see {@link ExpectedValues#perRun}.
+     *
+     * @return - true in case runs should create run states of expectations
+     */
+    boolean isRunScoped() {
+        return runScoped;
+    }
+
+    /**
+     * Defines whether the expectation keeps state across items of a run, see {@link CrossItemExpectation}.
+     *
+     * @param index - index of the expectation
+     * @return - true in case the expectation should see every item of the run
+     */
+    boolean isCrossItem(int index) {
+        return expectations[index].isCrossItem();
+    }
+
+    /**
+     * Gets cleared bit set of unmet expectations of the current thread, to track an item.
+     * The bit set is shared by all runs of the plan on the thread, as a thread validates one item at a time.
+     *
+     * @return - bit set of failed or skipped expectations; null in case expectations have no prerequisites
+     */
+    long[] unmetExpectations() {
+        if (unmetExpectations == null) {
+            return null;
+        }
+        final var unmet = unmetExpectations.get();
+        Arrays.fill(unmet, 0);
+        return unmet;
+    }
+
+    /**
+     * Defines whether any prerequisite of the expectation is unmet.
+     *
+     * @param index - index of the expectation
+     * @param unmet - bit set of unmet expectations of the item
+     * @return - true in case the expectation should be skipped
+     */
+    boolean isBlocked(int index, long[] unmet) {
+        for (int prerequisite : prerequisites[index]) {
+            if ((unmet[prerequisite / Long.SIZE] & (1L << prerequisite)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks the expectation unmet by the item.
+     *
+     * @param index - index of the expectation
+     * @param unmet - bit set of unmet expectations of the item
+     */
+    static void markUnmet(int index, long[] unmet) {
+        unmet[index / Long.SIZE] |= 1L << index;
+    }
+}
@@ -1,32 +1,63 @@
 package com.scait.data.validator.impl;
 
+import com.scait.data.validator.ExpectationStatistics;
 import com.scait.data.validator.FailedCondition;
 import com.scait.data.validator.ValidationResult;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Concurrent implementation of {@link ValidationResult} class.
+ * Failed conditions are accumulated in per-thread (or per-chunk) buffers without contention between threads,
+ * and merged into the item id index once, when the result is read.
+ * Ordered result restores the encounter order of failed conditions by order keys of parallel chunks,
+ * so it is the same as the order of sequential validation.
  */
-class ConcurrentDataValidationResult implements ValidationResult {
+class ConcurrentDataValidationResult implements ValidationResult, ChunkedResult {
 
-    private final Collection<FailedCondition> failedConditions = new ConcurrentLinkedQueue<>();
+    private static final Comparator<FailureBuffer> ENCOUNTER_ORDER =
+            (FailureBuffer first, FailureBuffer second) -> Arrays.compare(first.getOrderKey(), second.getOrderKey());
+
+    private final boolean ordered;
+    private final Collection<FailureBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<FailureBuffer> threadBuffer = new ThreadLocal<>();
+    private final LongAdder failureCount = new LongAdder();
+    private final Set<FailedCondition> failedConditions = new LinkedHashSet<>();
+    private final Map<Object, Set<FailedCondition>> failedConditionsByItem = new LinkedHashMap<>();
+    private volatile boolean truncated;
+    private volatile List<ExpectationStatistics> expectationStatistics = List.of();
+    private long mergedCount;
 
     /**
      * Default constructor.
      */
     ConcurrentDataValidationResult() {
-        //No op.
+        this(false);
+    }
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param ordered - whether encounter order of failed conditions should be restored
+     */
+    ConcurrentDataValidationResult(boolean ordered) {
+        this.ordered = ordered;
     }
 
     @Override
     public boolean isSuccessful() {
-        return failedConditions.isEmpty();
+        return failureCount.sum() == 0;
     }
 
     @Override
@@ -34,28 +65,123 @@ class ConcurrentDataValidationResult implements ValidationResult {
         return !isSuccessful();
     }
 
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public void markTruncated() {
+        truncated = true;
+    }
+
+    @Override
+    public void beginChunk(int[] orderKey) {
+        if (ordered) {
+            threadBuffer.set(new FailureBuffer(orderKey));
+        }
+    }
+
+    @Override
+    public void endChunk() {
+        threadBuffer.remove();
+    }
+
     @Override
     public void addFailedCondition(FailedCondition failedCondition) {
-        failedConditions.add(failedCondition);
+        var buffer = threadBuffer.get();
+        if (buffer == null) {
+            buffer = new FailureBuffer(null);
+            threadBuffer.set(buffer);
+        }
+        if (buffer.register()) {
+            buffers.add(buffer);
+        }
+        buffer.add(failedCondition);
+        failureCount.increment();
     }
 
     @Override
-    public Set<FailedCondition> getFailedConditions(Object itemId) {
-        return failedConditions
-                .stream()
-                .filter((FailedCondition condition) -> Objects.equals(itemId, condition.getItemId()))
-                .collect(Collectors.toSet());
+    public synchronized Set<FailedCondition> getFailedConditions(Object itemId) {
+        merge();
+        final var itemConditions = failedConditionsByItem.get(itemId);
+        if (itemConditions == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(itemConditions);
     }
 
     @Override
-    public Set<FailedCondition> getFailedConditions() {
+    public synchronized Set<FailedCondition> getFailedConditions() {
+        merge();
         return new LinkedHashSet<>(failedConditions);
     }
 
     @Override
-    public String toString() {
+    public synchronized Set<Object> getFailedItemIds() {
+        merge();
+        return Collections.unmodifiableSet(failedConditionsByItem.keySet());
+    }
+
+    @Override
+    public int getFailureCount() {
+        return failureCount.intValue();
+    }
+
+    @Override
+    public List<ExpectationStatistics> getExpectationStatistics() {
+        return expectationStatistics;
+    }
+
+    @Override
+    public void setExpectationStatistics(List<ExpectationStatistics> expectationStatistics) {
+        this.expectationStatistics = expectationStatistics;
+    }
+
+    @Override
+    public synchronized String toString() {
+        merge();
         return "ConcurrentValidationResult{" +
                 "failedConditions=" + failedConditions +
+                ", truncated=" + truncated +
                 '}';
     }
+
+    /**
+     * Merges buffered failed conditions into the item id index.
+     * Ordered chunks go first in encounter order, buffers without order follow in the order they were registered,
+     * e.g. failed conditions of cross item expectations evaluated once all chunks are validated.
+     * Called at the end of parallel validation and before every read, in case there are new failed conditions.
+     * Buffer without order of the current thread is released, failed conditions added after the merge go to a new one.
+     */
+    synchronized void merge() {
+        final var buffer = threadBuffer.get();
+        if (buffer != null && buffer.getOrderKey() == null) {
+            threadBuffer.remove();
+        }
+        if (mergedCount == failureCount.sum()) {
+            return;
+        }
+        final List<FailureBuffer> orderedBuffers = new ArrayList<>();
+        final List<FailureBuffer> unorderedBuffers = new ArrayList<>();
+        for (FailureBuffer registeredBuffer : buffers) {
+            (registeredBuffer.getOrderKey() == null ? unorderedBuffers : orderedBuffers).add(registeredBuffer);
+        }
+        orderedBuffers.sort(ENCOUNTER_ORDER);
+        for (FailureBuffer orderedBuffer : orderedBuffers) {
+            orderedBuffer.drainTo(this::index);
+        }
+        for (FailureBuffer unorderedBuffer : unorderedBuffers) {
+            unorderedBuffer.drainTo(this::index);
+        }
+    }
+
+    private void index(FailedCondition failedCondition) {
+        mergedCount++;
+        if (failedConditions.add(failedCondition)) {
+            failedConditionsByItem
+                    .computeIfAbsent(failedCondition.getItemId(), (Object itemId) -> new LinkedHashSet<>())
+                    .add(failedCondition);
+        }
+    }
 }
@@ -0,0 +1,396 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Difference;
+import com.scait.data.validator.KeyStorage;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+/**
+ * Expectation that relates items of a validation run to each other: unique keys, references to a key set
+ * and aggregates of all items. State of the expectation is created per validation run and is shared by parallel
+ * workers, so a cross item expectation works the same in sequential and parallel validation modes.
+ * A cross item expectation is not an {@link Expectation}: it can not be evaluated on a single item,
+ * so it is added by {@link com.scait.data.validator.Validator#expect(CrossItemExpectation)} and evaluated
+ * by the validator only.
+ *
+ * @param <T> - Type of entity on validation
+ * @param <R> - Type of entity value for validation
+ * @param <S> - Type of state of a validation run
+ */
+public abstract class CrossItemExpectation<T, R, S> {
+
+    private static final int DEFAULT_EXPECTED_KEYS = 1 << 10;
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final Expectation<T, R> runExpectation = new RunExpectation<>(this);
+    private String name;
+
+    /**
+     * Default constructor.
+     */
+    CrossItemExpectation() {
+        //No op.
+    }
+
+    /**
+     * Names the expectation, so its failed conditions and statistics can be told apart.
+     *
+     * @param name - name of the expectation
+     * @return - the expectation
+     */
+    public CrossItemExpectation<T, R, S> named(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Gets name of the expectation.
+     *
+     * @return - name of the expectation; null in case it is not named
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the expectation as an expectation of a validation run, which a validator compiles into its plan.
+     *
+     * @return - expectation of a validation run
+     */
+    Expectation<T, R> asRunExpectation() {
+        return runExpectation;
+    }
+
+    /**
+     * Creates state of the expectation for a new validation run.
+     *
+     * @return - thread-safe run state
+     */
+    abstract S newState();
+
+    /**
+     * Evaluates an expectation on verification item and updates the run state.
+     *
+     * @param item  - verification item
+     * @param state - run state
+     * @return - outcome of the evaluation
+     */
+    abstract ExpectationOutcome<R> evaluateItem(T item, S state);
+
+    /**
+     * Evaluates an expectation once all items of a validation run are evaluated.
+     *
+     * @param state - run state
+     * @return - outcome of the evaluation
+     */
+    ExpectationOutcome<R> complete(S state) {
+        return ExpectationOutcome.justified();
+    }
+
+    /**
+     * Constructs new expectation that every item has a unique primitive key, kept in a primitive key set.
+     * Expected value of a failed condition is null, actual value is the duplicate key.
+     *
+     * @param keyProvider - key provider
+     * @param <T>         - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> CrossItemExpectation<T, Long, ?> uniqueLong(ToLongFunction<T> keyProvider) {
+        return uniqueLong(keyProvider, DEFAULT_EXPECTED_KEYS, KeyStorage.HEAP);
+    }
+
+    /**
+     * Constructs new expectation that every item has a unique primitive key, kept in a primitive key set.
+     * Expected value of a failed condition is null, actual value is the duplicate key.
+     *
+     * @param keyProvider  - key provider
+     * @param expectedKeys - expected count of keys, to size the key set
+     * @param keyStorage   - storage of the key set
+     * @param <T>          - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> CrossItemExpectation<T, Long, ?> uniqueLong(ToLongFunction<T> keyProvider, int expectedKeys,
+                                                                 KeyStorage keyStorage) {
+        return new UniqueLongKey<>(keyProvider, expectedKeys, keyStorage == KeyStorage.OFF_HEAP);
+    }
+
+    /**
+     * Constructs new expectation that every item has a unique key.
+     * Keys should implement equals and hashCode.
+     * Expected value of a failed condition is null, actual value is the duplicate key.
+     *
+     * @param keyProvider - key provider
+     * @param <T>         - Type of entity on verification
+     * @param <K>         - Type of key
+     * @return - constructed expectation
+     */
+    public static <T, K> CrossItemExpectation<T, K, ?> unique(Function<T, K> keyProvider) {
+        return new UniqueKey<>(keyProvider);
+    }
+
+    /**
+     * Constructs new expectation that every item references a key of a key set, e.g. an existing customer id.
+     * Expected value of a failed condition is null, actual value is the missing key.
+     *
+     * @param keyProvider    - provider of the referenced key
+     * @param referencedKeys - supplier of the key set; called once per validation run
+     * @param <T>            - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> CrossItemExpectation<T, Long, ?> references(ToLongFunction<T> keyProvider,
+                                                                 Supplier<LongStream> referencedKeys) {
+        return references(keyProvider, referencedKeys, KeyStorage.HEAP, false);
+    }
+
+    /**
+     * Constructs new expectation that every item references a key of a key set, e.g. an existing customer id.
+     * Bloom filter prefilter rejects most missing keys without probing the key set, which pays off
+     * for large key sets, especially off heap, when many references are missing.
+     * Expected value of a failed condition is null, actual value is the missing key.
+     *
+     * @param keyProvider    - provider of the referenced key
+     * @param referencedKeys - supplier of the key set; called once per validation run
+     * @param keyStorage     - storage of the key set
+     * @param bloomPrefilter - whether keys should be checked by a Bloom filter first
+     * @param <T>            - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> CrossItemExpectation<T, Long, ?> references(ToLongFunction<T> keyProvider,
+                                                                 Supplier<LongStream> referencedKeys,
+                                                                 KeyStorage keyStorage, boolean bloomPrefilter) {
+        return new ReferencedKey<>(keyProvider, referencedKeys, keyStorage == KeyStorage.OFF_HEAP, bloomPrefilter);
+    }
+
+    /**
+     * Constructs new expectation that the sum of amounts of all items equals the control total.
+     * Failed condition has null item id, expected value is the control total and actual value is the sum.
+     *
+     * @param amountProvider - amount provider
+     * @param expectedTotal  - control total
+     * @param <T>            - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> CrossItemExpectation<T, Long, ?> sum(ToLongFunction<T> amountProvider, long expectedTotal) {
+        return sum(amountProvider, expectedTotal, Difference.EQUAL);
+    }
+
+    /**
+     * Constructs new expectation on the sum of amounts of all items.
+     * Failed condition has null item id, expected value is the control total and actual value is the sum.
+     *
+     * @param amountProvider - amount provider
+     * @param expectedTotal  - control total
+     * @param difference     - expected difference of the sum and the control total
+     * @param <T>            - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> CrossItemExpectation<T, Long, ?> sum(ToLongFunction<T> amountProvider, long expectedTotal,
+                                                          Difference difference) {
+        return new Sum<>(amountProvider, expectedTotal, difference);
+    }
+
+    /**
+     * Cross item expectation as an expectation of a validation run: keeps its state in the run state
+     * and is evaluated within a run only.
+     *
+     * @param <T> - Type of entity on validation
+     * @param <R> - Type of entity value for validation
+     * @param <S> - Type of state of a validation run
+     */
+    private static final class RunExpectation<T, R, S> extends Expectation<T, R> {
+
+        private final CrossItemExpectation<T, R, S> expectation;
+
+        private RunExpectation(CrossItemExpectation<T, R, S> expectation) {
+            super((T item) -> null, (T item) -> null, null, Difference.EQUAL);
+            this.expectation = expectation;
+        }
+
+        @Override
+        public String getName() {
+            return expectation.getName();
+        }
+
+        @Override
+        public ExpectationOutcome<R> evaluate(T item) {
+            throw new UnsupportedOperationException("Cross item expectation is evaluated within a validation run only");
+        }
+
+        @Override
+        boolean isCrossItem() {
+            return true;
+        }
+
+        @Override
+        Object newRunState() {
+            return expectation.newState();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        ExpectationOutcome<R> evaluate(T item, Object runState) {
+            return expectation.evaluateItem(item, (S) runState);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        ExpectationOutcome<R> completeRun(Object runState) {
+            return expectation.complete((S) runState);
+        }
+    }
+
+    /**
+     * Expectation of unique primitive keys kept in a striped primitive set.
+     *
+     * @param <T> - Type of entity on validation
+     */
+    private static final class UniqueLongKey<T> extends CrossItemExpectation<T, Long, StripedLongSet> {
+
+        private final ToLongFunction<T> keyProvider;
+        private final int expectedKeys;
+        private final boolean offHeap;
+
+        private UniqueLongKey(ToLongFunction<T> keyProvider, int expectedKeys, boolean offHeap) {
+            this.keyProvider = keyProvider;
+            this.expectedKeys = expectedKeys;
+            this.offHeap = offHeap;
+        }
+
+        @Override
+        StripedLongSet newState() {
+            return new StripedLongSet(expectedKeys, offHeap);
+        }
+
+        @Override
+        ExpectationOutcome<Long> evaluateItem(T item, StripedLongSet keys) {
+            final var key = keyProvider.applyAsLong(item);
+            return keys.add(key) ? ExpectationOutcome.justified() : ExpectationOutcome.failed(null, key);
+        }
+    }
+
+    /**
+     * Expectation of unique object keys kept in a concurrent set.
+     *
+     * @param <T> - Type of entity on validation
+     * @param <K> - Type of key
+     */
+    private static final class UniqueKey<T, K> extends CrossItemExpectation<T, K, Set<K>> {
+
+        private final Function<T, K> keyProvider;
+
+        private UniqueKey(Function<T, K> keyProvider) {
+            this.keyProvider = keyProvider;
+        }
+
+        @Override
+        Set<K> newState() {
+            return ConcurrentHashMap.newKeySet();
+        }
+
+        @Override
+        ExpectationOutcome<K> evaluateItem(T item, Set<K> keys) {
+            final var key = keyProvider.apply(item);
+            return keys.add(key) ? ExpectationOutcome.justified() : ExpectationOutcome.failed(null, key);
+        }
+    }
+
+    /**
+     * Expectation of references to a key set that is loaded once per run and is read-only afterwards.
+     *
+     * @param <T> - Type of entity on validation
+     */
+    private static final class ReferencedKey<T> extends CrossItemExpectation<T, Long, ReferencedKeys> {
+
+        private final ToLongFunction<T> keyProvider;
+        private final Supplier<LongStream> referencedKeys;
+        private final boolean offHeap;
+        private final boolean bloomPrefilter;
+
+        private ReferencedKey(ToLongFunction<T> keyProvider, Supplier<LongStream> referencedKeys, boolean offHeap,
+                              boolean bloomPrefilter) {
+            this.keyProvider = keyProvider;
+            this.referencedKeys = Objects.requireNonNull(referencedKeys, "referencedKeys");
+            this.offHeap = offHeap;
+            this.bloomPrefilter = bloomPrefilter;
+        }
+
+        @Override
+        ReferencedKeys newState() {
+            final var keys = new LongHashSet(DEFAULT_EXPECTED_KEYS, offHeap);
+            try (var stream = referencedKeys.get()) {
+                stream.forEach(keys::add);
+            }
+            LongBloomFilter filter = null;
+            if (bloomPrefilter) {
+                filter = new LongBloomFilter(keys.size(), BLOOM_FALSE_POSITIVE_RATE);
+                keys.forEach(filter::put);
+            }
+            return new ReferencedKeys(keys, filter);
+        }
+
+        @Override
+        ExpectationOutcome<Long> evaluateItem(T item, ReferencedKeys state) {
+            final var key = keyProvider.applyAsLong(item);
+            final var found = (state.filter == null || state.filter.mightContain(key)) && state.keys.contains(key);
+            return found ? ExpectationOutcome.justified() : ExpectationOutcome.failed(null, key);
+        }
+    }
+
+    /**
+     * Read-only key set of a run with an optional Bloom filter.
+     */
+    private static final class ReferencedKeys {
+
+        private final LongHashSet keys;
+        private final LongBloomFilter filter;
+
+        private ReferencedKeys(LongHashSet keys, LongBloomFilter filter) {
+            this.keys = keys;
+            this.filter = filter;
+        }
+    }
+
+    /**
+     * Expectation of the sum of amounts. Parallel workers add to striped cells of the sum,
+     * which are merged once all items are evaluated.
+     *
+     * @param <T> - Type of entity on validation
+     */
+    private static final class Sum<T> extends CrossItemExpectation<T, Long, LongAdder> {
+
+        private final ToLongFunction<T> amountProvider;
+        private final long expectedTotal;
+        private final Difference difference;
+
+        private Sum(ToLongFunction<T> amountProvider, long expectedTotal, Difference difference) {
+            this.amountProvider = amountProvider;
+            this.expectedTotal = expectedTotal;
+            this.difference = difference;
+        }
+
+        @Override
+        LongAdder newState() {
+            return new LongAdder();
+        }
+
+        @Override
+        ExpectationOutcome<Long> evaluateItem(T item, LongAdder total) {
+            total.add(amountProvider.applyAsLong(item));
+            return ExpectationOutcome.justified();
+        }
+
+        @Override
+        ExpectationOutcome<Long> complete(LongAdder total) {
+            final var actualTotal = total.sum();
+            return difference.test(Long.compare(actualTotal, expectedTotal)) ? ExpectationOutcome.justified()
+                    : ExpectationOutcome.failed(expectedTotal, actualTotal);
+        }
+    }
+}
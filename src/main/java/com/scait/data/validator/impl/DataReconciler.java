@@ -0,0 +1,257 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.IncrementalValidation;
+import com.scait.data.validator.Reconciler;
+import com.scait.data.validator.ValidationResult;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link Reconciler} class.
+ * Matched pairs are verified by an incremental validation of a {@link DataValidator};
+ * unmatched items are added to the same validation result.
+ *
+ * @param <T> - Type of entity to be reconciled
+ * @param <K> - Type of item id
+ */
+public class DataReconciler<T, K> implements Reconciler<T, K> {
+
+    /**
+     * Expectation of failed conditions of right items without a left pair.
+     */
+    static final Expectation<Object, Object> MISSING_ON_LEFT =
+            Expectation.of((Object item) -> item, (Object item) -> null).named("missing on left");
+
+    /**
+     * Expectation of failed conditions of left items without a right pair.
+     */
+    static final Expectation<Object, Object> MISSING_ON_RIGHT =
+            Expectation.of((Object item) -> item, (Object item) -> null).named("missing on right");
+
+    private final List<Stream<T>> leftData = new LinkedList<>();
+    private final List<Stream<T>> rightData = new LinkedList<>();
+    private final DataValidator<MatchedPair<T>> pairValidator = new DataValidator<>();
+    @SuppressWarnings("unchecked")
+    private Function<T, K> idProvider = (T item) -> (K) item;
+    private Comparator<? super K> idComparator;
+    private Path spillDirectory;
+    private int partitions;
+
+    /**
+     * Default constructor.
+     */
+    public DataReconciler() {
+        pairValidator.setItemId(MatchedPair::getItemId);
+    }
+
+    @Override
+    public Reconciler<T, K> acceptLeft(Stream<T> data) {
+        leftData.add(data);
+        return this;
+    }
+
+    @Override
+    public Reconciler<T, K> acceptRight(Stream<T> data) {
+        rightData.add(data);
+        return this;
+    }
+
+    @Override
+    public Reconciler<T, K> setItemId(Function<T, K> idProvider) {
+        this.idProvider = idProvider;
+        return this;
+    }
+
+    @Override
+    public Reconciler<T, K> expect(Expectation<MatchedPair<T>, ?> expectation) {
+        pairValidator.expect(expectation);
+        return this;
+    }
+
+    @Override
+    public Reconciler<T, K> sorted(Comparator<? super K> idComparator) {
+        this.idComparator = Objects.requireNonNull(idComparator, "idComparator");
+        return this;
+    }
+
+    @Override
+    public Reconciler<T, K> spillTo(Path directory, int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("partitions should be positive: " + partitions);
+        }
+        this.spillDirectory = Objects.requireNonNull(directory, "directory");
+        this.partitions = partitions;
+        return this;
+    }
+
+    @Override
+    public ValidationResult reconcile() {
+        final var validationResult = new DataValidationResult();
+        final var pairValidation = pairValidator.open(validationResult);
+        final var left = leftData.stream().flatMap((Stream<T> dataStream) -> dataStream);
+        final var right = rightData.stream().flatMap((Stream<T> dataStream) -> dataStream);
+        if (idComparator != null) {
+            mergeJoin(left.iterator(), right.iterator(), pairValidation, validationResult);
+        } else if (spillDirectory != null) {
+            partitionedHashJoin(left, right, pairValidation, validationResult);
+        } else {
+            hashJoin(left, right, pairValidation, validationResult);
+        }
+        return pairValidation.finish();
+    }
+
+    private void mergeJoin(Iterator<T> left, Iterator<T> right, IncrementalValidation<MatchedPair<T>> pairValidation,
+                           ValidationResult validationResult) {
+        final var leftSide = new SortedSide(left, "left");
+        final var rightSide = new SortedSide(right, "right");
+        while (leftSide.hasItem() && rightSide.hasItem()) {
+            final var comparison = idComparator.compare(leftSide.itemId, rightSide.itemId);
+            if (comparison == 0) {
+                pairValidation.offer(new MatchedPair<>(leftSide.itemId, leftSide.item, rightSide.item));
+            } else if (comparison < 0) {
+                missingOnRight(leftSide.itemId, leftSide.item, validationResult);
+            } else {
+                missingOnLeft(rightSide.itemId, rightSide.item, validationResult);
+            }
+            if (comparison <= 0) {
+                leftSide.advance();
+            }
+            if (comparison >= 0) {
+                rightSide.advance();
+            }
+        }
+        for (; leftSide.hasItem(); leftSide.advance()) {
+            missingOnRight(leftSide.itemId, leftSide.item, validationResult);
+        }
+        for (; rightSide.hasItem(); rightSide.advance()) {
+            missingOnLeft(rightSide.itemId, rightSide.item, validationResult);
+        }
+    }
+
+    private void partitionedHashJoin(Stream<T> left, Stream<T> right,
+                                     IncrementalValidation<MatchedPair<T>> pairValidation,
+                                     ValidationResult validationResult) {
+        try (var leftPartitions = new SpillPartitions<T>(spillDirectory, "reconcile-left", partitions);
+             var rightPartitions = new SpillPartitions<T>(spillDirectory, "reconcile-right", partitions)) {
+            left.forEach((T item) -> leftPartitions.write(
+                    SpillPartitions.partitionOf(idProvider.apply(item), partitions), item));
+            right.forEach((T item) -> rightPartitions.write(
+                    SpillPartitions.partitionOf(idProvider.apply(item), partitions), item));
+            leftPartitions.flush();
+            rightPartitions.flush();
+            for (var partition = 0; partition < partitions; partition++) {
+                final Map<K, T> leftItems = new LinkedHashMap<>();
+                leftPartitions.read(partition, (T item) -> build(leftItems, item, validationResult));
+                rightPartitions.read(partition, (T item) -> probe(leftItems, item, pairValidation, validationResult));
+                leftItems.forEach((K itemId, T item) -> missingOnRight(itemId, item, validationResult));
+            }
+        }
+    }
+
+    private void hashJoin(Stream<T> left, Stream<T> right, IncrementalValidation<MatchedPair<T>> pairValidation,
+                          ValidationResult validationResult) {
+        final Map<K, T> leftItems = new LinkedHashMap<>();
+        left.forEach((T item) -> build(leftItems, item, validationResult));
+        right.forEach((T item) -> probe(leftItems, item, pairValidation, validationResult));
+        leftItems.forEach((K itemId, T item) -> missingOnRight(itemId, item, validationResult));
+    }
+
+    /**
+     * Adds a left item to the hash table of the join; an item with a duplicate id has no pair.
+     */
+    private void build(Map<K, T> leftItems, T item, ValidationResult validationResult) {
+        final var itemId = idProvider.apply(item);
+        if (leftItems.putIfAbsent(itemId, item) != null) {
+            missingOnRight(itemId, item, validationResult);
+        }
+    }
+
+    /**
+     * Looks up a pair of a right item in the hash table of the join; matched left item is removed,
+     * so left items that remain in the table have no pair.
+     */
+    private void probe(Map<K, T> leftItems, T item, IncrementalValidation<MatchedPair<T>> pairValidation,
+                       ValidationResult validationResult) {
+        final var itemId = idProvider.apply(item);
+        final var leftItem = leftItems.remove(itemId);
+        if (leftItem == null) {
+            missingOnLeft(itemId, item, validationResult);
+        } else {
+            pairValidation.offer(new MatchedPair<>(itemId, leftItem, item));
+        }
+    }
+
+    private void missingOnLeft(K itemId, T rightItem, ValidationResult validationResult) {
+        validationResult.addFailedCondition(new FailedRecord<>(itemId, null, rightItem, MISSING_ON_LEFT));
+    }
+
+    private void missingOnRight(K itemId, T leftItem, ValidationResult validationResult) {
+        validationResult.addFailedCondition(new FailedRecord<>(itemId, leftItem, null, MISSING_ON_RIGHT));
+    }
+
+    /**
+     * Side of a merge join: current item of a sorted iterator and its id.
+     * The end of items is tracked by the iterator, so null items take part in the join,
+     * and ids that go backwards fail the join, as items without a pair would be reported otherwise.
+     */
+    private final class SortedSide {
+
+        private final Iterator<T> items;
+        private final String name;
+        private boolean hasItem;
+        private T item;
+        private K itemId;
+
+        /**
+         * Parametrized constructor.
+         *
+         * @param items - iterator of items sorted by id
+         * @param name  - name of the side, for errors
+         */
+        SortedSide(Iterator<T> items, String name) {
+            this.items = items;
+            this.name = name;
+            advance();
+        }
+
+        /**
+         * Defines whether the side has a current item.
+         *
+         * @return - true in case items of the side are not exhausted
+         */
+        boolean hasItem() {
+            return hasItem;
+        }
+
+        /**
+         * Moves to the next item of the side.
+         *
+         * @throws IllegalStateException - in case id of the next item is less than id of the current item
+         */
+        void advance() {
+            final var previousId = itemId;
+            final var hadItem = hasItem;
+            hasItem = items.hasNext();
+            if (!hasItem) {
+                item = null;
+                itemId = null;
+                return;
+            }
+            item = items.next();
+            itemId = idProvider.apply(item);
+            if (hadItem && idComparator.compare(previousId, itemId) > 0) {
+                throw new IllegalStateException("Items on " + name + " are not sorted by id: "
+                        + itemId + " follows " + previousId);
+            }
+        }
+    }
+}
@@ -1,19 +1,28 @@
 package com.scait.data.validator.impl;
 
+import com.scait.data.validator.ExpectationStatistics;
 import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.ResettableValidationResult;
 import com.scait.data.validator.ValidationResult;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link ValidationResult} class.
+ * Keeps failed conditions indexed by item id, so lookup of the item conditions does not scan all failures.
+ * Result can be reset and reused, see {@link ResettableValidationResult}.
  */
-class DataValidationResult implements ValidationResult {
+class DataValidationResult implements ResettableValidationResult {
 
     private final Set<FailedCondition> failedConditions = new LinkedHashSet<>();
+    private final Map<Object, Set<FailedCondition>> failedConditionsByItem = new LinkedHashMap<>();
+    private boolean truncated;
+    private List<ExpectationStatistics> expectationStatistics = List.of();
 
     /**
      * Default constructor.
@@ -23,7 +32,11 @@ class DataValidationResult implements ValidationResult {
     }
 
     public void addFailedCondition(FailedCondition failedCondition) {
-        failedConditions.add(failedCondition);
+        if (failedConditions.add(failedCondition)) {
+            failedConditionsByItem
+                    .computeIfAbsent(failedCondition.getItemId(), (Object itemId) -> new LinkedHashSet<>())
+                    .add(failedCondition);
+        }
     }
 
     @Override
@@ -36,11 +49,23 @@ class DataValidationResult implements ValidationResult {
         return !isSuccessful();
     }
 
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public void markTruncated() {
+        truncated = true;
+    }
+
     @Override
     public Set<FailedCondition> getFailedConditions(Object itemId) {
-        return failedConditions.stream()
-                .filter((FailedCondition condition) -> Objects.equals(itemId, condition.getItemId()))
-                .collect(Collectors.toSet());
+        final var itemConditions = failedConditionsByItem.get(itemId);
+        if (itemConditions == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(itemConditions);
     }
 
     @Override
@@ -48,10 +73,41 @@ class DataValidationResult implements ValidationResult {
         return new LinkedHashSet<>(failedConditions);
     }
 
+    @Override
+    public Set<Object> getFailedItemIds() {
+        return Collections.unmodifiableSet(failedConditionsByItem.keySet());
+    }
+
+    @Override
+    public int getFailureCount() {
+        return failedConditions.size();
+    }
+
+    @Override
+    public List<ExpectationStatistics> getExpectationStatistics() {
+        return expectationStatistics;
+    }
+
+    @Override
+    public void setExpectationStatistics(List<ExpectationStatistics> expectationStatistics) {
+        this.expectationStatistics = expectationStatistics;
+    }
+
+    @Override
+    public void reset() {
+        if (!failedConditions.isEmpty()) {
+            failedConditions.clear();
+            failedConditionsByItem.clear();
+        }
+        truncated = false;
+        expectationStatistics = List.of();
+    }
+
     @Override
     public String toString() {
         return "VerifierValidationResult{" +
                 "failedConditions=" + failedConditions +
+                ", truncated=" + truncated +
                 '}';
     }
 }
@@ -1,11 +1,34 @@
 package com.scait.data.validator.impl;
 
+import com.scait.data.validator.AggregatedValidationResult;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.FailureSink;
+import com.scait.data.validator.IncrementalValidation;
+import com.scait.data.validator.MetricsListener;
+import com.scait.data.validator.ProgressListener;
+import com.scait.data.validator.RecordView;
+import com.scait.data.validator.ResettableValidationResult;
+import com.scait.data.validator.SpilledValidationResult;
+import com.scait.data.validator.ValidationPlan;
 import com.scait.data.validator.ValidationResult;
 import com.scait.data.validator.Validator;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -19,6 +42,19 @@ public class DataValidator<T> implements Validator<T> {
     private final List<Expectation<T, ?>> expectations = new LinkedList<>();
     private Function<T, ?> idProvider = (T item) -> item;
     private boolean parallel;
+    private boolean ordered;
+    private boolean adaptiveOrder;
+    private int parallelism;
+    private Executor executor;
+    private int virtualThreadConcurrency;
+    private int maxFailures = ValidationRun.UNLIMITED;
+    private int maxFailuresPerItem = ValidationRun.UNLIMITED;
+    private ProgressListener progressListener;
+    private Duration progressPeriod;
+    private MetricsListener metricsListener;
+    private Duration metricsPeriod;
+    private ToLongFunction<? super T> fingerprint;
+    private FingerprintStore fingerprintStore;
 
     /**
      * Default constructor.
@@ -41,52 +77,861 @@ public class DataValidator<T> implements Validator<T> {
 
     @Override
     public Validator<T> expect(Expectation<T, ?> expectation) {
+        for (Expectation<T, ?> prerequisite : expectation.getPrerequisites()) {
+            if (!expectations.contains(prerequisite)) {
+                throw new IllegalArgumentException("Prerequisite should be expected before the dependent expectation");
+            }
+        }
         expectations.add(expectation);
         return this;
     }
 
+    @Override
+    public Validator<T> expect(CrossItemExpectation<T, ?, ?> expectation) {
+        expectations.add(expectation.asRunExpectation());
+        return this;
+    }
+
     @Override
     public Validator<T> parallel() {
         parallel = true;
         return this;
     }
 
+    @Override
+    public Validator<T> parallel(int parallelism) {
+        this.parallelism = requirePositive(parallelism, "parallelism");
+        return parallel();
+    }
+
+    @Override
+    public Validator<T> parallel(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        return parallel();
+    }
+
+    @Override
+    public Validator<T> ordered() {
+        ordered = true;
+        return this;
+    }
+
+    @Override
+    public Validator<T> virtualThreads(int maxConcurrency) {
+        requirePositive(maxConcurrency, "maxConcurrency");
+        if (!VirtualThreadValidation.isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        this.virtualThreadConcurrency = maxConcurrency;
+        return this;
+    }
+
+    @Override
+    public Validator<T> adaptiveOrder() {
+        adaptiveOrder = true;
+        return this;
+    }
+
+    @Override
+    public Validator<T> skipUnchanged(ToLongFunction<? super T> fingerprint, FingerprintStore store) {
+        this.fingerprint = Objects.requireNonNull(fingerprint, "fingerprint");
+        this.fingerprintStore = Objects.requireNonNull(store, "store");
+        return this;
+    }
+
+    @Override
+    public Validator<T> failFast() {
+        return maxFailures(1);
+    }
+
+    @Override
+    public Validator<T> maxFailures(int maxFailures) {
+        this.maxFailures = requirePositive(maxFailures, "maxFailures");
+        return this;
+    }
+
+    @Override
+    public Validator<T> maxFailuresPerItem(int maxFailuresPerItem) {
+        this.maxFailuresPerItem = requirePositive(maxFailuresPerItem, "maxFailuresPerItem");
+        return this;
+    }
+
+    @Override
+    public Validator<T> onProgress(ProgressListener listener, Duration period) {
+        this.progressPeriod = requirePositive(period, "period");
+        this.progressListener = Objects.requireNonNull(listener, "listener");
+        return this;
+    }
+
+    @Override
+    public Validator<T> instrument(MetricsListener listener, Duration period) {
+        this.metricsPeriod = requirePositive(period, "period");
+        this.metricsListener = Objects.requireNonNull(listener, "listener");
+        return this;
+    }
+
     @Override
     public ValidationResult validate() {
-        if (parallel) {
-            return validateParallel();
+        final var plan = new CompiledPlan<>(this);
+        try {
+            return plan.validate(acceptedData, plan.newValidationResult(), plan.newRun());
+        } finally {
+            plan.shutdown();
+        }
+    }
+
+    @Override
+    public ValidationResult validate(FailureSink failureSink) {
+        final var plan = new CompiledPlan<>(this);
+        try {
+            return plan.validate(acceptedData, failureSink);
+        } finally {
+            plan.shutdown();
         }
-        return validateSequential();
     }
 
-    private ValidationResult validateSequential() {
-        final var validationResult = new DataValidationResult();
-        acceptedData
-                .stream()
-                .flatMap((Stream<T> dataStream) -> dataStream)
-                .forEachOrdered((T data) -> validateData(data, validationResult));
+    @Override
+    public AggregatedValidationResult validateAggregated(int topValues, int sampleSize) {
+        if (topValues < 0 || sampleSize < 0) {
+            throw new IllegalArgumentException("topValues and sampleSize should not be negative: "
+                    + topValues + ", " + sampleSize);
+        }
+        final var plan = new CompiledPlan<>(this);
+        final var validationResult = new AggregatingValidationResult(topValues, sampleSize);
+        try {
+            plan.validate(acceptedData, validationResult, plan.newRun());
+        } finally {
+            plan.shutdown();
+        }
         return validationResult;
     }
 
-    private ValidationResult validateParallel() {
-        final var validationResult = new ConcurrentDataValidationResult();
-        acceptedData
-                .stream()
-                .flatMap((Stream<T> dataStream) -> dataStream)
-                .parallel()
-                .forEach((T data) -> validateData(data, validationResult));
+    @Override
+    public SpilledValidationResult validateSpilling(Path directory, int memoryBudget) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("memoryBudget should be positive: " + memoryBudget);
+        }
+        final var plan = new CompiledPlan<>(this);
+        final var validationResult = new SpillingValidationResult(Objects.requireNonNull(directory, "directory"),
+                memoryBudget);
+        try {
+            plan.validate(acceptedData, validationResult, plan.newRun());
+        } catch (RuntimeException | Error e) {
+            validationResult.close();
+            throw e;
+        } finally {
+            plan.shutdown();
+        }
         return validationResult;
     }
 
-    private void validateData(T data, ValidationResult validationResult) {
-        for (Expectation<T, ?> expectation : expectations) {
-            if (!expectation.isJustified(data)) {
+    @Override
+    public CompletableFuture<ValidationResult> validateAsync(Executor executor) {
+        final var plan = new CompiledPlan<>(this);
+        final var run = plan.newRun();
+        final var future = new ValidationFuture(run);
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(plan.validate(acceptedData, plan.newValidationResult(), run));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    plan.shutdown();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public ValidationPlan<T> compile() {
+        return new CompiledPlan<>(this);
+    }
+
+    @Override
+    public IncrementalValidation<T> open() {
+        return compile().open();
+    }
+
+    @Override
+    public IncrementalValidation<T> open(FailureSink failureSink) {
+        return compile().open(failureSink);
+    }
+
+    /**
+     * Opens incremental validation that records failed conditions to the given result,
+     * so other failed conditions can be added to the same result, e.g. by reconciliation.
+     *
+     * @param validationResult - result to record failed conditions
+     * @return - incremental validation
+     */
+    IncrementalValidation<T> open(ValidationResult validationResult) {
+        return new CompiledPlan<>(this).open(validationResult, null);
+    }
+
+    /**
+     * Implementation of {@link ValidationPlan}: immutable snapshot of expectations and settings of the validator.
+     * Every validation creates its own run and result, so the plan is safe to share between threads.
+     *
+     * @param <T> - type of entity for validation
+     */
+    private static class CompiledPlan<T> implements ValidationPlan<T> {
+
+        /**
+         * Average count of items between timed evaluations of expectations, in case the run is not instrumented.
+         * Every item of an instrumented run is timed, as latencies of every evaluation are recorded.
+         */
+        private static final int TIMING_PERIOD = 64;
+
+        private final CompiledExpectations<T> expectations;
+        private final Function<T, ?> idProvider;
+        private final boolean parallel;
+        private final boolean ordered;
+        private final boolean adaptiveOrder;
+        private final int parallelism;
+        private final Executor executor;
+        private final int virtualThreadConcurrency;
+        private final int maxFailures;
+        private final int maxFailuresPerItem;
+        private final ProgressListener progressListener;
+        private final Duration progressPeriod;
+        private final MetricsListener metricsListener;
+        private final Duration metricsPeriod;
+        private final ToLongFunction<? super T> fingerprint;
+        private final FingerprintStore fingerprintStore;
+        private ForkJoinPool dedicatedPool;
+
+        /**
+         * Parametrized constructor.
+         *
+         * @param validator - validator to take expectations and settings from
+         */
+        CompiledPlan(DataValidator<T> validator) {
+            this.expectations = new CompiledExpectations<>(validator.expectations);
+            this.idProvider = validator.idProvider;
+            this.parallel = validator.parallel;
+            this.ordered = validator.ordered;
+            this.adaptiveOrder = validator.adaptiveOrder;
+            this.parallelism = validator.parallelism;
+            this.executor = validator.executor;
+            this.virtualThreadConcurrency = validator.virtualThreadConcurrency;
+            this.maxFailures = validator.maxFailures;
+            this.maxFailuresPerItem = validator.maxFailuresPerItem;
+            this.progressListener = validator.progressListener;
+            this.progressPeriod = validator.progressPeriod;
+            this.metricsListener = validator.metricsListener;
+            this.metricsPeriod = validator.metricsPeriod;
+            this.fingerprint = validator.fingerprint;
+            this.fingerprintStore = validator.fingerprintStore;
+            if (fingerprintStore != null && expectations.isCrossItem()) {
+                throw new IllegalStateException("Unchanged items cannot be skipped by cross item expectations");
+            }
+        }
+
+        @Override
+        public ValidationResult validate(Stream<T> data) {
+            return validate(List.of(data), newValidationResult(), newRun());
+        }
+
+        @Override
+        public ValidationResult validate(Iterable<? extends T> items) {
+            return validate(items, new DataValidationResult());
+        }
+
+        @Override
+        public ValidationResult validate(Stream<T> data, FailureSink failureSink) {
+            return validate(List.of(data), failureSink);
+        }
+
+        @Override
+        public IncrementalValidation<T> open() {
+            return open(new DataValidationResult(), null);
+        }
+
+        @Override
+        public IncrementalValidation<T> open(FailureSink failureSink) {
+            final var validationResult = new SinkValidationResult(failureSink);
+            return open(validationResult, validationResult);
+        }
+
+        @Override
+        public ValidationResult validateBatch(List<? extends T> items) {
+            if (needsRun()) {
+                return validate(items);
+            }
+            final var validationResult = validateBatch(items, (ValidationResult) null);
+            return validationResult != null ? validationResult : EmptyValidationResult.INSTANCE;
+        }
+
+        @Override
+        public ValidationResult validateBatch(T[] items) {
+            if (needsRun()) {
+                return validate(Arrays.asList(items));
+            }
+            ValidationResult validationResult = null;
+            for (var position = 0; position < items.length && !isExhausted(validationResult); position++) {
+                validationResult = validateBatchItem(items[position], validationResult);
+            }
+            return validationResult != null ? validationResult : EmptyValidationResult.INSTANCE;
+        }
+
+        @Override
+        public ResettableValidationResult validateBatch(List<? extends T> items,
+                                                        ResettableValidationResult validationResult) {
+            validationResult.reset();
+            if (needsRun()) {
+                validate(items, validationResult);
+            } else {
+                validateBatch(items, (ValidationResult) validationResult);
+            }
+            return validationResult;
+        }
+
+        @Override
+        public ResettableValidationResult newBatchResult() {
+            return new DataValidationResult();
+        }
+
+        /**
+         * Opens incremental validation in a new run of the plan.
+         *
+         * @param validationResult - result to record failed conditions
+         * @param sinkResult       - same result in case it pushes failures to a sink; null otherwise
+         * @return - incremental validation
+         */
+        IncrementalValidation<T> open(ValidationResult validationResult, SinkValidationResult sinkResult) {
+            return new Incremental(validationResult, sinkResult);
+        }
+
+        /**
+         * Validates data of accepted streams in a run of the plan.
+         *
+         * @param sources          - streams of data for verification
+         * @param validationResult - result to record failed conditions
+         * @param run              - validation run
+         * @return - validation result
+         */
+        ValidationResult validate(List<Stream<T>> sources, ValidationResult validationResult, ValidationRun<T> run) {
+            return validate(validationResult, run, () -> {
+                if (virtualThreadConcurrency > 0) {
+                    validateOnVirtualThreads(sources, validationResult, run);
+                } else if (parallel) {
+                    validateParallel(sources, validationResult, run);
+                } else {
+                    validateSequential(sources, validationResult, run);
+                }
+            });
+        }
+
+        /**
+         * Validates data of accepted streams in a new run of the plan and pushes failed conditions to a sink.
+         * Sink is completed once validation is finished or failed with the error validation is failed with.
+         *
+         * @param sources     - streams of data for verification
+         * @param failureSink - sink of failed conditions
+         * @return - validation result that keeps failure count only
+         */
+        ValidationResult validate(List<Stream<T>> sources, FailureSink failureSink) {
+            final var validationResult = new SinkValidationResult(failureSink);
+            try {
+                validate(sources, validationResult, newRun());
+            } catch (RuntimeException | Error e) {
+                validationResult.fail(e);
+                throw e;
+            }
+            validationResult.complete();
+            return validationResult;
+        }
+
+        /**
+         * Validates items sequentially on the calling thread in a new run of the plan.
+         *
+         * @param items            - verification items
+         * @param validationResult - result to record failed conditions
+         * @return - validation result
+         */
+        private ValidationResult validate(Iterable<? extends T> items, ValidationResult validationResult) {
+            final var run = newRun();
+            return validate(validationResult, run, () -> {
+                for (T item : items) {
+                    if (!validateData(item, validationResult, run)) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        /**
+         * Validates a batch of items without a run: expectations are evaluated in declaration order
+         * and nothing is allocated until the first failed condition.
+         *
+         * @param items            - verification items
+         * @param validationResult - result to record failed conditions; null to create it on the first failure
+         * @return - validation result; null in case no result was given and all items pass
+         */
+        private ValidationResult validateBatch(List<? extends T> items, ValidationResult validationResult) {
+            if (items instanceof RandomAccess) {
+                final var size = items.size();
+                for (var position = 0; position < size && !isExhausted(validationResult); position++) {
+                    validationResult = validateBatchItem(items.get(position), validationResult);
+                }
+                return validationResult;
+            }
+            for (T item : items) {
+                if (isExhausted(validationResult)) {
+                    break;
+                }
+                validationResult = validateBatchItem(item, validationResult);
+            }
+            return validationResult;
+        }
+
+        /**
+         * Validates a single item of a batch against all expectations.
+         *
+         * @param data             - verification item
+         * @param validationResult - result to record failed conditions; null until the first failure of the batch
+         * @return - validation result; null in case there are no failed conditions yet
+         */
+        private ValidationResult validateBatchItem(T data, ValidationResult validationResult) {
+            var itemFailures = 0;
+            Object itemId = null;
+            final var unmet = expectations.unmetExpectations();
+            for (var index = 0; index < expectations.size(); index++) {
+                if (itemFailures == maxFailuresPerItem) {
+                    validationResult.markTruncated();
+                    break;
+                }
+                if (unmet != null && expectations.isBlocked(index, unmet)) {
+                    CompiledExpectations.markUnmet(index, unmet);
+                    continue;
+                }
+                final var expectation = expectations.get(index);
+                final var outcome = expectation.evaluate(data);
+                if (outcome.isJustified()) {
+                    continue;
+                }
+                if (unmet != null) {
+                    CompiledExpectations.markUnmet(index, unmet);
+                }
+                if (validationResult == null) {
+                    validationResult = new DataValidationResult();
+                }
+                if (itemFailures++ == 0) {
+                    itemId = itemIdOf(data);
+                }
                 validationResult.addFailedCondition(new FailedRecord<>(
-                        idProvider.apply(data),
-                        expectation.getExpectedValueProvider().apply(data),
-                        expectation.getActualValue(data)
+                        itemId,
+                        outcome.getExpectedValue(),
+                        outcome.getActualValue(),
+                        expectation
                 ));
+                if (isExhausted(validationResult)) {
+                    validationResult.markTruncated();
+                    break;
+                }
+            }
+            return validationResult;
+        }
+
+        /**
+         * Defines whether a batch should be validated in a run, as its items are not independent of the run:
+         * cross item expectations see all items, run scoped expected values are kept by the run
+         * and fingerprints are recorded for all items.
+         *
+         * @return - true in case a batch should be validated in a run
+         */
+        private boolean needsRun() {
+            return expectations.isCrossItem() || expectations.isRunScoped() || fingerprintStore != null;
+        }
+
+        private boolean isExhausted(ValidationResult validationResult) {
+            return validationResult != null && validationResult.getFailureCount() >= maxFailures;
+        }
+
+        /**
+         * Creates a new run of the plan.
+         *
+         * @return - validation run
+         */
+        ValidationRun<T> newRun() {
+            final var run = new ValidationRun<>(maxFailures, maxFailuresPerItem, expectations,
+                    metricsListener != null, adaptiveOrder);
+            if (fingerprintStore != null) {
+                run.setFingerprints(
+                        new FingerprintRun<>(fingerprint, fingerprintStore, expectations.getSignature()));
+            }
+            return run;
+        }
+
+        /**
+         * Creates an empty result that suits the validation mode of the plan.
+         *
+         * @return - empty validation result
+         */
+        ValidationResult newValidationResult() {
+            if (parallel || virtualThreadConcurrency > 0) {
+                return new ConcurrentDataValidationResult(ordered);
+            }
+            return new DataValidationResult();
+        }
+
+        private ValidationResult validate(ValidationResult validationResult, ValidationRun<T> run, Runnable engine) {
+            validationResult.setExpectationStatistics(run.getExpectationStatistics());
+            final var progressReporter = progressListener == null ? null : new ProgressReporter(
+                    () -> progressListener.onProgress(run.getProcessedItems(), run.getFailures()), progressPeriod);
+            final var metricsReporter = metricsListener == null ? null : new ProgressReporter(
+                    () -> metricsListener.onMetrics(run.getInstrumentation().snapshot()), metricsPeriod);
+            if (progressReporter != null) {
+                progressReporter.start();
+            }
+            if (metricsReporter != null) {
+                metricsReporter.start();
+            }
+            try {
+                engine.run();
+                return completeRun(validationResult, run);
+            } finally {
+                if (progressReporter != null) {
+                    progressReporter.finish();
+                }
+                if (metricsReporter != null) {
+                    metricsReporter.finish();
+                }
+            }
+        }
+
+        private void validateSequential(List<Stream<T>> sources, ValidationResult validationResult,
+                                        ValidationRun<T> run) {
+            sources
+                    .stream()
+                    .flatMap((Stream<T> dataStream) -> dataStream)
+                    .anyMatch((T data) -> !validateData(data, validationResult, run));
+        }
+
+        private void validateParallel(List<Stream<T>> sources, ValidationResult validationResult,
+                                      ValidationRun<T> run) {
+            final var spliterators = sources
+                    .stream()
+                    .map((Stream<T> dataStream) -> dataStream.parallel().spliterator())
+                    .collect(Collectors.toList());
+            final var runExecutor = runExecutor();
+            final var workers = parallelism > 0 ? parallelism : ParallelValidation.parallelismOf(runExecutor);
+            final var validation = new ParallelValidation<T>(runExecutor, workers,
+                    (T data) -> validateData(data, validationResult, run), chunkedResultOf(validationResult));
+            if (run.getInstrumentation() != null) {
+                run.getInstrumentation().setQueueDepth(validation::getPendingTasks);
+            }
+            validation.run(spliterators);
+        }
+
+        /**
+         * Gets executor of parallel runs: the executor of the validator, otherwise a pool of the parallelism
+         * that is created once for the plan and shared by its runs, otherwise the common pool.
+         *
+         * @return - executor of parallel runs
+         */
+        private Executor runExecutor() {
+            if (executor != null) {
+                return executor;
+            }
+            if (parallelism == 0) {
+                return ForkJoinPool.commonPool();
+            }
+            synchronized (this) {
+                if (dedicatedPool == null) {
+                    dedicatedPool = new ForkJoinPool(parallelism);
+                }
+                return dedicatedPool;
+            }
+        }
+
+        /**
+         * Shuts down the pool of the plan, once a plan that is validated only once is finished.
+         * Pool of a compiled plan is not shut down: its daemon threads are released once they are idle.
+         */
+        synchronized void shutdown() {
+            if (dedicatedPool != null) {
+                dedicatedPool.shutdown();
+                dedicatedPool = null;
+            }
+        }
+
+        private void validateOnVirtualThreads(List<Stream<T>> sources, ValidationResult validationResult,
+                                              ValidationRun<T> run) {
+            final var spliterators = sources
+                    .stream()
+                    .map((Stream<T> dataStream) -> dataStream.spliterator())
+                    .collect(Collectors.toList());
+            final var validation = new VirtualThreadValidation<T>(virtualThreadConcurrency,
+                    (T data) -> validateData(data, validationResult, run), chunkedResultOf(validationResult));
+            if (run.getInstrumentation() != null) {
+                run.getInstrumentation().setQueueDepth(validation::getPendingTasks);
+            }
+            validation.run(spliterators);
+        }
+
+        private static ChunkedResult chunkedResultOf(ValidationResult validationResult) {
+            return validationResult instanceof ChunkedResult ? (ChunkedResult) validationResult : null;
+        }
+
+        private static ValidationResult merged(ValidationResult validationResult) {
+            if (validationResult instanceof ConcurrentDataValidationResult) {
+                ((ConcurrentDataValidationResult) validationResult).merge();
+            }
+            return validationResult;
+        }
+
+        /**
+         * Evaluates cross item expectations once all items are validated, e.g. aggregates,
+         * and replaces the fingerprint store by outcomes of the run.
+         * Skipped for a stopped run, as it has not seen all items.
+         *
+         * @param validationResult - result to record failed conditions
+         * @param run              - validation run
+         * @return - validation result
+         */
+        private ValidationResult completeRun(ValidationResult validationResult, ValidationRun<T> run) {
+            final var evaluationOrder = run.getEvaluationOrder();
+            for (int index : evaluationOrder.getSequence()) {
+                final var runState = evaluationOrder.getRunState(index);
+                if (runState == null || run.isStopped()) {
+                    continue;
+                }
+                final var expectation = evaluationOrder.getExpectation(index);
+                final var outcome = expectation.completeRun(runState);
+                if (!outcome.isJustified() && run.acquire()) {
+                    validationResult.addFailedCondition(new FailedRecord<>(
+                            null,
+                            outcome.getExpectedValue(),
+                            outcome.getActualValue(),
+                            expectation
+                    ));
+                }
+            }
+            if (run.getFingerprints() != null && !run.isStopped()) {
+                run.getFingerprints().complete();
+            }
+            return merged(validationResult);
+        }
+
+        /**
+         * Gets id of an item to be kept by its failed conditions.
+         * A flyweight record view is materialized, as the source moves the view to the next record,
+         * e.g. in case records are their own ids.
+         *
+         * @param data - verification item
+         * @return - item id
+         */
+        private Object itemIdOf(T data) {
+            final var itemId = idProvider.apply(data);
+            return itemId instanceof RecordView ? ((RecordView) itemId).materialize() : itemId;
+        }
+
+        /**
+         * Validates a single item against all expectations.
+         *
+         * @param data             - verification item
+         * @param validationResult - result to record failed conditions
+         * @param run              - validation run
+         * @return - true in case validation should continue with the next item
+         */
+        private boolean validateData(T data, ValidationResult validationResult, ValidationRun<T> run) {
+            var itemFailures = 0;
+            Object itemId = null;
+            final var instrumentation = run.getInstrumentation();
+            final var evaluationOrder = run.getEvaluationOrder();
+            final var unmet = evaluationOrder.unmetExpectations();
+            final var fingerprints = run.getFingerprints();
+            var itemKey = 0L;
+            var itemFingerprint = 0L;
+            List<FailedCondition> itemConditions = null;
+            final var timed = instrumentation != null
+                    || ThreadLocalRandom.current().nextInt(TIMING_PERIOD) == 0;
+            if (fingerprints != null) {
+                itemId = itemIdOf(data);
+                itemKey = FingerprintStore.keyOf(itemId);
+                itemFingerprint = fingerprints.fingerprintOf(data);
+                if (fingerprints.carryForward(itemKey, itemFingerprint, validationResult, run)) {
+                    run.itemProcessed();
+                    if (run.isStopped()) {
+                        validationResult.markTruncated();
+                        return false;
+                    }
+                    return true;
+                }
+                itemConditions = new ArrayList<>();
+            }
+            for (int index : evaluationOrder.getSequence()) {
+                if (run.isStopped()) {
+                    validationResult.markTruncated();
+                    return false;
+                }
+                final var capped = itemFailures == run.getMaxFailuresPerItem();
+                if (capped) {
+                    validationResult.markTruncated();
+                    if (!evaluationOrder.isCrossItem()) {
+                        break;
+                    }
+                    if (!evaluationOrder.isCrossItem(index)) {
+                        if (unmet != null) {
+                            CompiledExpectations.markUnmet(index, unmet);
+                        }
+                        continue;
+                    }
+                }
+                if (unmet != null && evaluationOrder.isBlocked(index, unmet)) {
+                    CompiledExpectations.markUnmet(index, unmet);
+                    continue;
+                }
+                final var expectation = evaluationOrder.getExpectation(index);
+                final ExpectationOutcome<?> outcome;
+                if (timed) {
+                    final var start = System.nanoTime();
+                    outcome = expectation.evaluate(data, evaluationOrder.getRunState(index));
+                    final var evaluationNanos = System.nanoTime() - start;
+                    run.getExpectationCounter(index).record(!outcome.isJustified(), evaluationNanos);
+                    if (instrumentation != null) {
+                        instrumentation.recordLatency(index, evaluationNanos);
+                    }
+                } else {
+                    outcome = expectation.evaluate(data, evaluationOrder.getRunState(index));
+                    run.getExpectationCounter(index).record(!outcome.isJustified());
+                }
+                if (!outcome.isJustified() && unmet != null) {
+                    CompiledExpectations.markUnmet(index, unmet);
+                }
+                if (!outcome.isJustified() && !capped && run.acquire()) {
+                    if (itemFailures++ == 0 && fingerprints == null) {
+                        itemId = itemIdOf(data);
+                    }
+                    final var failedCondition = new FailedRecord<>(
+                            itemId,
+                            outcome.getExpectedValue(),
+                            outcome.getActualValue(),
+                            expectation
+                    );
+                    validationResult.addFailedCondition(failedCondition);
+                    if (itemConditions != null) {
+                        itemConditions.add(failedCondition);
+                    }
+                }
+            }
+            if (itemConditions != null && !run.isStopped()) {
+                fingerprints.record(itemKey, itemFingerprint, itemConditions);
+            }
+            run.itemProcessed();
+            evaluationOrder.maybeReorder();
+            if (run.isStopped()) {
+                validationResult.markTruncated();
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Implementation of {@link IncrementalValidation} that verifies offered items sequentially.
+         */
+        private class Incremental implements IncrementalValidation<T> {
+
+            private final ValidationResult validationResult;
+            private final SinkValidationResult sinkResult;
+            private final ValidationRun<T> run;
+            private boolean stopped;
+            private boolean finished;
+
+            /**
+             * Parametrized constructor.
+             *
+             * @param validationResult - result to record failed conditions
+             * @param sinkResult       - same result in case it pushes failures to a sink; null otherwise
+             */
+            Incremental(ValidationResult validationResult, SinkValidationResult sinkResult) {
+                this.validationResult = validationResult;
+                this.sinkResult = sinkResult;
+                this.run = newRun();
+                validationResult.setExpectationStatistics(run.getExpectationStatistics());
             }
+
+            @Override
+            public boolean offer(T item) {
+                if (finished) {
+                    throw new IllegalStateException("Validation is already finished");
+                }
+                try {
+                    if (!stopped && !validateData(item, validationResult, run)) {
+                        stopped = true;
+                    }
+                } catch (RuntimeException | Error e) {
+                    fail(e);
+                    throw e;
+                }
+                return !stopped;
+            }
+
+            @Override
+            public boolean offerAll(Iterable<? extends T> items) {
+                for (T item : items) {
+                    if (!offer(item)) {
+                        return false;
+                    }
+                }
+                return !stopped;
+            }
+
+            @Override
+            public ValidationResult finish() {
+                if (!finished) {
+                    try {
+                        if (!stopped) {
+                            completeRun(validationResult, run);
+                        }
+                    } catch (RuntimeException | Error e) {
+                        fail(e);
+                        throw e;
+                    }
+                    finished = true;
+                    if (sinkResult != null) {
+                        sinkResult.complete();
+                    }
+                    if (run.getInstrumentation() != null) {
+                        metricsListener.onMetrics(run.getInstrumentation().snapshot());
+                    }
+                }
+                return validationResult;
+            }
+
+            /**
+             * Finishes validation that failed with an error and passes the error to the sink.
+             *
+             * @param error - error of validation
+             */
+            private void fail(Throwable error) {
+                finished = true;
+                if (sinkResult != null) {
+                    sinkResult.fail(error);
+                }
+            }
+        }
+    }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " should be positive: " + value);
+        }
+        return value;
+    }
+
+    private static Duration requirePositive(Duration value, String name) {
+        if (value.isNegative() || value.isZero()) {
+            throw new IllegalArgumentException(name + " should be positive: " + value);
         }
+        return value;
     }
 }
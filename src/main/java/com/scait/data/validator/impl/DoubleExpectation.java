@@ -0,0 +1,93 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Bounds;
+import com.scait.data.validator.Difference;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Expectation of {@code double} values that is evaluated without boxing.
+ * Values are boxed only to build a failed condition.
+ *
+ * @param <T> - Type of entity on validation
+ */
+public final class DoubleExpectation<T> extends Expectation<T, Double> {
+
+    private final ToDoubleFunction<T> expectedValueProvider;
+    private final ToDoubleFunction<T> valueProvider;
+    private final Difference difference;
+    private final ToDoubleFunction<T> upperValueProvider;
+    private final Difference upperDifference;
+
+    private DoubleExpectation(ToDoubleFunction<T> expectedValueProvider, ToDoubleFunction<T> valueProvider,
+                              Difference difference, ToDoubleFunction<T> upperValueProvider,
+                              Difference upperDifference) {
+        super(expectedValueProvider::applyAsDouble, valueProvider::applyAsDouble, Double::compare, difference);
+        this.expectedValueProvider = expectedValueProvider;
+        this.valueProvider = valueProvider;
+        this.difference = difference;
+        this.upperValueProvider = upperValueProvider;
+        this.upperDifference = upperDifference;
+    }
+
+    @Override
+    public ExpectationOutcome<Double> evaluate(T item) {
+        final double expectedValue = expectedValueProvider.applyAsDouble(item);
+        final double actualValue = valueProvider.applyAsDouble(item);
+        if (!difference.test(Double.compare(actualValue, expectedValue))) {
+            return ExpectationOutcome.failed(expectedValue, actualValue);
+        }
+        if (upperValueProvider != null) {
+            final double upperValue = upperValueProvider.applyAsDouble(item);
+            if (!upperDifference.test(Double.compare(actualValue, upperValue))) {
+                return ExpectationOutcome.failed(upperValue, actualValue);
+            }
+        }
+        return ExpectationOutcome.justified();
+    }
+
+    /**
+     * Constructs new double expectation.
+     *
+     * @param expectedValue - expected value for verification
+     * @param valueProvider - actual value provider
+     * @param difference    - expected difference for values
+     * @param <T>           - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> DoubleExpectation<T> of(double expectedValue, ToDoubleFunction<T> valueProvider,
+                                              Difference difference) {
+        return new DoubleExpectation<>((T item) -> expectedValue, valueProvider, difference, null, null);
+    }
+
+    /**
+     * Constructs new double expectation.
+     *
+     * @param expectedValueProvider - provider of expected value for verification
+     * @param valueProvider         - actual value provider
+     * @param difference            - expected difference for values
+     * @param <T>                   - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> DoubleExpectation<T> of(
+            ToDoubleFunction<T> expectedValueProvider, ToDoubleFunction<T> valueProvider, Difference difference) {
+        return new DoubleExpectation<>(expectedValueProvider, valueProvider, difference, null, null);
+    }
+
+    /**
+     * Constructs new double range expectation.
+     * Expected value of a failed condition is the bound that is violated.
+     *
+     * @param lowerValue    - lower bound for verification
+     * @param upperValue    - upper bound for verification
+     * @param valueProvider - actual value provider
+     * @param bounds        - whether bounds are included
+     * @param <T>           - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> DoubleExpectation<T> between(
+            double lowerValue, double upperValue, ToDoubleFunction<T> valueProvider, Bounds bounds) {
+        return new DoubleExpectation<>((T item) -> lowerValue, valueProvider, bounds.getLowerDifference(),
+                (T item) -> upperValue, bounds.getUpperDifference());
+    }
+}
@@ -0,0 +1,85 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ExpectationStatistics;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.ValidationResult;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable successful {@link ValidationResult} without failed conditions.
+ * Shared by all batch validations that pass, so the passing path does not allocate a result.
+ */
+final class EmptyValidationResult implements ValidationResult {
+
+    /**
+     * Shared instance.
+     */
+    static final ValidationResult INSTANCE = new EmptyValidationResult();
+
+    private EmptyValidationResult() {
+        //No op.
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return true;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return false;
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return false;
+    }
+
+    @Override
+    public void markTruncated() {
+        throw new UnsupportedOperationException("Empty validation result is immutable");
+    }
+
+    @Override
+    public void addFailedCondition(FailedCondition failedCondition) {
+        throw new UnsupportedOperationException("Empty validation result is immutable");
+    }
+
+    @Override
+    public Set<FailedCondition> getFailedConditions(Object itemId) {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<FailedCondition> getFailedConditions() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<Object> getFailedItemIds() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public int getFailureCount() {
+        return 0;
+    }
+
+    @Override
+    public List<ExpectationStatistics> getExpectationStatistics() {
+        return List.of();
+    }
+
+    @Override
+    public void setExpectationStatistics(List<ExpectationStatistics> expectationStatistics) {
+        throw new UnsupportedOperationException("Empty validation result is immutable");
+    }
+
+    @Override
+    public String toString() {
+        return "EmptyValidationResult{}";
+    }
+}
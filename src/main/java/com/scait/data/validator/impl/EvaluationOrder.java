@@ -0,0 +1,181 @@
+package com.scait.data.validator.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Order of expectation evaluation of a validation run.
+ * Keeps run states of expectations, e.g. of cross item expectations, and the current sequence of expectations,
+ * which starts with the declaration order of the compiled plan. Adaptive order is recomputed
+ * from time to time by cost and failure rate of every expectation measured so far: expectations
+ * with the lowest cost per failure go first, so an item that has a per item failure cap or failed
+ * prerequisites skips the rest of the expectations sooner. Prerequisites always go before dependent expectations.
+ *
+ * @param <T> - type of entity for validation
+ */
+class EvaluationOrder<T> {
+
+    /**
+     * Average count of items between adaptive reorders.
+     */
+    private static final int REORDER_INTERVAL = 1024;
+
+    /**
+     * Failure rate assumed for an expectation that never failed, so cheaper of such expectations go first.
+     */
+    private static final double MIN_FAILURE_RATE = 1e-6;
+
+    private final CompiledExpectations<T> expectations;
+    private final Object[] runStates;
+    private final ExpectationCounter[] counters;
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    private volatile int[] sequence;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param expectations - compiled expectations of the plan
+     * @param counters     - counters of the expectations, to measure cost and failure rate; null for declaration order
+     */
+    EvaluationOrder(CompiledExpectations<T> expectations, ExpectationCounter[] counters) {
+        this.expectations = expectations;
+        this.counters = counters;
+        this.sequence = expectations.getDeclarationOrder();
+        if (expectations.isCrossItem() || expectations.isRunScoped()) {
+            this.runStates = new Object[expectations.size()];
+            for (var index = 0; index < runStates.length; index++) {
+                runStates[index] = expectations.get(index).newRunState();
+            }
+        } else {
+            this.runStates = null;
+        }
+    }
+
+    /**
+     * Gets current sequence of expectation indices to evaluate.
+     *
+     * @return - expectation indices in evaluation order
+     */
+    int[] getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets expectation by index.
+     *
+     * @param index - index of the expectation
+     * @return - expectation
+     */
+    Expectation<T, ?> getExpectation(int index) {
+        return expectations.get(index);
+    }
+
+    /**
+     * Defines whether any expectation keeps state across items of the run.
+     *
+     * @return - true in case some expectations should see every item of the run
+     */
+    boolean isCrossItem() {
+        return expectations.isCrossItem();
+    }
+
+    /**
+     * Defines whether the expectation keeps state across items of the run.
+     *
+     * @param index - index of the expectation
+     * @return - true in case the expectation should see every item of the run
+     */
+    boolean isCrossItem(int index) {
+        return expectations.isCrossItem(index);
+    }
+
+    /**
+     * Gets run state of expectation by index.
+     *
+     * @param index - index of the expectation
+     * @return - run state; null for expectations that see one item at a time and have no run scoped values
+     */
+    Object getRunState(int index) {
+        return runStates == null ? null : runStates[index];
+    }
+
+    /**
+     * Gets cleared bit set of unmet expectations of the current thread, to track an item.
+     *
+     * @return - bit set of failed or skipped expectations; null in case expectations have no prerequisites
+     */
+    long[] unmetExpectations() {
+        return expectations.unmetExpectations();
+    }
+
+    /**
+     * Defines whether any prerequisite of the expectation is unmet.
+     *
+     * @param index - index of the expectation
+     * @param unmet - bit set of unmet expectations of the item
+     * @return - true in case the expectation should be skipped
+     */
+    boolean isBlocked(int index, long[] unmet) {
+        return expectations.isBlocked(index, unmet);
+    }
+
+    /**
+     * Recomputes adaptive order once in about {@link #REORDER_INTERVAL} calls.
+     * Only one thread recomputes the order at a time; others keep the current sequence.
+     */
+    void maybeReorder() {
+        if (counters == null || ThreadLocalRandom.current().nextInt(REORDER_INTERVAL) != 0
+                || !reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sequence = adaptiveSequence();
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    private int[] adaptiveSequence() {
+        final var count = expectations.size();
+        final var ranks = new double[count];
+        for (var index = 0; index < count; index++) {
+            ranks[index] = rankOf(counters[index]);
+        }
+        final var placed = new boolean[count];
+        final var adaptive = new int[count];
+        for (var position = 0; position < count; position++) {
+            var next = -1;
+            for (var index = 0; index < count; index++) {
+                if (!placed[index] && isReady(index, placed) && (next < 0 || ranks[index] < ranks[next])) {
+                    next = index;
+                }
+            }
+            placed[next] = true;
+            adaptive[position] = next;
+        }
+        return adaptive;
+    }
+
+    private boolean isReady(int index, boolean[] placed) {
+        for (int prerequisite : expectations.getPrerequisites(index)) {
+            if (!placed[prerequisite]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets rank of an expectation: expected cost of evaluation per failure.
+     * Expectation that is not measured yet goes first, to be measured.
+     */
+    private static double rankOf(ExpectationCounter counter) {
+        final var checked = counter.getCheckedCount();
+        if (checked == 0) {
+            return 0;
+        }
+        final var cost = (double) counter.getEvaluationNanos() / checked;
+        final var failureRate = (double) counter.getFailedCount() / checked;
+        return cost / Math.max(failureRate, MIN_FAILURE_RATE);
+    }
+}
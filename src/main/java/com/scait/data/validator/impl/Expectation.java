@@ -1,14 +1,22 @@
 package com.scait.data.validator.impl;
 
+import com.scait.data.validator.Bounds;
 import com.scait.data.validator.Difference;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Expectation for validation.
+ * Range expectation compares the actual value with a lower bound given by the expected value provider
+ * and with an upper bound given by the upper value provider.
+ * Expected value providers are invoked on every evaluation; see {@link ExpectedValues} to cache them.
  *
  * @param <T> - Type of entity on validation
  * @param <R> - Type of entity value for validation
@@ -17,8 +25,13 @@ public class Expectation<T, R> {
 
     private final Function<T, R> expectedValueProvider;
     private final Function<T, R> valueProvider;
+    private final List<Expectation<T, ?>> prerequisites = new ArrayList<>();
     private Comparator<R> valueComparator;
     private Difference difference;
+    private Function<T, R> upperValueProvider;
+    private Difference upperDifference;
+    private String name;
+    private List<Supplier<R>> expectedValueSuppliers = List.of();
 
     private Expectation(Function<T, R> expectedValueProvider, Function<T, R> valueProvider) {
         this.expectedValueProvider = expectedValueProvider;
@@ -33,14 +46,135 @@ public class Expectation<T, R> {
         this.difference = Difference.EQUAL;
     }
 
-    private Expectation(Function<T, R> expectedValueProvider, Function<T, R> valueProvider,
-                        Comparator<R> valueComparator, Difference difference) {
+    /**
+     * Constructor for specialized expectations.
+     *
+     * @param expectedValueProvider - provider of expected value for verification
+     * @param valueProvider         - actual value provider
+     * @param valueComparator       - comparator for values
+     * @param difference            - expected difference for values
+     */
+    protected Expectation(Function<T, R> expectedValueProvider, Function<T, R> valueProvider,
+                          Comparator<R> valueComparator, Difference difference) {
         this.expectedValueProvider = expectedValueProvider;
         this.valueProvider = valueProvider;
         this.valueComparator = valueComparator;
         this.difference = difference;
     }
 
+    private Expectation(Function<T, R> lowerValueProvider, Function<T, R> upperValueProvider,
+                        Function<T, R> valueProvider, Comparator<R> valueComparator, Bounds bounds) {
+        this(lowerValueProvider, valueProvider, valueComparator, bounds.getLowerDifference());
+        this.upperValueProvider = upperValueProvider;
+        this.upperDifference = bounds.getUpperDifference();
+    }
+
+    /**
+     * Names the expectation, so its failed conditions and statistics can be told apart.
+     *
+     * @param name - name of the expectation
+     * @return - the expectation
+     */
+    public Expectation<T, R> named(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Gets name of the expectation.
+     *
+     * @return - name of the expectation; null in case it is not named
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Makes the expectation dependent on another one: the expectation is evaluated on an item
+     * only in case the prerequisite is justified by the item, otherwise it is skipped.
+     * The prerequisite should be added to the validator before the dependent expectation.
+     *
+     * @param prerequisite - expectation that should be justified first
+     * @return - the expectation
+     */
+    public Expectation<T, R> dependsOn(Expectation<T, ?> prerequisite) {
+        prerequisites.add(Objects.requireNonNull(prerequisite, "prerequisite"));
+        return this;
+    }
+
+    /**
+     * Gets expectations the expectation depends on.
+     *
+     * @return - unmodifiable list of prerequisites
+     */
+    public List<Expectation<T, ?>> getPrerequisites() {
+        return Collections.unmodifiableList(prerequisites);
+    }
+
+    /**
+     * Defines whether the expectation has run scoped suppliers of expected values,
+     * see {@link ExpectedValues#perRun(Supplier)}, that keep their values in the run state.
+     *
+     * @return - true in case the expectation needs a run state
+     */
+    boolean isRunScoped() {
+        for (Supplier<R> supplier : expectedValueSuppliers) {
+            if (supplier instanceof RunScopedSupplier) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Defines whether the expectation keeps state across items of a run, see {@link CrossItemExpectation}.
+     *
+     * @return - true for a cross item expectation
+     */
+    boolean isCrossItem() {
+        return false;
+    }
+
+    /**
+     * Creates state of the expectation for a new validation run.
+     *
+     * @return - run state; null for expectations that see one item at a time and have no run scoped values
+     */
+    Object newRunState() {
+        return isRunScoped() ? new RunValues<>(expectedValueSuppliers) : null;
+    }
+
+    /**
+     * Evaluates an expectation on verification item within a validation run.
+     *
+     * @param item     - verification item
+     * @param runState - state of the expectation for the run, see {@link #newRunState()}
+     * @return - outcome of the evaluation
+     */
+    @SuppressWarnings("unchecked")
+    ExpectationOutcome<R> evaluate(T item, Object runState) {
+        if (runState instanceof RunValues) {
+            final var runValues = (RunValues<R>) runState;
+            return evaluate(item, runValues.get(0), runValues);
+        }
+        return evaluate(item);
+    }
+
+    /**
+     * Evaluates an expectation once all items of a validation run are evaluated.
+     *
+     * @param runState - state of the expectation for the run, see {@link #newRunState()}
+     * @return - outcome of the evaluation
+     */
+    ExpectationOutcome<R> completeRun(Object runState) {
+        return ExpectationOutcome.justified();
+    }
+
+    private Expectation<T, R> withSuppliers(List<Supplier<R>> suppliers) {
+        this.expectedValueSuppliers = suppliers;
+        return this;
+    }
+
     /**
      * Gets actual value of a verification item by value provider.
      *
@@ -68,16 +202,39 @@ public class Expectation<T, R> {
      * @return - true in case expectation is justified
      */
     public boolean isJustified(T item) {
-        if (valueComparator == null) {
-            return Objects.equals(getExpectedValueProvider().apply(item), getActualValue(item));
+        return evaluate(item).isJustified();
+    }
+
+    /**
+     * Evaluates an expectation on verification item.
+     * Expected and actual values are computed once and kept by the outcome of failed expectation.
+     *
+     * @param item - verification item
+     * @return - outcome of the evaluation
+     */
+    public ExpectationOutcome<R> evaluate(T item) {
+        return evaluate(item, expectedValueProvider.apply(item), null);
+    }
+
+    private ExpectationOutcome<R> evaluate(T item, R expectedValue, RunValues<R> runValues) {
+        final var actualValue = valueProvider.apply(item);
+        if (!isJustified(expectedValue, actualValue)) {
+            return ExpectationOutcome.failed(expectedValue, actualValue);
         }
-        final var result = valueComparator.compare(getActualValue(item), expectedValueProvider.apply(item));
-        for (int expectedValue : difference.getExpectedValues()) {
-            if (result == expectedValue) {
-                return true;
+        if (upperValueProvider != null) {
+            final var upperValue = runValues == null ? upperValueProvider.apply(item) : runValues.get(1);
+            if (!upperDifference.test(valueComparator.compare(actualValue, upperValue))) {
+                return ExpectationOutcome.failed(upperValue, actualValue);
             }
         }
-        return false;
+        return ExpectationOutcome.justified();
+    }
+
+    private boolean isJustified(R expectedValue, R actualValue) {
+        if (valueComparator == null) {
+            return Objects.equals(expectedValue, actualValue);
+        }
+        return difference.test(valueComparator.compare(actualValue, expectedValue));
     }
 
     /**
@@ -90,7 +247,8 @@ public class Expectation<T, R> {
      * @return - constructed expectation
      */
     public static <T, R> Expectation<T, R> of(Supplier<R> expectedValue, Function<T, R> valueProvider) {
-        return new Expectation<>((T item) -> expectedValue.get(), valueProvider);
+        return new Expectation<T, R>((T item) -> expectedValue.get(), valueProvider)
+                .withSuppliers(List.of(expectedValue));
     }
 
     /**
@@ -105,7 +263,8 @@ public class Expectation<T, R> {
      */
     public static <T, R> Expectation<T, R> of(Supplier<R> expectedValue, Function<T, R> valueProvider,
                                               Comparator<R> valueComparator) {
-        return new Expectation<>((T item) -> expectedValue.get(), valueProvider, valueComparator);
+        return new Expectation<T, R>((T item) -> expectedValue.get(), valueProvider, valueComparator)
+                .withSuppliers(List.of(expectedValue));
     }
 
     /**
@@ -121,7 +280,8 @@ public class Expectation<T, R> {
      */
     public static <T, R> Expectation<T, R> of(Supplier<R> expectedValue, Function<T, R> valueProvider,
                                               Comparator<R> valueComparator, Difference difference) {
-        return new Expectation<>((T item) -> expectedValue.get(), valueProvider, valueComparator, difference);
+        return new Expectation<T, R>((T item) -> expectedValue.get(), valueProvider, valueComparator, difference)
+                .withSuppliers(List.of(expectedValue));
     }
 
 
@@ -171,4 +331,85 @@ public class Expectation<T, R> {
             Comparator<R> valueComparator, Difference difference) {
         return new Expectation<>(expectedValueProvider, valueProvider, valueComparator, difference);
     }
+
+    /**
+     * Constructs new range expectation.
+     * Expected value of a failed condition is the bound that is violated.
+     *
+     * @param lowerValue      - lower bound for verification
+     * @param upperValue      - upper bound for verification
+     * @param valueProvider   - actual value provider
+     * @param valueComparator - comparator for values
+     * @param bounds          - whether bounds are included
+     * @param <T>             - Type of entity on verification
+     * @param <R>             - Type of entity value for verification
+     * @return - constructed expectation
+     */
+    public static <T, R> Expectation<T, R> between(Supplier<R> lowerValue, Supplier<R> upperValue,
+                                                   Function<T, R> valueProvider, Comparator<R> valueComparator,
+                                                   Bounds bounds) {
+        return new Expectation<T, R>((T item) -> lowerValue.get(), (T item) -> upperValue.get(),
+                valueProvider, valueComparator, bounds)
+                .withSuppliers(List.of(lowerValue, upperValue));
+    }
+
+    /**
+     * Constructs new range expectation.
+     * Expected value of a failed condition is the bound that is violated.
+     *
+     * @param lowerValueProvider - provider of lower bound for verification
+     * @param upperValueProvider - provider of upper bound for verification
+     * @param valueProvider      - actual value provider
+     * @param valueComparator    - comparator for values
+     * @param bounds             - whether bounds are included
+     * @param <T>                - Type of entity on verification
+     * @param <R>                - Type of entity value for verification
+     * @return - constructed expectation
+     */
+    public static <T, R> Expectation<T, R> between(
+            Function<T, R> lowerValueProvider, Function<T, R> upperValueProvider, Function<T, R> valueProvider,
+            Comparator<R> valueComparator, Bounds bounds) {
+        return new Expectation<>(lowerValueProvider, upperValueProvider, valueProvider, valueComparator, bounds);
+    }
+
+    /**
+     * Values of suppliers of expected values within a validation run, in the order of suppliers:
+     * values of run scoped suppliers are computed once, on first use in the run, others are supplied on every use.
+     *
+     * @param <R> - Type of expected value
+     */
+    private static final class RunValues<R> {
+
+        private static final Object UNSET = new Object();
+
+        private final List<Supplier<R>> suppliers;
+        private final AtomicReferenceArray<Object> values;
+
+        private RunValues(List<Supplier<R>> suppliers) {
+            this.suppliers = suppliers;
+            this.values = new AtomicReferenceArray<>(suppliers.size());
+            for (var index = 0; index < suppliers.size(); index++) {
+                values.set(index, UNSET);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private R get(int index) {
+            final var supplier = suppliers.get(index);
+            if (!(supplier instanceof RunScopedSupplier)) {
+                return supplier.get();
+            }
+            var value = values.get(index);
+            if (value == UNSET) {
+                synchronized (this) {
+                    value = values.get(index);
+                    if (value == UNSET) {
+                        value = supplier.get();
+                        values.set(index, value);
+                    }
+                }
+            }
+            return (R) value;
+        }
+    }
 }
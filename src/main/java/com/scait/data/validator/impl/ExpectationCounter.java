@@ -0,0 +1,112 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ExpectationStatistics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link ExpectationStatistics} class.
+ * Counts evaluations with striped counters, so concurrent updates do not contend on a single cache line.
+ * Only a sample of evaluations may be timed, so evaluation time is extrapolated from the timed ones.
+ */
+class ExpectationCounter implements ExpectationStatistics {
+
+    private final String expectationName;
+    private final LongAdder checkedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder evaluationNanos = new LongAdder();
+    private final LongAdder timedCount = new LongAdder();
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param expectationName - name of the expectation
+     */
+    ExpectationCounter(String expectationName) {
+        this.expectationName = expectationName;
+    }
+
+    /**
+     * Records a single evaluation of the expectation that was not timed.
+     *
+     * @param failed - whether the expectation failed
+     */
+    void record(boolean failed) {
+        checkedCount.increment();
+        if (failed) {
+            failedCount.increment();
+        }
+    }
+
+    /**
+     * Records a single timed evaluation of the expectation.
+     *
+     * @param failed - whether the expectation failed
+     * @param nanos  - evaluation time in nanoseconds
+     */
+    void record(boolean failed, long nanos) {
+        record(failed);
+        evaluationNanos.add(nanos);
+        timedCount.increment();
+    }
+
+    /**
+     * Records timed evaluations of the expectation on many items at once.
+     *
+     * @param checked - count of evaluations
+     * @param failed  - count of failed evaluations
+     * @param nanos   - evaluation time in nanoseconds
+     */
+    void record(long checked, long failed, long nanos) {
+        checkedCount.add(checked);
+        failedCount.add(failed);
+        evaluationNanos.add(nanos);
+        timedCount.add(checked);
+    }
+
+    @Override
+    public String getExpectationName() {
+        return expectationName;
+    }
+
+    @Override
+    public long getCheckedCount() {
+        return checkedCount.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Gets cumulative evaluation time of the expectation, extrapolated from timed evaluations to all of them.
+     *
+     * @return - evaluation time in nanoseconds
+     */
+    long getEvaluationNanos() {
+        final var timed = timedCount.sum();
+        final var nanos = evaluationNanos.sum();
+        if (timed == 0) {
+            return 0;
+        }
+        final var checked = checkedCount.sum();
+        return timed >= checked ? nanos : (long) ((double) nanos / timed * checked);
+    }
+
+    @Override
+    public Duration getEvaluationTime() {
+        return Duration.ofNanos(getEvaluationNanos());
+    }
+
+    @Override
+    public String toString() {
+        return "ExpectationStatistics{" +
+                "expectationName='" + expectationName + '\'' +
+                ", checkedCount=" + checkedCount +
+                ", failedCount=" + failedCount +
+                ", evaluationTime=" + getEvaluationTime() +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+package com.scait.data.validator.impl;
+
+/**
+ * Outcome of a single expectation evaluation.
+ * Keeps expected and actual values computed by the evaluation, so they are not computed again
+ * to build a failed condition. Justified outcome is a shared instance without values.
+ *
+ * @param <R> - Type of entity value for validation
+ */
+public final class ExpectationOutcome<R> {
+
+    private static final ExpectationOutcome<?> JUSTIFIED = new ExpectationOutcome<>(true, null, null);
+
+    private final boolean justified;
+    private final R expectedValue;
+    private final R actualValue;
+
+    private ExpectationOutcome(boolean justified, R expectedValue, R actualValue) {
+        this.justified = justified;
+        this.expectedValue = expectedValue;
+        this.actualValue = actualValue;
+    }
+
+    /**
+     * Gets outcome of a justified expectation.
+     *
+     * @param <R> - Type of entity value for validation
+     * @return - shared justified outcome
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> ExpectationOutcome<R> justified() {
+        return (ExpectationOutcome<R>) JUSTIFIED;
+    }
+
+    /**
+     * Constructs outcome of a failed expectation.
+     *
+     * @param expectedValue - computed expected value
+     * @param actualValue   - computed actual value
+     * @param <R>           - Type of entity value for validation
+     * @return - failed outcome
+     */
+    public static <R> ExpectationOutcome<R> failed(R expectedValue, R actualValue) {
+        return new ExpectationOutcome<>(false, expectedValue, actualValue);
+    }
+
+    /**
+     * Defines whether expectation is justified.
+     *
+     * @return - true in case expectation is justified
+     */
+    public boolean isJustified() {
+        return justified;
+    }
+
+    /**
+     * Gets expected value computed by the evaluation.
+     *
+     * @return - expected value; null for justified outcome
+     */
+    public R getExpectedValue() {
+        return expectedValue;
+    }
+
+    /**
+     * Gets actual value computed by the evaluation.
+     *
+     * @return - actual value; null for justified outcome
+     */
+    public R getActualValue() {
+        return actualValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ExpectationOutcome{" +
+                "justified=" + justified +
+                ", expectedValue=" + expectedValue +
+                ", actualValue=" + actualValue +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.scait.data.validator.impl;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Factory of caching providers of expected values.
+ * Caching providers are thread-safe, so they can be used in parallel validation mode.
+ */
+public final class ExpectedValues {
+
+    private ExpectedValues() {
+        //No op.
+    }
+
+    /**
+     * Creates a supplier that computes the expected value once, on first use.
+     *
+     * @param supplier - supplier of the expected value
+     * @param <R>      - Type of expected value
+     * @return - memoized supplier
+     */
+    public static <R> Supplier<R> memoized(Supplier<R> supplier) {
+        return new MemoizedSupplier<>(supplier, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a supplier that computes the expected value on first use and again once it is older than the time
+     * to live, e.g. to pick up a threshold changed in the config.
+     *
+     * @param supplier   - supplier of the expected value
+     * @param timeToLive - time to keep the computed value, should be positive
+     * @param <R>        - Type of expected value
+     * @return - memoized supplier
+     */
+    public static <R> Supplier<R> memoized(Supplier<R> supplier, Duration timeToLive) {
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("timeToLive should be positive: " + timeToLive);
+        }
+        return new MemoizedSupplier<>(supplier, timeToLive.toNanos());
+    }
+
+    /**
+     * Creates a supplier that computes the expected value once per validation run.
+     * The value is kept by the run of an expectation built with the supplier, so a validator that is run again
+     * sees a fresh value and concurrent runs of the same plan do not share it.
+     * Outside a validation run, e.g. by {@link Expectation#evaluate(Object)}, the value is computed on every call.
+     *
+     * @param supplier - supplier of the expected value
+     * @param <R>      - Type of expected value
+     * @return - run scoped supplier
+     */
+    public static <R> Supplier<R> perRun(Supplier<R> supplier) {
+        return new RunScopedSupplier<>(supplier);
+    }
+
+    /**
+     * Creates a provider of expected values that depend on a key of an item, e.g. expected price per SKU.
+     * Loaded values are kept in a bounded cache that evicts least recently used keys.
+     *
+     * @param keyProvider - provider of the key of an item
+     * @param loader      - loader of the expected value by key
+     * @param maxSize     - max count of cached keys, should be positive
+     * @param <T>         - Type of entity on verification
+     * @param <K>         - Type of key
+     * @param <R>         - Type of expected value
+     * @return - caching provider of expected values
+     */
+    public static <T, K, R> Function<T, R> cached(Function<T, K> keyProvider, Function<K, R> loader, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be positive: " + maxSize);
+        }
+        return new KeyedCache<>(keyProvider, loader, maxSize);
+    }
+}
@@ -13,6 +13,8 @@ public class FailedRecord<I, T> implements FailedCondition {
     private final I itemId;
     private final T expectedValue;
     private final T actualValue;
+    private final Expectation<?, ?> expectation;
+    private final String expectationName;
 
     /**
      * Parametrized constructor.
@@ -22,9 +24,39 @@ public class FailedRecord<I, T> implements FailedCondition {
      * @param actualValue   - actual value
      */
     public FailedRecord(I itemId, T expectedValue, T actualValue) {
+        this(itemId, expectedValue, actualValue, (Expectation<?, ?>) null);
+    }
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param itemId        - id of the verification item
+     * @param expectedValue - expected value
+     * @param actualValue   - actual value
+     * @param expectation   - expectation that failed
+     */
+    FailedRecord(I itemId, T expectedValue, T actualValue, Expectation<?, ?> expectation) {
         this.itemId = itemId;
         this.expectedValue = expectedValue;
         this.actualValue = actualValue;
+        this.expectation = expectation;
+        this.expectationName = null;
+    }
+
+    /**
+     * Parametrized constructor for failed conditions that are not produced by an {@link Expectation}.
+     *
+     * @param itemId          - id of the verification item
+     * @param expectedValue   - expected value
+     * @param actualValue     - actual value
+     * @param expectationName - name of the check that failed
+     */
+    FailedRecord(I itemId, T expectedValue, T actualValue, String expectationName) {
+        this.itemId = itemId;
+        this.expectedValue = expectedValue;
+        this.actualValue = actualValue;
+        this.expectation = null;
+        this.expectationName = expectationName;
     }
 
     @Override
@@ -42,12 +74,27 @@ public class FailedRecord<I, T> implements FailedCondition {
         return actualValue;
     }
 
+    @Override
+    public String getExpectationName() {
+        return expectation == null ? expectationName : expectation.getName();
+    }
+
+    /**
+     * Gets expectation that failed.
+     *
+     * @return - expectation; null in case it is unknown
+     */
+    Expectation<?, ?> getExpectation() {
+        return expectation;
+    }
+
     @Override
     public String toString() {
         return "FailedRecord{" +
                 "itemId=" + itemId +
                 ", expectedValue=" + expectedValue +
                 ", actualValue=" + actualValue +
+                ", expectationName=" + getExpectationName() +
                 '}';
     }
 }
@@ -0,0 +1,232 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.FailureSummary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link FailureSummary} class.
+ * Keeps top actual values by the space saving algorithm and a reservoir sample of failed conditions,
+ * so its memory use is bounded by the count of top values and the sample size.
+ * Counters of top values are kept in buckets of equal counts ordered by count, so both an increment
+ * and an eviction of the least frequent value take constant time.
+ */
+class FailureAggregate implements FailureSummary {
+
+    private final Expectation<?, ?> expectation;
+    private final int topValues;
+    private final int sampleSize;
+    private final LongAdder failureCount = new LongAdder();
+    private final Map<Object, Counter> valueCounts = new HashMap<>();
+    private final List<FailedCondition> sample = new ArrayList<>();
+    private long sampledCount;
+    private Bucket minimum;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param expectation - expectation that failed
+     * @param topValues   - count of top actual values to keep
+     * @param sampleSize  - size of the sample of failed conditions
+     */
+    FailureAggregate(Expectation<?, ?> expectation, int topValues, int sampleSize) {
+        this.expectation = expectation;
+        this.topValues = topValues;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Adds a failed condition of the expectation to the aggregate.
+     *
+     * @param failedCondition - failed condition item
+     */
+    void add(FailedCondition failedCondition) {
+        failureCount.increment();
+        synchronized (this) {
+            countValue(failedCondition.getActualValue());
+            sampleCondition(failedCondition);
+        }
+    }
+
+    private void countValue(Object value) {
+        final var counter = valueCounts.get(value);
+        if (counter != null) {
+            increment(counter);
+        } else if (valueCounts.size() < topValues) {
+            final var added = new Counter(value);
+            if (minimum == null || minimum.count != 1) {
+                final var bucket = new Bucket(1);
+                bucket.next = minimum;
+                if (minimum != null) {
+                    minimum.previous = bucket;
+                }
+                minimum = bucket;
+            }
+            minimum.attach(added);
+            valueCounts.put(value, added);
+        } else if (topValues > 0) {
+            final var evicted = minimum.first;
+            valueCounts.remove(evicted.value);
+            evicted.value = value;
+            valueCounts.put(value, evicted);
+            increment(evicted);
+        }
+    }
+
+    /**
+     * Moves a counter to the bucket of the next count. A bucket of a single counter is reused in place
+     * in case there is no bucket of the next count yet.
+     *
+     * @param counter - counter to increment
+     */
+    private void increment(Counter counter) {
+        final var bucket = counter.bucket;
+        final var count = bucket.count + 1;
+        final var next = bucket.next;
+        if (bucket.first == counter && counter.next == null && (next == null || next.count != count)) {
+            bucket.count = count;
+            return;
+        }
+        bucket.detach(counter);
+        if (next != null && next.count == count) {
+            next.attach(counter);
+        } else {
+            final var added = new Bucket(count);
+            added.previous = bucket;
+            added.next = next;
+            if (next != null) {
+                next.previous = added;
+            }
+            bucket.next = added;
+            added.attach(counter);
+        }
+        if (bucket.first == null) {
+            unlink(bucket);
+        }
+    }
+
+    private void unlink(Bucket bucket) {
+        if (bucket.previous == null) {
+            minimum = bucket.next;
+        } else {
+            bucket.previous.next = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.previous = bucket.previous;
+        }
+    }
+
+    private void sampleCondition(FailedCondition failedCondition) {
+        sampledCount++;
+        if (sample.size() < sampleSize) {
+            sample.add(failedCondition);
+            return;
+        }
+        final var index = ThreadLocalRandom.current().nextLong(sampledCount);
+        if (index < sampleSize) {
+            sample.set((int) index, failedCondition);
+        }
+    }
+
+    @Override
+    public Expectation<?, ?> getExpectation() {
+        return expectation;
+    }
+
+    @Override
+    public String getExpectationName() {
+        return expectation == null ? null : expectation.getName();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    @Override
+    public synchronized Map<Object, Long> getTopActualValues() {
+        final Map<Object, Long> topActualValues = new LinkedHashMap<>();
+        var maximum = minimum;
+        while (maximum != null && maximum.next != null) {
+            maximum = maximum.next;
+        }
+        for (var bucket = maximum; bucket != null; bucket = bucket.previous) {
+            for (var counter = bucket.first; counter != null; counter = counter.next) {
+                topActualValues.put(counter.value, bucket.count);
+            }
+        }
+        return topActualValues;
+    }
+
+    @Override
+    public synchronized List<FailedCondition> getSample() {
+        return new ArrayList<>(sample);
+    }
+
+    @Override
+    public String toString() {
+        return "FailureAggregate{" +
+                "expectationName=" + getExpectationName() +
+                ", failureCount=" + failureCount +
+                ", topActualValues=" + getTopActualValues() +
+                '}';
+    }
+
+    /**
+     * Counter of an actual value, linked with other counters of the same count.
+     */
+    private static final class Counter {
+
+        private Object value;
+        private Bucket bucket;
+        private Counter previous;
+        private Counter next;
+
+        private Counter(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Bucket of counters of the same count, linked with buckets of other counts in ascending order.
+     */
+    private static final class Bucket {
+
+        private long count;
+        private Counter first;
+        private Bucket previous;
+        private Bucket next;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+
+        private void attach(Counter counter) {
+            counter.bucket = this;
+            counter.previous = null;
+            counter.next = first;
+            if (first != null) {
+                first.previous = counter;
+            }
+            first = counter;
+        }
+
+        private void detach(Counter counter) {
+            if (counter.previous == null) {
+                first = counter.next;
+            } else {
+                counter.previous.next = counter.next;
+            }
+            if (counter.next != null) {
+                counter.next.previous = counter.previous;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Chunked buffer of failed conditions written by a single thread.
+ * Lock of the buffer is taken by its writer only, except when the buffer is drained, so it is not contended.
+ */
+class FailureBuffer {
+
+    /**
+     * Size of a chunk of the buffer.
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    private final int[] orderKey;
+    private final List<FailedCondition[]> chunks = new ArrayList<>();
+    private FailedCondition[] chunk;
+    private int chunkSize;
+    private boolean registered;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param orderKey - order key of the buffer; null for buffers without order
+     */
+    FailureBuffer(int[] orderKey) {
+        this.orderKey = orderKey;
+    }
+
+    /**
+     * Adds a failed condition to the buffer.
+     *
+     * @param failedCondition - failed condition item
+     */
+    synchronized void add(FailedCondition failedCondition) {
+        if (chunk == null || chunkSize == chunk.length) {
+            chunk = new FailedCondition[CHUNK_SIZE];
+            chunkSize = 0;
+            chunks.add(chunk);
+        }
+        chunk[chunkSize++] = failedCondition;
+    }
+
+    /**
+     * Passes all buffered failed conditions to a consumer in the order they were added and clears the buffer.
+     *
+     * @param consumer - consumer of failed conditions
+     */
+    synchronized void drainTo(Consumer<FailedCondition> consumer) {
+        for (FailedCondition[] drainedChunk : chunks) {
+            final var size = drainedChunk == chunk ? chunkSize : drainedChunk.length;
+            for (var i = 0; i < size; i++) {
+                consumer.accept(drainedChunk[i]);
+            }
+        }
+        chunks.clear();
+        chunk = null;
+        chunkSize = 0;
+    }
+
+    /**
+     * Marks the buffer as registered by the result.
+     *
+     * @return - true in case the buffer was not registered before
+     */
+    boolean register() {
+        if (registered) {
+            return false;
+        }
+        registered = true;
+        return true;
+    }
+
+    /**
+     * Gets order key of the buffer.
+     *
+     * @return - order key; null for buffers without order
+     */
+    int[] getOrderKey() {
+        return orderKey;
+    }
+}
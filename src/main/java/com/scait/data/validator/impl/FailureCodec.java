@@ -0,0 +1,226 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary encoding of failed conditions: item id, expectation name, expected and actual values.
+ * Numbers are written as variable length integers, strings as UTF-8 bytes and values of other types
+ * with Java serialization, so such values should be {@link Serializable}.
+ * Decoded failed conditions are {@link FailedRecord} instances that keep the name of the expectation only.
+ */
+final class FailureCodec {
+
+    private static final byte NULL = 0;
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte FLOAT = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte STRING = 6;
+    private static final byte CHARACTER = 7;
+    private static final byte BIG_DECIMAL = 8;
+    private static final byte SERIALIZED = 9;
+
+    private FailureCodec() {
+        //No op.
+    }
+
+    /**
+     * Writes a failed condition.
+     *
+     * @param output          - output to write to
+     * @param failedCondition - failed condition
+     * @throws IOException - in case the output cannot be written
+     */
+    static void write(DataOutput output, FailedCondition failedCondition) throws IOException {
+        writeValue(output, failedCondition.getItemId());
+        writeValue(output, failedCondition.getExpectationName());
+        writeValue(output, failedCondition.getExpectedValue());
+        writeValue(output, failedCondition.getActualValue());
+    }
+
+    /**
+     * Reads a failed condition at the position of the buffer and moves the position after it.
+     *
+     * @param buffer - buffer to read from
+     * @return - failed condition
+     */
+    static FailedCondition read(ByteBuffer buffer) {
+        final var itemId = readValue(buffer);
+        final var expectationName = (String) readValue(buffer);
+        final var expectedValue = readValue(buffer);
+        final var actualValue = readValue(buffer);
+        return new FailedRecord<>(itemId, expectedValue, actualValue, expectationName);
+    }
+
+    /**
+     * Reads item id of a failed condition at the position of the buffer, without moving the position.
+     *
+     * @param buffer - buffer to read from
+     * @return - item id
+     */
+    static Object readItemId(ByteBuffer buffer) {
+        return readValue(buffer.duplicate());
+    }
+
+    /**
+     * Writes a value with a tag of its type.
+     *
+     * @param output - output to write to
+     * @param value  - value to write
+     * @throws IOException - in case the output cannot be written
+     */
+    static void writeValue(DataOutput output, Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            writeVarLong(output, (Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            writeVarLong(output, (Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Character) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) value);
+        } else if (value.getClass() == BigDecimal.class) {
+            output.writeByte(BIG_DECIMAL);
+            writeVarLong(output, ((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZED);
+            final var bytes = new ByteArrayOutputStream();
+            try (var objectOutput = new ObjectOutputStream(bytes)) {
+                objectOutput.writeObject(value);
+            }
+            writeBytes(output, bytes.toByteArray());
+        } else {
+            throw new IllegalArgumentException("Encoded value should be Serializable: " + value);
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #writeValue(DataOutput, Object)} and moves the position after it.
+     *
+     * @param buffer - buffer to read from
+     * @return - value
+     */
+    static Object readValue(ByteBuffer buffer) {
+        final var tag = buffer.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return (int) readVarLong(buffer);
+            case LONG:
+                return readVarLong(buffer);
+            case DOUBLE:
+                return buffer.getDouble();
+            case FLOAT:
+                return buffer.getFloat();
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case STRING:
+                return new String(readBytes(buffer), StandardCharsets.UTF_8);
+            case CHARACTER:
+                return buffer.getChar();
+            case BIG_DECIMAL:
+                final var scale = (int) readVarLong(buffer);
+                return new BigDecimal(new BigInteger(readBytes(buffer)), scale);
+            case SERIALIZED:
+                try (var input = new ObjectInputStream(new ByteArrayInputStream(readBytes(buffer)))) {
+                    return input.readObject();
+                } catch (IOException | ClassNotFoundException e) {
+                    throw new IllegalStateException("Unable to decode serialized value", e);
+                }
+            default:
+                throw new IllegalStateException("Unknown value tag " + tag + " at " + (buffer.position() - 1));
+        }
+    }
+
+    /**
+     * Writes a zigzag encoded variable length integer: 7 bits per byte, small absolute values take one byte.
+     *
+     * @param output - output to write to
+     * @param value  - value to write
+     * @throws IOException - in case the output cannot be written
+     */
+    static void writeVarLong(DataOutput output, long value) throws IOException {
+        var bits = (value << 1) ^ (value >> 63);
+        while ((bits & ~0x7FL) != 0) {
+            output.writeByte((int) (bits & 0x7F) | 0x80);
+            bits >>>= 7;
+        }
+        output.writeByte((int) bits);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarLong(DataOutput, long)}.
+     *
+     * @param buffer - buffer to read from
+     * @return - value
+     */
+    static long readVarLong(ByteBuffer buffer) {
+        var bits = 0L;
+        for (var shift = 0; ; shift += 7) {
+            final var next = buffer.get();
+            bits |= (long) (next & 0x7F) << shift;
+            if (next >= 0) {
+                return (bits >>> 1) ^ -(bits & 1);
+            }
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarLong(DataOutput, long)} from an input.
+     *
+     * @param input - input to read from
+     * @return - value
+     * @throws IOException - in case the input cannot be read
+     */
+    static long readVarLong(DataInput input) throws IOException {
+        var bits = 0L;
+        for (var shift = 0; ; shift += 7) {
+            final var next = input.readByte();
+            bits |= (long) (next & 0x7F) << shift;
+            if (next >= 0) {
+                return (bits >>> 1) ^ -(bits & 1);
+            }
+        }
+    }
+
+    private static void writeBytes(DataOutput output, byte[] bytes) throws IOException {
+        writeVarLong(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        final var bytes = new byte[(int) readVarLong(buffer)];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,62 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.FailureSink;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Factory of {@link FailureSink} adapters.
+ */
+public final class FailureSinks {
+
+    private FailureSinks() {
+        //No op.
+    }
+
+    /**
+     * Creates a sink that passes failed conditions to a consumer.
+     * Consumer should be thread-safe in parallel validation mode.
+     *
+     * @param consumer - consumer of failed conditions
+     * @return - failure sink
+     */
+    public static FailureSink of(Consumer<? super FailedCondition> consumer) {
+        return consumer::accept;
+    }
+
+    /**
+     * Creates a sink that puts failed conditions to a queue.
+     * Validation waits for free space in case of a bounded queue.
+     *
+     * @param queue - queue of failed conditions
+     * @return - failure sink
+     */
+    public static FailureSink toQueue(BlockingQueue<? super FailedCondition> queue) {
+        return (FailedCondition failedCondition) -> {
+            try {
+                queue.put(failedCondition);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while putting failed condition to the queue", e);
+            }
+        };
+    }
+
+    /**
+     * Creates a sink that publishes failed conditions to a subscriber.
+     * Subscriber is subscribed immediately; validation waits for the subscriber demand before each failed
+     * condition and failed conditions are dropped after the subscription is cancelled.
+     * Subscriber is completed when validation is finished.
+     *
+     * @param subscriber - subscriber of failed conditions
+     * @return - failure sink
+     */
+    public static FailureSink toSubscriber(Flow.Subscriber<? super FailedCondition> subscriber) {
+        final var sink = new SubscriberFailureSink(subscriber);
+        subscriber.onSubscribe(sink);
+        return sink;
+    }
+}
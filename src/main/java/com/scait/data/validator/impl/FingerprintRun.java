@@ -0,0 +1,113 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.ValidationResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fingerprints of a single validation run: skips items that are unchanged since the previous run
+ * of a {@link FingerprintStore}, carrying their failed conditions forward, and collects outcomes of all items
+ * of the run, which replace the store once the run is completed.
+ * Store of a plan of other expectations is taken as empty, so every item is validated and the store is replaced.
+ * Outcomes are recorded under the lock of the run, so parallel validation serializes on it.
+ *
+ * @param <T> - type of entity for validation
+ */
+class FingerprintRun<T> {
+
+    private final ToLongFunction<? super T> fingerprint;
+    private final FingerprintStore store;
+    private final List<String> signature;
+    private final LongLongHashMap previousFingerprints;
+    private final Map<Long, List<FailedCondition>> previousFailures;
+    private final LongLongHashMap fingerprints;
+    private final Map<Long, List<FailedCondition>> failures = new HashMap<>();
+    private final LongAdder skippedCount = new LongAdder();
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param fingerprint - fingerprint of the content of an item
+     * @param store       - store of the previous run
+     * @param signature   - signature of expectations of the plan, see {@link CompiledExpectations#getSignature()}
+     */
+    FingerprintRun(ToLongFunction<? super T> fingerprint, FingerprintStore store, List<String> signature) {
+        this.fingerprint = fingerprint;
+        this.store = store;
+        this.signature = signature;
+        final var sameSignature = signature.equals(store.getSignature());
+        this.previousFingerprints = sameSignature ? store.getFingerprints() : new LongLongHashMap(0);
+        this.previousFailures = sameSignature ? store.getFailures() : Map.of();
+        this.fingerprints = new LongLongHashMap(previousFingerprints.size());
+    }
+
+    /**
+     * Gets fingerprint of an item. Bits of the fingerprint are mixed before the bit of failed validation
+     * is cleared, so fingerprints that differ in the lowest bit only stay different.
+     *
+     * @param item - verification item
+     * @return - fingerprint of the item
+     */
+    long fingerprintOf(T item) {
+        return LongHashSet.mix(fingerprint.applyAsLong(item)) & ~FingerprintStore.FAILED;
+    }
+
+    /**
+     * Skips an item in case its fingerprint is the same as in the previous run
+     * and adds its previous failed conditions to the result within the failure budget of the run.
+     *
+     * @param key              - key of the item id
+     * @param itemFingerprint  - fingerprint of the item
+     * @param validationResult - result to record failed conditions
+     * @param run              - validation run
+     * @return - true in case the item is unchanged and should not be validated
+     */
+    boolean carryForward(long key, long itemFingerprint, ValidationResult validationResult,
+                         ValidationRun<T> run) {
+        if (!previousFingerprints.containsKey(key)) {
+            return false;
+        }
+        final var previous = previousFingerprints.get(key, 0);
+        if ((previous & ~FingerprintStore.FAILED) != itemFingerprint) {
+            return false;
+        }
+        final var itemConditions = (previous & FingerprintStore.FAILED) != 0
+                ? previousFailures.getOrDefault(key, List.of()) : List.<FailedCondition>of();
+        for (FailedCondition failedCondition : itemConditions) {
+            if (run.acquire()) {
+                validationResult.addFailedCondition(failedCondition);
+            }
+        }
+        record(key, itemFingerprint, itemConditions);
+        skippedCount.increment();
+        return true;
+    }
+
+    /**
+     * Records outcome of an item of the run.
+     *
+     * @param key             - key of the item id
+     * @param itemFingerprint - fingerprint of the item
+     * @param itemConditions  - failed conditions of the item
+     */
+    synchronized void record(long key, long itemFingerprint, List<FailedCondition> itemConditions) {
+        if (itemConditions.isEmpty()) {
+            fingerprints.put(key, itemFingerprint);
+        } else {
+            fingerprints.put(key, itemFingerprint | FingerprintStore.FAILED);
+            failures.put(key, itemConditions);
+        }
+    }
+
+    /**
+     * Replaces content of the store by outcomes of the run.
+     */
+    synchronized void complete() {
+        store.replace(signature, fingerprints, failures, skippedCount.sum());
+    }
+}
@@ -0,0 +1,246 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fingerprints and outcomes of items of the last completed validation run, keyed by item id,
+ * see {@link com.scait.data.validator.Validator#skipUnchanged}.
+ * Fingerprint of every item is kept in a primitive {@code long} to {@code long} map, together with a flag
+ * of failed validation; failed conditions are kept for failed items only.
+ * Integral item ids are keys themselves, other item ids are hashed to 64 bits,
+ * so items of colliding ids with equal fingerprints are taken as unchanged.
+ * Store is replaced when a run completes without being stopped, so a stopped run keeps the previous store.
+ * Store keeps the signature of expectations of the run that produced it, so a run of changed expectations
+ * does not carry forward outcomes of other rules.
+ */
+public final class FingerprintStore {
+
+    /**
+     * Bit of a stored fingerprint that flags failed validation of the item.
+     */
+    static final long FAILED = 1L;
+
+    private static final int MAGIC = 0x46505354;
+    private static final int VERSION = 2;
+
+    private List<String> signature;
+    private LongLongHashMap fingerprints;
+    private Map<Long, List<FailedCondition>> failures;
+    private long skippedCount;
+
+    /**
+     * Default constructor.
+     */
+    public FingerprintStore() {
+        this(List.of(), new LongLongHashMap(0), new HashMap<>());
+    }
+
+    private FingerprintStore(List<String> signature, LongLongHashMap fingerprints,
+                             Map<Long, List<FailedCondition>> failures) {
+        this.signature = signature;
+        this.fingerprints = fingerprints;
+        this.failures = failures;
+    }
+
+    /**
+     * Loads a store saved by {@link #save(Path)}.
+     *
+     * @param path - path of the file
+     * @return - loaded store; empty store in case the file does not exist or is saved by a previous version
+     * @throws IOException - in case the file cannot be read or is not a saved store
+     */
+    public static FingerprintStore load(Path path) throws IOException {
+        if (Files.notExists(path)) {
+            return new FingerprintStore();
+        }
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (input.readInt() != MAGIC) {
+                throw new IOException("File " + path + " is not a fingerprint store");
+            }
+            final var version = input.readInt();
+            if (version < VERSION) {
+                return new FingerprintStore();
+            }
+            if (version != VERSION) {
+                throw new IOException("File " + path + " is saved by unsupported version " + version);
+            }
+            final var names = input.readInt();
+            final List<String> signature = new ArrayList<>(names);
+            for (var index = 0; index < names; index++) {
+                signature.add(input.readUTF());
+            }
+            final var size = input.readInt();
+            final var fingerprints = new LongLongHashMap(size);
+            for (var index = 0; index < size; index++) {
+                fingerprints.put(input.readLong(), input.readLong());
+            }
+            final var failedItems = input.readInt();
+            final Map<Long, List<FailedCondition>> failures = new HashMap<>(failedItems * 2);
+            for (var index = 0; index < failedItems; index++) {
+                final var key = input.readLong();
+                final var count = input.readInt();
+                final var bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                final var buffer = ByteBuffer.wrap(bytes);
+                final List<FailedCondition> itemConditions = new ArrayList<>(count);
+                for (var condition = 0; condition < count; condition++) {
+                    itemConditions.add(FailureCodec.read(buffer));
+                }
+                failures.put(key, itemConditions);
+            }
+            return new FingerprintStore(List.copyOf(signature), fingerprints, failures);
+        }
+    }
+
+    /**
+     * Saves the store to a file, replacing the file.
+     * Values of failed conditions are encoded by type, values of other than primitive wrapper, String
+     * and BigDecimal types should be {@link java.io.Serializable}.
+     *
+     * @param path - path of the file
+     * @throws IOException - in case the file cannot be written
+     */
+    public synchronized void save(Path path) throws IOException {
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(signature.size());
+            for (String name : signature) {
+                output.writeUTF(name);
+            }
+            output.writeInt(fingerprints.size());
+            try {
+                fingerprints.forEach((long key, long fingerprint) -> {
+                    try {
+                        output.writeLong(key);
+                        output.writeLong(fingerprint);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            output.writeInt(failures.size());
+            final var encoded = new ByteArrayOutputStream();
+            final var encodedOutput = new DataOutputStream(encoded);
+            for (Map.Entry<Long, List<FailedCondition>> entry : failures.entrySet()) {
+                encoded.reset();
+                for (FailedCondition failedCondition : entry.getValue()) {
+                    FailureCodec.write(encodedOutput, failedCondition);
+                }
+                output.writeLong(entry.getKey());
+                output.writeInt(entry.getValue().size());
+                output.writeInt(encoded.size());
+                encoded.writeTo(output);
+            }
+        }
+    }
+
+    /**
+     * Gets count of items of the store.
+     *
+     * @return - count of items
+     */
+    public synchronized int size() {
+        return fingerprints.size();
+    }
+
+    /**
+     * Gets count of failed items of the store.
+     *
+     * @return - count of failed items
+     */
+    public synchronized int getFailedItemCount() {
+        return failures.size();
+    }
+
+    /**
+     * Gets count of unchanged items that were skipped by the last completed run.
+     *
+     * @return - count of skipped items
+     */
+    public synchronized long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Gets key of an item id in the store.
+     *
+     * @param itemId - item id
+     * @return - key of the item id
+     */
+    static long keyOf(Object itemId) {
+        if (itemId instanceof Long || itemId instanceof Integer || itemId instanceof Short
+                || itemId instanceof Byte) {
+            return ((Number) itemId).longValue();
+        }
+        if (itemId instanceof CharSequence) {
+            final var chars = (CharSequence) itemId;
+            var hash = 0xcbf29ce484222325L;
+            for (var index = 0; index < chars.length(); index++) {
+                hash = (hash ^ chars.charAt(index)) * 0x100000001b3L;
+            }
+            return LongHashSet.mix(hash);
+        }
+        return itemId == null ? 0 : LongHashSet.mix(itemId.hashCode());
+    }
+
+    /**
+     * Gets signature of expectations of the run that produced the store.
+     *
+     * @return - names of expectations in order, see {@link CompiledExpectations#getSignature()}; empty for a new store
+     */
+    synchronized List<String> getSignature() {
+        return signature;
+    }
+
+    /**
+     * Gets fingerprints of the store, which are not modified once the store is replaced.
+     *
+     * @return - fingerprints of items
+     */
+    synchronized LongLongHashMap getFingerprints() {
+        return fingerprints;
+    }
+
+    /**
+     * Gets failed conditions of failed items of the store, which are not modified once the store is replaced.
+     *
+     * @return - failed conditions by item keys
+     */
+    synchronized Map<Long, List<FailedCondition>> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Replaces content of the store by the outcomes of a completed run.
+     *
+     * @param signature    - signature of expectations of the run
+     * @param fingerprints - fingerprints of items of the run
+     * @param failures     - failed conditions of failed items of the run
+     * @param skippedCount - count of unchanged items that were skipped by the run
+     */
+    synchronized void replace(List<String> signature, LongLongHashMap fingerprints,
+                              Map<Long, List<FailedCondition>> failures, long skippedCount) {
+        this.signature = signature;
+        this.fingerprints = fingerprints;
+        this.failures = failures;
+        this.skippedCount = skippedCount;
+    }
+}
@@ -0,0 +1,93 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Bounds;
+import com.scait.data.validator.Difference;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Expectation of {@code int} values that is evaluated without boxing.
+ * Values are boxed only to build a failed condition.
+ *
+ * @param <T> - Type of entity on validation
+ */
+public final class IntExpectation<T> extends Expectation<T, Integer> {
+
+    private final ToIntFunction<T> expectedValueProvider;
+    private final ToIntFunction<T> valueProvider;
+    private final Difference difference;
+    private final ToIntFunction<T> upperValueProvider;
+    private final Difference upperDifference;
+
+    private IntExpectation(ToIntFunction<T> expectedValueProvider, ToIntFunction<T> valueProvider,
+                           Difference difference, ToIntFunction<T> upperValueProvider,
+                           Difference upperDifference) {
+        super(expectedValueProvider::applyAsInt, valueProvider::applyAsInt, Integer::compare, difference);
+        this.expectedValueProvider = expectedValueProvider;
+        this.valueProvider = valueProvider;
+        this.difference = difference;
+        this.upperValueProvider = upperValueProvider;
+        this.upperDifference = upperDifference;
+    }
+
+    @Override
+    public ExpectationOutcome<Integer> evaluate(T item) {
+        final int expectedValue = expectedValueProvider.applyAsInt(item);
+        final int actualValue = valueProvider.applyAsInt(item);
+        if (!difference.test(Integer.compare(actualValue, expectedValue))) {
+            return ExpectationOutcome.failed(expectedValue, actualValue);
+        }
+        if (upperValueProvider != null) {
+            final int upperValue = upperValueProvider.applyAsInt(item);
+            if (!upperDifference.test(Integer.compare(actualValue, upperValue))) {
+                return ExpectationOutcome.failed(upperValue, actualValue);
+            }
+        }
+        return ExpectationOutcome.justified();
+    }
+
+    /**
+     * Constructs new int expectation.
+     *
+     * @param expectedValue - expected value for verification
+     * @param valueProvider - actual value provider
+     * @param difference    - expected difference for values
+     * @param <T>           - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> IntExpectation<T> of(int expectedValue, ToIntFunction<T> valueProvider,
+                                           Difference difference) {
+        return new IntExpectation<>((T item) -> expectedValue, valueProvider, difference, null, null);
+    }
+
+    /**
+     * Constructs new int expectation.
+     *
+     * @param expectedValueProvider - provider of expected value for verification
+     * @param valueProvider         - actual value provider
+     * @param difference            - expected difference for values
+     * @param <T>                   - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> IntExpectation<T> of(
+            ToIntFunction<T> expectedValueProvider, ToIntFunction<T> valueProvider, Difference difference) {
+        return new IntExpectation<>(expectedValueProvider, valueProvider, difference, null, null);
+    }
+
+    /**
+     * Constructs new int range expectation.
+     * Expected value of a failed condition is the bound that is violated.
+     *
+     * @param lowerValue    - lower bound for verification
+     * @param upperValue    - upper bound for verification
+     * @param valueProvider - actual value provider
+     * @param bounds        - whether bounds are included
+     * @param <T>           - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> IntExpectation<T> between(
+            int lowerValue, int upperValue, ToIntFunction<T> valueProvider, Bounds bounds) {
+        return new IntExpectation<>((T item) -> lowerValue, valueProvider, bounds.getLowerDifference(),
+                (T item) -> upperValue, bounds.getUpperDifference());
+    }
+}
@@ -0,0 +1,108 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.LatencyStatistics;
+import com.scait.data.validator.MetricsListener;
+import com.scait.data.validator.ValidationMetrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Listener of validation metrics that publishes the last reported metrics as a platform MBean,
+ * so they can be read by JMX clients, e.g. JConsole or a metrics scraper.
+ * The MBean is registered on construction and unregistered on {@link #close()}.
+ */
+public class JmxMetricsListener implements MetricsListener, ValidationMetricsMXBean, AutoCloseable {
+
+    private final ObjectName objectName;
+    private volatile ValidationMetrics metrics;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param objectName - JMX object name of the MBean, e.g. "com.scait.data.validator:type=Metrics,name=orders"
+     * @throws IllegalArgumentException - in case the name is malformed or already registered
+     */
+    public JmxMetricsListener(String objectName) {
+        try {
+            this.objectName = new ObjectName(objectName);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, this.objectName);
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Unable to register validation metrics MBean " + objectName, e);
+        }
+    }
+
+    @Override
+    public void onMetrics(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public long getProcessedItems() {
+        final var current = metrics;
+        return current == null ? 0 : current.getProcessedItems();
+    }
+
+    @Override
+    public double getItemsPerSecond() {
+        final var current = metrics;
+        return current == null ? 0 : current.getItemsPerSecond();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        final var current = metrics;
+        return current == null ? 0 : current.getQueueDepth();
+    }
+
+    @Override
+    public long getAllocatedBytesPerItem() {
+        final var current = metrics;
+        return current == null ? -1 : current.getAllocatedBytesPerItem();
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencyNanos() {
+        return latencies((LatencyStatistics latency) -> latency.getPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        return latencies((LatencyStatistics latency) -> latency.getPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencyNanos() {
+        return latencies(LatencyStatistics::getMax);
+    }
+
+    private Map<String, Long> latencies(Function<LatencyStatistics, Duration> latencyProvider) {
+        final var current = metrics;
+        if (current == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Long> latencies = new LinkedHashMap<>();
+        for (LatencyStatistics latency : current.getExpectationLatencies()) {
+            latencies.put(latency.getExpectationName(), latencyProvider.apply(latency).toNanos());
+        }
+        return latencies;
+    }
+
+    /**
+     * Unregisters the MBean.
+     */
+    @Override
+    public void close() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to unregister validation metrics MBean " + objectName, e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.scait.data.validator.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Provider of expected values by key of an item with a bounded least recently used cache.
+ * The cache is split into segments by key hash, so parallel lookups of different keys rarely contend.
+ * Values are loaded out of the segment lock, so a slow loader does not block lookups of cached keys.
+ *
+ * @param <T> - Type of entity on verification
+ * @param <K> - Type of key
+ * @param <R> - Type of expected value
+ */
+class KeyedCache<T, K, R> implements Function<T, R> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Function<T, K> keyProvider;
+    private final Function<K, R> loader;
+    private final Segment<K, R>[] segments;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param keyProvider - provider of the key of an item
+     * @param loader      - loader of the expected value by key
+     * @param maxSize     - max count of cached keys
+     */
+    @SuppressWarnings("unchecked")
+    KeyedCache(Function<T, K> keyProvider, Function<K, R> loader, int maxSize) {
+        this.keyProvider = keyProvider;
+        this.loader = loader;
+        final var segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maxSize));
+        this.segments = (Segment<K, R>[]) new Segment<?, ?>[segmentCount];
+        for (var index = 0; index < segmentCount; index++) {
+            segments[index] = new Segment<>(maxSize / segmentCount);
+        }
+    }
+
+    @Override
+    public R apply(T item) {
+        final var key = keyProvider.apply(item);
+        final var segment = segmentOf(key);
+        synchronized (segment) {
+            final var cached = segment.get(key);
+            if (cached != null || segment.containsKey(key)) {
+                return cached;
+            }
+        }
+        final var loaded = loader.apply(key);
+        synchronized (segment) {
+            segment.putIfAbsent(key, loaded);
+        }
+        return loaded;
+    }
+
+    private Segment<K, R> segmentOf(K key) {
+        final var hash = key == null ? 0 : key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Segment of the cache: access ordered map that removes the least recently used key over its capacity.
+     *
+     * @param <K> - Type of key
+     * @param <R> - Type of expected value
+     */
+    private static final class Segment<K, R> extends LinkedHashMap<K, R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, R> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.LatencyStatistics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds.
+ * Every power of two range is split into 8 linear buckets, so the relative error of a recorded value is within 12.5%
+ * and the histogram takes a fixed amount of memory. Recording is lock-free: a single atomic increment of a bucket.
+ */
+class LatencyHistogram implements LatencyStatistics {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS + 1);
+
+    private final String expectationName;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param expectationName - name of the expectation
+     */
+    LatencyHistogram(String expectationName) {
+        this.expectationName = expectationName;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos - latency in nanoseconds
+     */
+    void record(long nanos) {
+        final var value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketOf(value));
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    @Override
+    public String getExpectationName() {
+        return expectationName;
+    }
+
+    @Override
+    public long getCount() {
+        var count = 0L;
+        for (var index = 0; index < BUCKETS; index++) {
+            count += buckets.get(index);
+        }
+        return count;
+    }
+
+    @Override
+    public Duration getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile should be from 0 to 100: " + percentile);
+        }
+        final var counts = new long[BUCKETS];
+        var count = 0L;
+        for (var index = 0; index < BUCKETS; index++) {
+            counts[index] = buckets.get(index);
+            count += counts[index];
+        }
+        final var rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        var seen = 0L;
+        for (var index = 0; index < BUCKETS; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(upperValueOf(index), max.get()));
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    @Override
+    public Duration getMax() {
+        return Duration.ofNanos(max.get());
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final var subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final var shift = bucket / SUB_BUCKETS - 1;
+        final var lowerValue = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerValue + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "expectationName='" + expectationName + '\'' +
+                ", count=" + getCount() +
+                ", p50=" + getPercentile(50) +
+                ", p99=" + getPercentile(99) +
+                ", max=" + getMax() +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package com.scait.data.validator.impl;
+
+/**
+ * Bloom filter of primitive {@code long} keys.
+ * Tells that a key is definitely absent with a few bit reads, so a miss does not probe a large key set.
+ * The filter is not thread-safe for writes; it is read-only once built.
+ */
+class LongBloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param expectedKeys      - expected count of keys
+     * @param falsePositiveRate - expected rate of keys that are reported as present, but are absent
+     */
+    LongBloomFilter(long expectedKeys, double falsePositiveRate) {
+        final var keys = Math.max(expectedKeys, 1);
+        final var optimalBits = (long) Math.ceil(-keys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + Long.SIZE - 1) / Long.SIZE)];
+        this.bitCount = (long) bits.length * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / keys * Math.log(2)));
+    }
+
+    /**
+     * Adds a key to the filter.
+     *
+     * @param key - key to add
+     */
+    void put(long key) {
+        final var hash = LongHashSet.mix(key);
+        final var step = LongHashSet.mix(hash) | 1;
+        for (var index = 0; index < hashCount; index++) {
+            final var bit = Math.floorMod(hash + index * step, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Checks whether a key may be in the filter.
+     *
+     * @param key - key to check
+     * @return - false in case the key is definitely absent
+     */
+    boolean mightContain(long key) {
+        final var hash = LongHashSet.mix(key);
+        final var step = LongHashSet.mix(hash) | 1;
+        for (var index = 0; index < hashCount; index++) {
+            final var bit = Math.floorMod(hash + index * step, bitCount);
+            if ((bits[(int) (bit >>> 6)] & 1L << bit) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Bounds;
+import com.scait.data.validator.Difference;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Expectation of {@code long} values that is evaluated without boxing.
+ * Values are boxed only to build a failed condition.
+ *
+ * @param <T> - Type of entity on validation
+ */
+public final class LongExpectation<T> extends Expectation<T, Long> {
+
+    private final ToLongFunction<T> expectedValueProvider;
+    private final ToLongFunction<T> valueProvider;
+    private final Difference difference;
+    private final ToLongFunction<T> upperValueProvider;
+    private final Difference upperDifference;
+
+    private LongExpectation(ToLongFunction<T> expectedValueProvider, ToLongFunction<T> valueProvider,
+                            Difference difference, ToLongFunction<T> upperValueProvider,
+                            Difference upperDifference) {
+        super(expectedValueProvider::applyAsLong, valueProvider::applyAsLong, Long::compare, difference);
+        this.expectedValueProvider = expectedValueProvider;
+        this.valueProvider = valueProvider;
+        this.difference = difference;
+        this.upperValueProvider = upperValueProvider;
+        this.upperDifference = upperDifference;
+    }
+
+    @Override
+    public ExpectationOutcome<Long> evaluate(T item) {
+        final long expectedValue = expectedValueProvider.applyAsLong(item);
+        final long actualValue = valueProvider.applyAsLong(item);
+        if (!difference.test(Long.compare(actualValue, expectedValue))) {
+            return ExpectationOutcome.failed(expectedValue, actualValue);
+        }
+        if (upperValueProvider != null) {
+            final long upperValue = upperValueProvider.applyAsLong(item);
+            if (!upperDifference.test(Long.compare(actualValue, upperValue))) {
+                return ExpectationOutcome.failed(upperValue, actualValue);
+            }
+        }
+        return ExpectationOutcome.justified();
+    }
+
+    /**
+     * Constructs new long expectation.
+     *
+     * @param expectedValue - expected value for verification
+     * @param valueProvider - actual value provider
+     * @param difference    - expected difference for values
+     * @param <T>           - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> LongExpectation<T> of(long expectedValue, ToLongFunction<T> valueProvider,
+                                            Difference difference) {
+        return new LongExpectation<>((T item) -> expectedValue, valueProvider, difference, null, null);
+    }
+
+    /**
+     * Constructs new long expectation.
+     *
+     * @param expectedValueProvider - provider of expected value for verification
+     * @param valueProvider         - actual value provider
+     * @param difference            - expected difference for values
+     * @param <T>                   - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> LongExpectation<T> of(
+            ToLongFunction<T> expectedValueProvider, ToLongFunction<T> valueProvider, Difference difference) {
+        return new LongExpectation<>(expectedValueProvider, valueProvider, difference, null, null);
+    }
+
+    /**
+     * Constructs new long range expectation.
+     * Expected value of a failed condition is the bound that is violated.
+     *
+     * @param lowerValue    - lower bound for verification
+     * @param upperValue    - upper bound for verification
+     * @param valueProvider - actual value provider
+     * @param bounds        - whether bounds are included
+     * @param <T>           - Type of entity on verification
+     * @return - constructed expectation
+     */
+    public static <T> LongExpectation<T> between(
+            long lowerValue, long upperValue, ToLongFunction<T> valueProvider, Bounds bounds) {
+        return new LongExpectation<>((T item) -> lowerValue, valueProvider, bounds.getLowerDifference(),
+                (T item) -> upperValue, bounds.getUpperDifference());
+    }
+}
@@ -0,0 +1,181 @@
+package com.scait.data.validator.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Open addressing hash set of primitive {@code long} keys with linear probing.
+ * Keys are kept without boxing in pages of heap arrays or of direct memory,
+ * so the table is not limited by the max size of a single array or buffer.
+ * The set is not thread-safe.
+ */
+class LongHashSet {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int PAGE_BITS = 27;
+    private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+
+    /**
+     * Empty slot marker; the zero key is kept out of the table.
+     */
+    private static final long EMPTY = 0L;
+
+    private final boolean offHeap;
+    private LongBuffer[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param expectedSize - expected count of keys
+     * @param offHeap      - whether keys should be kept in direct memory
+     */
+    LongHashSet(int expectedSize, boolean offHeap) {
+        this.offHeap = offHeap;
+        allocate(capacityFor(Math.max(expectedSize, 8)));
+    }
+
+    /**
+     * Adds a key to the set.
+     *
+     * @param key - key to add
+     * @return - true in case the key was not in the set
+     */
+    boolean add(long key) {
+        if (key == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        if ((size + 1L) * 4 > (mask + 1L) * 3) {
+            grow();
+        }
+        if (!insert(table, mask, key)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Checks whether the set contains a key.
+     *
+     * @param key - key to check
+     * @return - true in case the key is in the set
+     */
+    boolean contains(long key) {
+        if (key == EMPTY) {
+            return containsZero;
+        }
+        var slot = (int) mix(key) & mask;
+        while (true) {
+            final var current = get(table, slot);
+            if (current == key) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    /**
+     * Gets count of keys in the set.
+     *
+     * @return - count of keys
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Passes every key of the set to a consumer.
+     *
+     * @param consumer - consumer of keys
+     */
+    void forEach(LongConsumer consumer) {
+        if (containsZero) {
+            consumer.accept(EMPTY);
+        }
+        for (var slot = 0; slot <= mask; slot++) {
+            final var key = get(table, slot);
+            if (key != EMPTY) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Mixes bits of a key, so sequential keys are spread over the table (finalizer of MurmurHash3).
+     *
+     * @param key - key to mix
+     * @return - hash of the key
+     */
+    static long mix(long key) {
+        var hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long get(LongBuffer[] table, int slot) {
+        return table[slot >>> PAGE_BITS].get(slot & PAGE_MASK);
+    }
+
+    private static boolean insert(LongBuffer[] table, int mask, long key) {
+        var slot = (int) mix(key) & mask;
+        while (true) {
+            final var current = get(table, slot);
+            if (current == key) {
+                return false;
+            }
+            if (current == EMPTY) {
+                table[slot >>> PAGE_BITS].put(slot & PAGE_MASK, key);
+                return true;
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    private void grow() {
+        final var oldTable = table;
+        final var oldCapacity = mask + 1;
+        allocate(oldCapacity * 2);
+        for (var slot = 0; slot < oldCapacity; slot++) {
+            final var key = get(oldTable, slot);
+            if (key != EMPTY) {
+                insert(table, mask, key);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Key set is too large: capacity " + capacity + " exceeds " + MAX_CAPACITY);
+        }
+        final var pageSize = Math.min(capacity, PAGE_MASK + 1);
+        table = new LongBuffer[capacity / pageSize];
+        for (var page = 0; page < table.length; page++) {
+            table[page] = offHeap
+                    ? ByteBuffer.allocateDirect(pageSize * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer()
+                    : LongBuffer.wrap(new long[pageSize]);
+        }
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        final var minCapacity = (long) expectedSize * 4 / 3 + 1;
+        return minCapacity >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit((int) minCapacity - 1) << 1;
+    }
+}
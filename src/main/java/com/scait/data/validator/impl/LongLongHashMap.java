@@ -0,0 +1,172 @@
+package com.scait.data.validator.impl;
+
+/**
+ * Open addressing hash map of primitive {@code long} keys to {@code long} values with linear probing.
+ * Keys and values are kept in parallel heap arrays without boxing.
+ * The map is not thread-safe.
+ */
+class LongLongHashMap {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Empty slot marker; the zero key is kept out of the table.
+     */
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+    private long zeroValue;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param expectedSize - expected count of keys
+     */
+    LongLongHashMap(int expectedSize) {
+        allocate(capacityFor(Math.max(expectedSize, 8)));
+    }
+
+    /**
+     * Associates a value with a key, replacing the previous value of the key.
+     *
+     * @param key   - key
+     * @param value - value
+     */
+    void put(long key, long value) {
+        if (key == EMPTY) {
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        if ((size + 1L) * 4 > (mask + 1L) * 3) {
+            grow();
+        }
+        if (insert(keys, values, mask, key, value)) {
+            size++;
+        }
+    }
+
+    /**
+     * Checks whether the map contains a key.
+     *
+     * @param key - key to check
+     * @return - true in case the key is in the map
+     */
+    boolean containsKey(long key) {
+        return key == EMPTY ? containsZero : keys[slotOf(key)] == key;
+    }
+
+    /**
+     * Gets value of a key.
+     *
+     * @param key          - key
+     * @param missingValue - value to return in case the key is not in the map
+     * @return - value of the key
+     */
+    long get(long key, long missingValue) {
+        if (key == EMPTY) {
+            return containsZero ? zeroValue : missingValue;
+        }
+        final var slot = slotOf(key);
+        return keys[slot] == key ? values[slot] : missingValue;
+    }
+
+    /**
+     * Gets count of keys in the map.
+     *
+     * @return - count of keys
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Passes every entry of the map to a consumer.
+     *
+     * @param consumer - consumer of entries
+     */
+    void forEach(EntryConsumer consumer) {
+        if (containsZero) {
+            consumer.accept(EMPTY, zeroValue);
+        }
+        for (var slot = 0; slot <= mask; slot++) {
+            if (keys[slot] != EMPTY) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Finds the slot of a key: the slot that holds the key or the empty slot it would be inserted to.
+     */
+    private int slotOf(long key) {
+        var slot = (int) LongHashSet.mix(key) & mask;
+        while (keys[slot] != key && keys[slot] != EMPTY) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    private static boolean insert(long[] keys, long[] values, int mask, long key, long value) {
+        var slot = (int) LongHashSet.mix(key) & mask;
+        while (true) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return false;
+            }
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                values[slot] = value;
+                return true;
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    private void grow() {
+        final var oldKeys = keys;
+        final var oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (var slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                insert(keys, values, mask, oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Map is too large: capacity " + capacity + " exceeds " + MAX_CAPACITY);
+        }
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        final var minCapacity = (long) expectedSize * 4 / 3 + 1;
+        return minCapacity >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit((int) minCapacity - 1) << 1;
+    }
+
+    /**
+     * Consumer of map entries.
+     */
+    @FunctionalInterface
+    interface EntryConsumer {
+
+        /**
+         * Accepts an entry of the map.
+         *
+         * @param key   - key
+         * @param value - value
+         */
+        void accept(long key, long value);
+    }
+}
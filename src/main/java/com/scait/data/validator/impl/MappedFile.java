@@ -0,0 +1,153 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.RecordView;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * File source of records that are read straight from memory mapped regions of the file, see {@link RecordView}.
+ * Regions end at record boundaries, so a file larger than a single mapping is split into whole records,
+ * and parallel validation splits regions into chunks of records for its workers.
+ * Records are not materialized, so passing records do not allocate; item id should be taken from the view,
+ * e.g. {@code setItemId(RecordView::getOffset)}.
+ * Mappings are released by the garbage collector once the file is closed and its streams are not used.
+ */
+public final class MappedFile implements AutoCloseable {
+
+    /**
+     * Max size of a mapped region.
+     */
+    static final long MAX_REGION_SIZE = 1L << 30;
+
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final RecordFormat format;
+    private final ByteBuffer[] regions;
+    private final long[] regionOffsets;
+
+    private MappedFile(FileChannel channel, RecordFormat format, long regionSize) throws IOException {
+        this.channel = channel;
+        this.format = format;
+        final var size = channel.size();
+        final var binary = format.getLayout() == RecordFormat.Layout.BINARY;
+        var start = 0L;
+        if (format.hasHeader()) {
+            start = binary ? Math.min(size, format.getRecordLength()) : lineStart(1, size);
+        }
+        if (binary && (size - start) % format.getRecordLength() != 0) {
+            throw new IOException("Size of binary file " + size + " is not a multiple of record length "
+                    + format.getRecordLength());
+        }
+        final var recordsPerRegion = binary ? regionSize / format.getRecordLength() : 0;
+        if (binary && recordsPerRegion == 0) {
+            throw new IllegalArgumentException("Region size " + regionSize + " is less than record length");
+        }
+        final List<ByteBuffer> mappedRegions = new ArrayList<>();
+        final List<Long> offsets = new ArrayList<>();
+        while (start < size) {
+            var end = Math.min(size, start + regionSize);
+            if (end < size) {
+                end = binary ? start + recordsPerRegion * format.getRecordLength() : lineStart(end, size);
+            }
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Record at offset " + start + " does not fit a mapped region");
+            }
+            mappedRegions.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start)
+                    .order(format.getByteOrder()));
+            offsets.add(start);
+            start = end;
+        }
+        this.regions = mappedRegions.toArray(new ByteBuffer[0]);
+        this.regionOffsets = offsets.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Opens a file of records.
+     *
+     * @param path   - path of the file
+     * @param format - format of records
+     * @return - opened file
+     * @throws IOException - in case the file cannot be opened or mapped
+     */
+    public static MappedFile open(Path path, RecordFormat format) throws IOException {
+        return open(path, format, MAX_REGION_SIZE);
+    }
+
+    /**
+     * Opens a file of records mapped by regions of a size.
+     *
+     * @param path       - path of the file
+     * @param format     - format of records
+     * @param regionSize - max size of a mapped region; a text region is extended to the end of its last line
+     * @return - opened file
+     * @throws IOException - in case the file cannot be opened or mapped
+     */
+    static MappedFile open(Path path, RecordFormat format, long regionSize) throws IOException {
+        final var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedFile(channel, format, regionSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets stream of records of the file for {@link com.scait.data.validator.Validator#accept(Stream)}.
+     * Stream supplies a reused view, see {@link RecordView}.
+     *
+     * @return - stream of records
+     */
+    public Stream<RecordView> records() {
+        return StreamSupport.stream(new RecordSpliterator(regions, regionOffsets, format), false);
+    }
+
+    /**
+     * Gets count of mapped regions of the file.
+     *
+     * @return - count of regions
+     */
+    int getRegionCount() {
+        return regions.length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Finds start of the first line at or after a position of the file.
+     *
+     * @param position - position in the file
+     * @param size     - size of the file
+     * @return - start of a line; size of the file in case there are no lines after the position
+     */
+    private long lineStart(long position, long size) throws IOException {
+        final var buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        var scanned = position - 1;
+        while (scanned < size) {
+            buffer.clear();
+            final var read = channel.read(buffer, scanned);
+            if (read <= 0) {
+                break;
+            }
+            for (var index = 0; index < read; index++) {
+                if (buffer.get(index) == '\n') {
+                    return scanned + index + 1;
+                }
+            }
+            scanned += read;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,370 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.RecordView;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link RecordView} over a buffer of a mapped file.
+ * A spliterator moves the view from record to record; fields of delimited records are located
+ * on the first field access, fields of fixed layouts are located by their offsets.
+ */
+class MappedRecordView implements RecordView {
+
+    private static final int INITIAL_FIELDS = 16;
+    private static final int MAX_FAST_DIGITS = 18;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final RecordFormat format;
+    private ByteBuffer buffer;
+    private long offset;
+    private int start;
+    private int end;
+    private boolean indexed;
+    private int fieldCount;
+    private int[] fieldStarts = new int[0];
+    private int[] fieldEnds = new int[0];
+    private boolean[] quoted = new boolean[0];
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param format - format of records
+     */
+    MappedRecordView(RecordFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * Moves the view to a record.
+     *
+     * @param buffer       - buffer of records
+     * @param bufferOffset - offset of the buffer in the file
+     * @param start        - start of the record in the buffer
+     * @param end          - end of the content of the record in the buffer
+     */
+    void wrap(ByteBuffer buffer, long bufferOffset, int start, int end) {
+        this.buffer = buffer;
+        this.offset = bufferOffset + start;
+        this.start = start;
+        this.end = end;
+        this.indexed = false;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public int getFieldCount() {
+        if (format.getLayout() != RecordFormat.Layout.DELIMITED) {
+            return format.getFieldOffsets().length - 1;
+        }
+        index();
+        return fieldCount;
+    }
+
+    @Override
+    public int getFieldLength(int field) {
+        return fieldEnd(field) - fieldStart(field);
+    }
+
+    @Override
+    public long getLong(int field) {
+        final var from = fieldStart(field);
+        final var to = fieldEnd(field);
+        if (format.getLayout() == RecordFormat.Layout.BINARY) {
+            switch (to - from) {
+                case Byte.BYTES:
+                    return buffer.get(from);
+                case Short.BYTES:
+                    return buffer.getShort(from);
+                case Integer.BYTES:
+                    return buffer.getInt(from);
+                case Long.BYTES:
+                    return buffer.getLong(from);
+                default:
+                    throw new NumberFormatException("Binary field of " + (to - from) + " bytes is not a number");
+            }
+        }
+        return parseLong(field, from, to);
+    }
+
+    @Override
+    public double getDouble(int field) {
+        final var from = fieldStart(field);
+        final var to = fieldEnd(field);
+        if (format.getLayout() == RecordFormat.Layout.BINARY) {
+            switch (to - from) {
+                case Float.BYTES:
+                    return buffer.getFloat(from);
+                case Double.BYTES:
+                    return buffer.getDouble(from);
+                default:
+                    return getLong(field);
+            }
+        }
+        return parseDouble(field, from, to);
+    }
+
+    @Override
+    public boolean contentEquals(int field, CharSequence value) {
+        final var from = fieldStart(field);
+        final var to = fieldEnd(field);
+        if (to - from != value.length() || isQuoted(field)) {
+            return value.toString().equals(getString(field));
+        }
+        for (var index = 0; index < value.length(); index++) {
+            final var character = value.charAt(index);
+            if (character >= 0x80) {
+                return value.toString().equals(getString(field));
+            }
+            if (buffer.get(from + index) != character) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String getString(int field) {
+        final var from = fieldStart(field);
+        var to = fieldEnd(field);
+        if (format.getLayout() == RecordFormat.Layout.BINARY) {
+            while (to > from && (buffer.get(to - 1) == ' ' || buffer.get(to - 1) == 0)) {
+                to--;
+            }
+        }
+        final var bytes = copyOf(from, to);
+        final var value = new String(bytes, format.getCharset());
+        return isQuoted(field) ? value.replace("\"\"", "\"") : value;
+    }
+
+    @Override
+    public RecordView materialize() {
+        final var bytes = copyOf(start, end);
+        final var copy = new MappedRecordView(format);
+        copy.wrap(ByteBuffer.wrap(bytes).order(format.getByteOrder()), offset, 0, bytes.length);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MappedRecordView)) {
+            return false;
+        }
+        final var otherView = (MappedRecordView) other;
+        if (offset != otherView.offset || end - start != otherView.end - otherView.start) {
+            return false;
+        }
+        for (var index = 0; index < end - start; index++) {
+            if (buffer.get(start + index) != otherView.buffer.get(otherView.start + index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(offset);
+    }
+
+    @Override
+    public String toString() {
+        return "RecordView{" +
+                "offset=" + offset +
+                ", record=" + new String(copyOf(start, end), format.getCharset()) +
+                '}';
+    }
+
+    /**
+     * Gets start of a field; fixed width fields of a short line are empty.
+     */
+    private int fieldStart(int field) {
+        final var offsets = format.getFieldOffsets();
+        if (offsets == null) {
+            index();
+            return fieldStarts[checkField(field, fieldCount)];
+        }
+        return Math.min(end, start + offsets[checkField(field, offsets.length - 1)]);
+    }
+
+    /**
+     * Gets end of a field without padding of fixed width text fields.
+     */
+    private int fieldEnd(int field) {
+        final var offsets = format.getFieldOffsets();
+        if (offsets == null) {
+            index();
+            return fieldEnds[checkField(field, fieldCount)];
+        }
+        final var from = fieldStart(field);
+        final var to = Math.min(end, start + offsets[field + 1]);
+        if (format.getLayout() == RecordFormat.Layout.BINARY) {
+            return to;
+        }
+        return trimSpaces(from, to);
+    }
+
+    private boolean isQuoted(int field) {
+        return format.getLayout() == RecordFormat.Layout.DELIMITED && quoted[checkField(field, fieldCount)];
+    }
+
+    private static int checkField(int field, int count) {
+        if (field < 0 || field >= count) {
+            throw new IndexOutOfBoundsException("Field " + field + " of " + count + " fields");
+        }
+        return field;
+    }
+
+    /**
+     * Locates fields of a delimited record once per record.
+     */
+    private void index() {
+        if (indexed) {
+            return;
+        }
+        final var delimiter = format.getDelimiter();
+        fieldCount = 0;
+        var position = start;
+        while (true) {
+            if (fieldCount == fieldStarts.length) {
+                final var capacity = Math.max(INITIAL_FIELDS, fieldCount * 2);
+                fieldStarts = Arrays.copyOf(fieldStarts, capacity);
+                fieldEnds = Arrays.copyOf(fieldEnds, capacity);
+                quoted = Arrays.copyOf(quoted, capacity);
+            }
+            var next = position;
+            if (position < end && buffer.get(position) == '"') {
+                next++;
+                while (next < end && (buffer.get(next) != '"' || next + 1 < end && buffer.get(next + 1) == '"')) {
+                    next += buffer.get(next) == '"' ? 2 : 1;
+                }
+                fieldStarts[fieldCount] = position + 1;
+                fieldEnds[fieldCount] = Math.min(next, end);
+                quoted[fieldCount] = true;
+                while (next < end && buffer.get(next) != delimiter) {
+                    next++;
+                }
+            } else {
+                while (next < end && buffer.get(next) != delimiter) {
+                    next++;
+                }
+                fieldStarts[fieldCount] = position;
+                fieldEnds[fieldCount] = next;
+                quoted[fieldCount] = false;
+            }
+            fieldCount++;
+            if (next >= end) {
+                break;
+            }
+            position = next + 1;
+        }
+        indexed = true;
+    }
+
+    private long parseLong(int field, int from, int to) {
+        var position = skipSpaces(from, to);
+        final var last = trimSpaces(position, to);
+        if (position == last) {
+            throw notANumber(field);
+        }
+        final var negative = buffer.get(position) == '-';
+        if (negative || buffer.get(position) == '+') {
+            position++;
+        }
+        if (position == last) {
+            throw notANumber(field);
+        }
+        var value = 0L;
+        try {
+            for (; position < last; position++) {
+                final var digit = buffer.get(position) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw notANumber(field);
+                }
+                value = Math.subtractExact(Math.multiplyExact(value, 10), digit);
+            }
+            return negative ? value : Math.negateExact(value);
+        } catch (ArithmeticException e) {
+            throw notANumber(field);
+        }
+    }
+
+    /**
+     * Parses plain decimals with an exact double mantissa without allocation, other numbers by
+     * {@link Double#parseDouble}, so the result is correctly rounded either way.
+     */
+    private double parseDouble(int field, int from, int to) {
+        var position = skipSpaces(from, to);
+        final var last = trimSpaces(position, to);
+        final var negative = position < last && buffer.get(position) == '-';
+        if (negative || position < last && buffer.get(position) == '+') {
+            position++;
+        }
+        var mantissa = 0L;
+        var digits = 0;
+        var scale = 0;
+        var point = false;
+        for (; position < last; position++) {
+            final var character = buffer.get(position);
+            if (character >= '0' && character <= '9' && digits < MAX_FAST_DIGITS) {
+                mantissa = mantissa * 10 + character - '0';
+                digits++;
+                scale += point ? 1 : 0;
+            } else if (character == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (position < last || digits == 0 || scale >= POWERS_OF_TEN.length || mantissa > MAX_EXACT_MANTISSA) {
+            try {
+                return Double.parseDouble(getString(field).trim());
+            } catch (NumberFormatException e) {
+                throw notANumber(field);
+            }
+        }
+        final var value = mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    private byte[] copyOf(int from, int to) {
+        final var bytes = new byte[to - from];
+        final var source = buffer.duplicate();
+        source.position(from);
+        source.get(bytes);
+        return bytes;
+    }
+
+    private int skipSpaces(int from, int to) {
+        var position = from;
+        while (position < to && buffer.get(position) == ' ') {
+            position++;
+        }
+        return position;
+    }
+
+    private int trimSpaces(int from, int to) {
+        var position = to;
+        while (position > from && buffer.get(position - 1) == ' ') {
+            position--;
+        }
+        return position;
+    }
+
+    private NumberFormatException notANumber(int field) {
+        return new NumberFormatException("Field " + field + " of record at offset " + offset + " is not a number: "
+                + getString(field));
+    }
+}
@@ -0,0 +1,62 @@
+package com.scait.data.validator.impl;
+
+/**
+ * Pair of items of two reconciled data sets with the same item id.
+ *
+ * @param <T> - Type of entity to be reconciled
+ */
+public final class MatchedPair<T> {
+
+    private final Object itemId;
+    private final T left;
+    private final T right;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param itemId - item id of both items
+     * @param left   - item of the left data set
+     * @param right  - item of the right data set
+     */
+    MatchedPair(Object itemId, T left, T right) {
+        this.itemId = itemId;
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Gets item id of the pair.
+     *
+     * @return - item id
+     */
+    public Object getItemId() {
+        return itemId;
+    }
+
+    /**
+     * Gets item of the left (source) data set.
+     *
+     * @return - left item
+     */
+    public T getLeft() {
+        return left;
+    }
+
+    /**
+     * Gets item of the right (target) data set.
+     *
+     * @return - right item
+     */
+    public T getRight() {
+        return right;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchedPair{" +
+                "itemId=" + itemId +
+                ", left=" + left +
+                ", right=" + right +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.scait.data.validator.impl;
+
+import java.util.function.Supplier;
+
+/**
+ * Supplier that keeps a computed value for a time to live.
+ * Cached value is read with a single volatile read; only a miss takes the lock.
+ *
+ * @param <R> - Type of supplied value
+ */
+class MemoizedSupplier<R> implements Supplier<R> {
+
+    private final Supplier<R> supplier;
+    private final long timeToLiveNanos;
+    private volatile Memo<R> memo;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param supplier        - supplier of the value
+     * @param timeToLiveNanos - time to keep the value in nanoseconds; {@link Long#MAX_VALUE} to keep it forever
+     */
+    MemoizedSupplier(Supplier<R> supplier, long timeToLiveNanos) {
+        this.supplier = supplier;
+        this.timeToLiveNanos = timeToLiveNanos;
+    }
+
+    @Override
+    public R get() {
+        final var current = memo;
+        if (current != null && isFresh(current)) {
+            return current.value;
+        }
+        synchronized (this) {
+            final var locked = memo;
+            if (locked != null && isFresh(locked)) {
+                return locked.value;
+            }
+            final var computed = new Memo<>(supplier.get(), System.nanoTime());
+            memo = computed;
+            return computed.value;
+        }
+    }
+
+    private boolean isFresh(Memo<R> current) {
+        return timeToLiveNanos == Long.MAX_VALUE || System.nanoTime() - current.computedNanos < timeToLiveNanos;
+    }
+
+    /**
+     * Computed value with the time it was computed.
+     *
+     * @param <R> - Type of supplied value
+     */
+    private static final class Memo<R> {
+
+        private final R value;
+        private final long computedNanos;
+
+        private Memo(R value, long computedNanos) {
+            this.value = value;
+            this.computedNanos = computedNanos;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.scait.data.validator.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Parallel validation run over spliterators of accepted data sources.
+ * Every source is split into chunks by its own spliterator while the chunk is larger than a target size,
+ * and every chunk is validated as a separate task of the executor, so a single large source is
+ * spread over all workers as well as many small ones.
+ *
+ * @param <T> - type of entity for validation
+ */
+class ParallelValidation<T> {
+
+    /**
+     * Count of chunks per worker to balance the load of workers.
+     */
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final Executor executor;
+    private final int parallelism;
+    private final Predicate<T> itemValidation;
+    private final ChunkedResult chunkedResult;
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile boolean stopped;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param executor       - executor of chunk tasks
+     * @param parallelism    - expected count of workers of the executor
+     * @param itemValidation - validation of a single item that returns false in case validation should stop
+     * @param chunkedResult  - result that collects failed conditions per chunk; null in case it does not
+     */
+    ParallelValidation(Executor executor, int parallelism, Predicate<T> itemValidation,
+                       ChunkedResult chunkedResult) {
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.itemValidation = itemValidation;
+        this.chunkedResult = chunkedResult;
+    }
+
+    /**
+     * Gets count of chunk tasks that are submitted but not finished yet.
+     *
+     * @return - count of pending tasks
+     */
+    int getPendingTasks() {
+        return pendingTasks.get();
+    }
+
+    /**
+     * Gets expected count of workers of an executor.
+     *
+     * @param executor - executor of chunk tasks
+     * @return - parallelism of the fork join pool; count of available processors otherwise
+     */
+    static int parallelismOf(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Validates all items of the sources and waits for completion of all chunk tasks.
+     *
+     * @param sources - spliterators of accepted data sources
+     */
+    void run(List<Spliterator<T>> sources) {
+        pendingTasks.set(1);
+        var sourceIndex = 0;
+        for (Spliterator<T> source : sources) {
+            submit(new ChunkTask(source, targetSize(source), new int[]{sourceIndex++}));
+        }
+        release();
+        try {
+            completion.join();
+        } catch (CompletionException e) {
+            final var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the validation: chunk tasks finish as soon as they notice it and no more chunks are split.
+     */
+    void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Defines whether the validation is stopped.
+     *
+     * @return - true in case the validation is stopped
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    private long targetSize(Spliterator<T> source) {
+        return Math.max(1, source.estimateSize() / ((long) parallelism * CHUNKS_PER_WORKER));
+    }
+
+    private void submit(ChunkTask task) {
+        pendingTasks.incrementAndGet();
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            fail(e);
+            release();
+        }
+    }
+
+    private void release() {
+        if (pendingTasks.decrementAndGet() == 0) {
+            completion.complete(null);
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        stop();
+        completion.completeExceptionally(throwable);
+    }
+
+    /**
+     * Task that splits off prefix chunks of a spliterator while it is larger than the target size
+     * and validates the rest of items.
+     * Order key of the k-th prefix is the task key followed by k, and order key of the rest
+     * is the task key followed by max value, so keys follow the encounter order of items.
+     */
+    private class ChunkTask implements Runnable, Consumer<T> {
+
+        private final Spliterator<T> spliterator;
+        private final long targetSize;
+        private final int[] orderKey;
+
+        /**
+         * Parametrized constructor.
+         *
+         * @param spliterator - spliterator of the chunk
+         * @param targetSize  - size of a chunk that is not split anymore
+         * @param orderKey    - order key of the chunk
+         */
+        ChunkTask(Spliterator<T> spliterator, long targetSize, int[] orderKey) {
+            this.spliterator = spliterator;
+            this.targetSize = targetSize;
+            this.orderKey = orderKey;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Spliterator<T> prefix;
+                var prefixIndex = 0;
+                while (!stopped && spliterator.estimateSize() > targetSize
+                        && (prefix = spliterator.trySplit()) != null) {
+                    submit(new ChunkTask(prefix, targetSize, childKey(prefixIndex++)));
+                }
+                if (chunkedResult == null) {
+                    validateItems();
+                } else {
+                    chunkedResult.beginChunk(childKey(Integer.MAX_VALUE));
+                    try {
+                        validateItems();
+                    } finally {
+                        chunkedResult.endChunk();
+                    }
+                }
+            } catch (Throwable e) {
+                fail(e);
+            } finally {
+                release();
+            }
+        }
+
+        private void validateItems() {
+            while (!stopped && spliterator.tryAdvance(this)) {
+                //Validates item by item until the chunk ends or validation stops.
+            }
+        }
+
+        private int[] childKey(int index) {
+            final var key = Arrays.copyOf(orderKey, orderKey.length + 1);
+            key[orderKey.length] = index;
+            return key;
+        }
+
+        @Override
+        public void accept(T item) {
+            if (!itemValidation.test(item)) {
+                stop();
+            }
+        }
+    }
+}
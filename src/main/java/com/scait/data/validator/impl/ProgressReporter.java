@@ -0,0 +1,54 @@
+package com.scait.data.validator.impl;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reporter of a validation run progress or metrics.
+ * Reads striped counters of the run on a timer, so the validation pipeline only increments them.
+ */
+class ProgressReporter implements Runnable {
+
+    private final Runnable report;
+    private final Executor timer;
+    private volatile boolean finished;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param report - report of the run state to a listener
+     * @param period - period of reports
+     */
+    ProgressReporter(Runnable report, Duration period) {
+        this.report = report;
+        this.timer = CompletableFuture.delayedExecutor(period.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Starts periodic reports.
+     */
+    void start() {
+        timer.execute(this);
+    }
+
+    /**
+     * Stops periodic reports and reports the final state of the run.
+     */
+    synchronized void finish() {
+        finished = true;
+        report.run();
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            report.run();
+        }
+        timer.execute(this);
+    }
+}
@@ -0,0 +1,273 @@
+package com.scait.data.validator.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Format of records of a {@link MappedFile}: delimited or fixed width text lines, or fixed length binary records.
+ * Text records are terminated by line feed with an optional carriage return; blank lines are skipped.
+ * Delimited fields may be quoted with double quotes, quotes are escaped by doubling them,
+ * but a quoted field should not span lines.
+ */
+public final class RecordFormat {
+
+    /**
+     * Layout of record fields.
+     */
+    enum Layout {
+        DELIMITED,
+        FIXED_WIDTH,
+        BINARY
+    }
+
+    private final Layout layout;
+    private final byte delimiter;
+    private final int[] fieldOffsets;
+    private final boolean header;
+    private final Charset charset;
+    private final ByteOrder byteOrder;
+
+    private RecordFormat(Layout layout, byte delimiter, int[] fieldOffsets, boolean header, Charset charset,
+                         ByteOrder byteOrder) {
+        this.layout = layout;
+        this.delimiter = delimiter;
+        this.fieldOffsets = fieldOffsets;
+        this.header = header;
+        this.charset = charset;
+        this.byteOrder = byteOrder;
+    }
+
+    /**
+     * Constructs format of comma separated lines.
+     *
+     * @return - constructed format
+     */
+    public static RecordFormat csv() {
+        return delimited(',');
+    }
+
+    /**
+     * Constructs format of lines with fields separated by a delimiter.
+     *
+     * @param delimiter - ASCII delimiter of fields
+     * @return - constructed format
+     */
+    public static RecordFormat delimited(char delimiter) {
+        if (delimiter >= 0x80 || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Delimiter should be an ASCII character other than quote or line end: "
+                    + delimiter);
+        }
+        return new RecordFormat(Layout.DELIMITED, (byte) delimiter, null, false, StandardCharsets.UTF_8,
+                ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs format of lines with fields of fixed widths; trailing spaces of fields are padding.
+     *
+     * @param widths - widths of fields in bytes
+     * @return - constructed format
+     */
+    public static RecordFormat fixedWidth(int... widths) {
+        return new RecordFormat(Layout.FIXED_WIDTH, (byte) 0, offsetsOf(widths), false, StandardCharsets.UTF_8,
+                ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs format of binary records of fixed length without separators; big endian by default.
+     * Trailing spaces and zero bytes of text fields are padding.
+     *
+     * @param widths - widths of fields in bytes
+     * @return - constructed format
+     */
+    public static RecordFormat binary(int... widths) {
+        return new RecordFormat(Layout.BINARY, (byte) 0, offsetsOf(widths), false, StandardCharsets.UTF_8,
+                ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Makes the format skip the first record, e.g. a header line.
+     *
+     * @return - new format
+     */
+    public RecordFormat withHeader() {
+        return new RecordFormat(layout, delimiter, fieldOffsets, true, charset, byteOrder);
+    }
+
+    /**
+     * Sets charset of text fields; UTF-8 by default.
+     *
+     * @param charset - charset of text fields
+     * @return - new format
+     */
+    public RecordFormat withCharset(Charset charset) {
+        return new RecordFormat(layout, delimiter, fieldOffsets, header, Objects.requireNonNull(charset, "charset"),
+                byteOrder);
+    }
+
+    /**
+     * Sets byte order of numeric fields of binary records.
+     *
+     * @param byteOrder - byte order of numeric fields
+     * @return - new format
+     */
+    public RecordFormat withByteOrder(ByteOrder byteOrder) {
+        return new RecordFormat(layout, delimiter, fieldOffsets, header, charset,
+                Objects.requireNonNull(byteOrder, "byteOrder"));
+    }
+
+    /**
+     * Gets layout of record fields.
+     *
+     * @return - layout
+     */
+    Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Gets delimiter of fields of delimited records.
+     *
+     * @return - ASCII delimiter
+     */
+    byte getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Gets charset of text fields.
+     *
+     * @return - charset
+     */
+    Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Gets byte order of numeric fields of binary records.
+     *
+     * @return - byte order
+     */
+    ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+    /**
+     * Defines whether the first record is skipped.
+     *
+     * @return - true in case the file has a header
+     */
+    boolean hasHeader() {
+        return header;
+    }
+
+    /**
+     * Gets offsets of fixed fields in a record.
+     *
+     * @return - offsets of fields followed by the record length; null for delimited records
+     */
+    int[] getFieldOffsets() {
+        return fieldOffsets;
+    }
+
+    /**
+     * Gets length of a binary record.
+     *
+     * @return - record length in bytes
+     */
+    int getRecordLength() {
+        return fieldOffsets[fieldOffsets.length - 1];
+    }
+
+    /**
+     * Finds start of the first record at or after a position of a buffer that starts with a record.
+     *
+     * @param buffer   - buffer of records
+     * @param position - position in the buffer
+     * @param limit    - end of records in the buffer
+     * @return - start of a record; limit in case there are no records after the position
+     */
+    int recordStart(ByteBuffer buffer, int position, int limit) {
+        if (layout == Layout.BINARY) {
+            final var recordLength = getRecordLength();
+            return (int) Math.min(limit, (position + (long) recordLength - 1) / recordLength * recordLength);
+        }
+        if (position == 0) {
+            return 0;
+        }
+        for (var index = position - 1; index < limit; index++) {
+            if (buffer.get(index) == '\n') {
+                return index + 1;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Finds end of a record, including its line terminator.
+     *
+     * @param buffer - buffer of records
+     * @param start  - start of the record
+     * @param limit  - end of records in the buffer
+     * @return - start of the next record
+     */
+    int recordEnd(ByteBuffer buffer, int start, int limit) {
+        if (layout == Layout.BINARY) {
+            return Math.min(limit, start + getRecordLength());
+        }
+        for (var index = start; index < limit; index++) {
+            if (buffer.get(index) == '\n') {
+                return index + 1;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Finds end of the content of a record, without its line terminator.
+     *
+     * @param buffer    - buffer of records
+     * @param start     - start of the record
+     * @param recordEnd - end of the record, see {@link #recordEnd(ByteBuffer, int, int)}
+     * @return - end of the content of the record
+     */
+    int contentEnd(ByteBuffer buffer, int start, int recordEnd) {
+        var end = recordEnd;
+        if (layout != Layout.BINARY) {
+            if (end > start && buffer.get(end - 1) == '\n') {
+                end--;
+            }
+            if (end > start && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Defines whether a record is skipped.
+     *
+     * @param start - start of the record
+     * @param end   - end of the content of the record
+     * @return - true for blank lines of text records
+     */
+    boolean isSkipped(int start, int end) {
+        return layout != Layout.BINARY && start == end;
+    }
+
+    private static int[] offsetsOf(int[] widths) {
+        if (widths.length == 0) {
+            throw new IllegalArgumentException("At least one field width is expected");
+        }
+        final var offsets = new int[widths.length + 1];
+        for (var index = 0; index < widths.length; index++) {
+            if (widths[index] <= 0) {
+                throw new IllegalArgumentException("Field width should be positive: " + widths[index]);
+            }
+            offsets[index + 1] = Math.addExact(offsets[index], widths[index]);
+        }
+        return offsets;
+    }
+}
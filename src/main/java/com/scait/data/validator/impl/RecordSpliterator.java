@@ -0,0 +1,118 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.RecordView;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator of records of mapped regions of a file.
+ * Splits by whole regions first and then at a record boundary near the middle of the region,
+ * so parallel workers read disjoint ranges of the same buffers. Every spliterator moves its own view
+ * from record to record, so traversal does not allocate.
+ */
+class RecordSpliterator implements Spliterator<RecordView> {
+
+    /**
+     * Range of bytes that is not split further.
+     */
+    private static final int MIN_SPLIT_SIZE = 1 << 16;
+
+    private final ByteBuffer[] regions;
+    private final long[] regionOffsets;
+    private final RecordFormat format;
+    private final MappedRecordView view;
+    private int region;
+    private int position;
+    private int limit;
+    private int fence;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param regions       - mapped regions of the file that start with a record
+     * @param regionOffsets - offsets of the regions in the file
+     * @param format        - format of records
+     */
+    RecordSpliterator(ByteBuffer[] regions, long[] regionOffsets, RecordFormat format) {
+        this(regions, regionOffsets, format, 0, 0, regions.length == 0 ? 0 : regions[0].limit(), regions.length);
+    }
+
+    private RecordSpliterator(ByteBuffer[] regions, long[] regionOffsets, RecordFormat format, int region,
+                              int position, int limit, int fence) {
+        this.regions = regions;
+        this.regionOffsets = regionOffsets;
+        this.format = format;
+        this.view = new MappedRecordView(format);
+        this.region = region;
+        this.position = position;
+        this.limit = limit;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super RecordView> action) {
+        while (region < fence) {
+            final var buffer = regions[region];
+            while (position < limit) {
+                final var start = position;
+                position = format.recordEnd(buffer, start, limit);
+                final var end = format.contentEnd(buffer, start, position);
+                if (!format.isSkipped(start, end)) {
+                    view.wrap(buffer, regionOffsets[region], start, end);
+                    action.accept(view);
+                    return true;
+                }
+            }
+            if (++region < fence) {
+                position = 0;
+                limit = regions[region].limit();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<RecordView> trySplit() {
+        if (fence - region > 1) {
+            final var middle = (region + 1 + fence) >>> 1;
+            final var prefix = new RecordSpliterator(regions, regionOffsets, format, region, position, limit, middle);
+            region = middle;
+            position = 0;
+            limit = regions[middle].limit();
+            return prefix;
+        }
+        if (region >= fence || limit - position < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        final var middle = format.recordStart(regions[region], position + (limit - position) / 2, limit);
+        if (middle <= position || middle >= limit) {
+            return null;
+        }
+        final var prefix = new RecordSpliterator(regions, regionOffsets, format, region, position, middle,
+                region + 1);
+        position = middle;
+        return prefix;
+    }
+
+    /**
+     * Estimates count of remaining records: exact for binary records, count of bytes for text records.
+     */
+    @Override
+    public long estimateSize() {
+        if (region >= fence) {
+            return 0;
+        }
+        long bytes = limit - position;
+        for (var index = region + 1; index < fence; index++) {
+            bytes += regions[index].limit();
+        }
+        return format.getLayout() == RecordFormat.Layout.BINARY ? bytes / format.getRecordLength() : bytes;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+}
@@ -0,0 +1,164 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ExpectationStatistics;
+import com.scait.data.validator.LatencyStatistics;
+import com.scait.data.validator.ValidationMetrics;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Instrumentation of a validation run.
+ * Exists only for instrumented runs, so the validation pipeline of a run that is not instrumented
+ * does a single null check instead of recording.
+ */
+class RunInstrumentation {
+
+    private final ValidationRun<?> run;
+    private final LatencyHistogram[] latencies;
+    private final long startNanos = System.nanoTime();
+    private final long startAllocatedBytes = allocatedBytes();
+    private volatile IntSupplier queueDepth = () -> 0;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param run - instrumented validation run
+     */
+    RunInstrumentation(ValidationRun<?> run) {
+        this.run = run;
+        final var expectationStatistics = run.getExpectationStatistics();
+        this.latencies = new LatencyHistogram[expectationStatistics.size()];
+        var index = 0;
+        for (ExpectationStatistics statistics : expectationStatistics) {
+            latencies[index++] = new LatencyHistogram(statistics.getExpectationName());
+        }
+    }
+
+    /**
+     * Records a latency of the expectation evaluation.
+     *
+     * @param index - index of the expectation
+     * @param nanos - evaluation time in nanoseconds
+     */
+    void recordLatency(int index, long nanos) {
+        latencies[index].record(nanos);
+    }
+
+    /**
+     * Sets the source of the queue depth of parallel validation.
+     *
+     * @param queueDepth - supplier of the count of pending tasks
+     */
+    void setQueueDepth(IntSupplier queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * Takes a snapshot of the run metrics.
+     *
+     * @return - metrics of the run
+     */
+    ValidationMetrics snapshot() {
+        final var elapsedNanos = System.nanoTime() - startNanos;
+        final var processedItems = run.getProcessedItems();
+        final var itemsPerSecond = elapsedNanos == 0 ? 0 : processedItems * 1e9 / elapsedNanos;
+        final var allocatedBytes = allocatedBytes();
+        final var allocatedBytesPerItem = allocatedBytes < 0 || startAllocatedBytes < 0 ? -1
+                : processedItems == 0 ? 0 : Math.max(0, allocatedBytes - startAllocatedBytes) / processedItems;
+        return new MetricsSnapshot(Duration.ofNanos(elapsedNanos), processedItems, itemsPerSecond,
+                queueDepth.getAsInt(), allocatedBytesPerItem, List.of(latencies));
+    }
+
+    /**
+     * Gets count of bytes allocated by live threads of the JVM.
+     * Threads that finished since the start of the run are not counted, so the value is approximate.
+     *
+     * @return - allocated bytes; -1 in case the JVM does not measure thread allocations
+     */
+    private static long allocatedBytes() {
+        final var threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        final var allocations = (com.sun.management.ThreadMXBean) threads;
+        if (!allocations.isThreadAllocatedMemorySupported() || !allocations.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        var allocatedBytes = 0L;
+        for (long threadBytes : allocations.getThreadAllocatedBytes(allocations.getAllThreadIds())) {
+            if (threadBytes > 0) {
+                allocatedBytes += threadBytes;
+            }
+        }
+        return allocatedBytes;
+    }
+
+    /**
+     * Immutable implementation of {@link ValidationMetrics} class.
+     * Latencies are live histograms of the run.
+     */
+    private static final class MetricsSnapshot implements ValidationMetrics {
+
+        private final Duration elapsedTime;
+        private final long processedItems;
+        private final double itemsPerSecond;
+        private final int queueDepth;
+        private final long allocatedBytesPerItem;
+        private final List<LatencyStatistics> expectationLatencies;
+
+        private MetricsSnapshot(Duration elapsedTime, long processedItems, double itemsPerSecond, int queueDepth,
+                                long allocatedBytesPerItem, List<LatencyStatistics> expectationLatencies) {
+            this.elapsedTime = elapsedTime;
+            this.processedItems = processedItems;
+            this.itemsPerSecond = itemsPerSecond;
+            this.queueDepth = queueDepth;
+            this.allocatedBytesPerItem = allocatedBytesPerItem;
+            this.expectationLatencies = expectationLatencies;
+        }
+
+        @Override
+        public Duration getElapsedTime() {
+            return elapsedTime;
+        }
+
+        @Override
+        public long getProcessedItems() {
+            return processedItems;
+        }
+
+        @Override
+        public double getItemsPerSecond() {
+            return itemsPerSecond;
+        }
+
+        @Override
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        @Override
+        public long getAllocatedBytesPerItem() {
+            return allocatedBytesPerItem;
+        }
+
+        @Override
+        public List<LatencyStatistics> getExpectationLatencies() {
+            return expectationLatencies;
+        }
+
+        @Override
+        public String toString() {
+            return "ValidationMetrics{" +
+                    "elapsedTime=" + elapsedTime +
+                    ", processedItems=" + processedItems +
+                    ", itemsPerSecond=" + itemsPerSecond +
+                    ", queueDepth=" + queueDepth +
+                    ", allocatedBytesPerItem=" + allocatedBytesPerItem +
+                    ", expectationLatencies=" + expectationLatencies +
+                    '}';
+        }
+    }
+}
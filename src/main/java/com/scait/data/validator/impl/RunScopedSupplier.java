@@ -0,0 +1,34 @@
+package com.scait.data.validator.impl;
+
+import java.util.function.Supplier;
+
+/**
+ * Supplier of an expected value that is computed once per validation run.
+ * The supplier keeps no value itself: every run keeps its own value in the run state of the expectation,
+ * so concurrent runs of the same plan do not see each other's values.
+ *
+ * @param <R> - Type of supplied value
+ */
+class RunScopedSupplier<R> implements Supplier<R> {
+
+    private final Supplier<R> supplier;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param supplier - supplier of the value
+     */
+    RunScopedSupplier(Supplier<R> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Computes the value. Called once per run of an expectation, or on every call outside a run.
+     *
+     * @return - computed value
+     */
+    @Override
+    public R get() {
+        return supplier.get();
+    }
+}
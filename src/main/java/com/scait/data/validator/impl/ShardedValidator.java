@@ -0,0 +1,166 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.IncrementalValidation;
+import com.scait.data.validator.ValidationPlan;
+import com.scait.data.validator.ValidationResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Local coordinator of sharded validation: partitions items of a stream by hash of item id,
+ * validates every shard in a worker of its own against the same plan and merges partial results.
+ * Workers are threads that return partial results in the wire format of {@link ValidationResults},
+ * the same format a worker process would return, so shards of one machine and of many merge the same way.
+ * Failure budget of the plan is applied per shard, and cross item expectations see items of their shard only.
+ *
+ * @param <T> - type of entity for validation
+ */
+public class ShardedValidator<T> {
+
+    /**
+     * Capacity of the queue of items of a shard, which blocks partitioning while the worker is behind.
+     */
+    private static final int QUEUE_CAPACITY = 1024;
+
+    /**
+     * Marker of the end of items of a shard.
+     */
+    private static final Object END = new Object();
+
+    /**
+     * Marker of a null item, as a queue does not take null elements.
+     */
+    private static final Object NULL_ITEM = new Object();
+
+    private final ValidationPlan<T> plan;
+    private final Function<? super T, ?> idProvider;
+    private final int shards;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param plan       - validation plan of every shard
+     * @param idProvider - item id provider to partition items by
+     * @param shards     - count of shards, should be positive
+     */
+    public ShardedValidator(ValidationPlan<T> plan, Function<? super T, ?> idProvider, int shards) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("shards should be positive: " + shards);
+        }
+        this.plan = Objects.requireNonNull(plan, "plan");
+        this.idProvider = Objects.requireNonNull(idProvider, "idProvider");
+        this.shards = shards;
+    }
+
+    /**
+     * Validates items of a stream in shards and merges partial results in the order of shards
+     * into a single result, so every failed condition is copied once.
+     *
+     * @param data - stream of data for verification
+     * @return - merged validation result
+     */
+    public ValidationResult validate(Stream<T> data) {
+        final List<BlockingQueue<Object>> queues = new ArrayList<>(shards);
+        final List<Future<byte[]>> partialResults = new ArrayList<>(shards);
+        final ExecutorService workers = Executors.newFixedThreadPool(shards);
+        try {
+            for (var shard = 0; shard < shards; shard++) {
+                final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+                queues.add(queue);
+                partialResults.add(workers.submit(() -> validateShard(queue)));
+            }
+            try {
+                data.forEach((T item) -> put(queues.get(shardOf(item)), item == null ? NULL_ITEM : item));
+            } finally {
+                queues.forEach((BlockingQueue<Object> queue) -> put(queue, END));
+            }
+            final var validationResult = new DataValidationResult();
+            final Map<String, ExpectationCounter> counters = new LinkedHashMap<>();
+            for (Future<byte[]> partialResult : partialResults) {
+                ValidationResults.mergeInto(validationResult, counters,
+                        ValidationResults.read(new ByteArrayInputStream(partialResult.get())));
+            }
+            validationResult.setExpectationStatistics(List.copyOf(counters.values()));
+            return validationResult;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read partial validation result", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Validation of a shard failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for validation of shards", e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Validates items of a shard until the end marker. Items are taken from the queue up to the end marker
+     * even in case validation fails or is stopped, so partitioning is never blocked by the shard.
+     * Any throwable of validation, errors included, is rethrown once the end marker is taken.
+     *
+     * @param queue - queue of items of the shard
+     * @return - partial validation result in the wire format
+     * @throws Exception - in case validation of the shard fails
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] validateShard(BlockingQueue<Object> queue) throws Exception {
+        IncrementalValidation<T> validation = null;
+        Throwable failure = null;
+        try {
+            validation = plan.open();
+        } catch (Throwable e) {
+            failure = e;
+        }
+        var validating = failure == null;
+        for (var item = queue.take(); item != END; item = queue.take()) {
+            if (!validating) {
+                continue;
+            }
+            try {
+                validating = validation.offer(item == NULL_ITEM ? null : (T) item);
+            } catch (Throwable e) {
+                failure = e;
+                validating = false;
+            }
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw (Exception) failure;
+        }
+        final var output = new ByteArrayOutputStream();
+        ValidationResults.write(validation.finish(), output);
+        return output.toByteArray();
+    }
+
+    private int shardOf(T item) {
+        return SpillPartitions.partitionOf(idProvider.apply(item), shards);
+    }
+
+    private static void put(BlockingQueue<Object> queue, Object item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while partitioning items", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ExpectationStatistics;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.FailureSink;
+import com.scait.data.validator.ValidationResult;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streaming implementation of {@link ValidationResult} class.
+ * Pushes failed conditions to a {@link FailureSink} and keeps only their count,
+ * so memory use does not depend on the count of failures.
+ * Failed conditions are not retained: {@link #getFailedConditions()}, {@link #getFailedConditions(Object)}
+ * and {@link #getFailedItemIds()} are always empty.
+ */
+class SinkValidationResult implements ValidationResult {
+
+    private final FailureSink failureSink;
+    private final LongAdder failureCount = new LongAdder();
+    private volatile boolean truncated;
+    private volatile List<ExpectationStatistics> expectationStatistics = List.of();
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param failureSink - sink of failed conditions
+     */
+    SinkValidationResult(FailureSink failureSink) {
+        this.failureSink = failureSink;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return failureCount.sum() == 0;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return !isSuccessful();
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public void markTruncated() {
+        truncated = true;
+    }
+
+    @Override
+    public void addFailedCondition(FailedCondition failedCondition) {
+        failureCount.increment();
+        failureSink.accept(failedCondition);
+    }
+
+    @Override
+    public Set<FailedCondition> getFailedConditions(Object itemId) {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<FailedCondition> getFailedConditions() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<Object> getFailedItemIds() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public int getFailureCount() {
+        return failureCount.intValue();
+    }
+
+    /**
+     * Notifies the sink that no more failed conditions will be pushed.
+     */
+    void complete() {
+        failureSink.complete();
+    }
+
+    /**
+     * Notifies the sink that validation failed and no more failed conditions will be pushed.
+     *
+     * @param error - error of validation
+     */
+    void fail(Throwable error) {
+        failureSink.fail(error);
+    }
+
+    @Override
+    public List<ExpectationStatistics> getExpectationStatistics() {
+        return expectationStatistics;
+    }
+
+    @Override
+    public void setExpectationStatistics(List<ExpectationStatistics> expectationStatistics) {
+        this.expectationStatistics = expectationStatistics;
+    }
+
+    @Override
+    public String toString() {
+        return "SinkValidationResult{" +
+                "failureCount=" + failureCount +
+                ", truncated=" + truncated +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+package com.scait.data.validator.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Items of a data set split by hash of item id into partition files of a temporary directory.
+ * Items are written with Java serialization and read back one partition at a time.
+ *
+ * @param <T> - Type of entity to be spilled
+ */
+class SpillPartitions<T> implements AutoCloseable {
+
+    /**
+     * Count of items after which the object stream forgets written objects, so it does not keep them all.
+     */
+    private static final int RESET_INTERVAL = 1024;
+
+    private final Path directory;
+    private final Path[] files;
+    private final ObjectOutputStream[] outputs;
+    private final long[] counts;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param parentDirectory - directory to create the temporary directory of partition files in
+     * @param name            - name prefix of the temporary directory
+     * @param partitions      - count of partitions
+     */
+    SpillPartitions(Path parentDirectory, String name, int partitions) {
+        this.files = new Path[partitions];
+        this.outputs = new ObjectOutputStream[partitions];
+        this.counts = new long[partitions];
+        try {
+            this.directory = Files.createTempDirectory(parentDirectory, name);
+            for (var partition = 0; partition < partitions; partition++) {
+                files[partition] = directory.resolve("partition-" + partition);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create spill directory in " + parentDirectory, e);
+        }
+    }
+
+    /**
+     * Gets partition of an item id.
+     *
+     * @param itemId     - item id
+     * @param partitions - count of partitions
+     * @return - partition index
+     */
+    static int partitionOf(Object itemId, int partitions) {
+        final var hash = itemId == null ? 0 : itemId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), partitions);
+    }
+
+    /**
+     * Writes an item to a partition file.
+     *
+     * @param partition - partition index
+     * @param item      - item to write
+     */
+    void write(int partition, T item) {
+        if (!(item instanceof Serializable)) {
+            throw new IllegalArgumentException("Spilled item should be Serializable: " + item);
+        }
+        try {
+            if (outputs[partition] == null) {
+                outputs[partition] = new ObjectOutputStream(new BufferedOutputStream(
+                        Files.newOutputStream(files[partition])));
+            }
+            outputs[partition].writeObject(item);
+            if (++counts[partition] % RESET_INTERVAL == 0) {
+                outputs[partition].reset();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to spill item to " + files[partition], e);
+        }
+    }
+
+    /**
+     * Finishes writing of all partition files.
+     */
+    void flush() {
+        for (var partition = 0; partition < outputs.length; partition++) {
+            closeOutput(partition);
+        }
+    }
+
+    /**
+     * Reads all items of a partition file and deletes the file.
+     *
+     * @param partition - partition index
+     * @param consumer  - consumer of items
+     */
+    @SuppressWarnings("unchecked")
+    void read(int partition, Consumer<T> consumer) {
+        if (counts[partition] == 0) {
+            return;
+        }
+        closeOutput(partition);
+        try (var input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(files[partition])))) {
+            for (var index = 0L; index < counts[partition]; index++) {
+                consumer.accept((T) input.readObject());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read spilled items of " + files[partition], e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to read spilled items of " + files[partition], e);
+        }
+        delete(files[partition]);
+    }
+
+    /**
+     * Closes and deletes all partition files and the temporary directory.
+     */
+    @Override
+    public void close() {
+        for (var partition = 0; partition < outputs.length; partition++) {
+            closeOutput(partition);
+            delete(files[partition]);
+        }
+        delete(directory);
+    }
+
+    private void closeOutput(int partition) {
+        if (outputs[partition] == null) {
+            return;
+        }
+        try {
+            outputs[partition].close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write spilled items to " + files[partition], e);
+        } finally {
+            outputs[partition] = null;
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to delete spill file " + path, e);
+        }
+    }
+}
@@ -0,0 +1,562 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ExpectationStatistics;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.SpilledValidationResult;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of {@link SpilledValidationResult} class.
+ * Failed conditions are buffered in memory up to the budget, then the full buffer is encoded by {@link FailureCodec}
+ * and appended as a chunk to the data file of a temporary directory, with a sorted run of hashes of item ids
+ * and positions of its failed conditions appended to the index file. Runs are merged into a single run on a lookup
+ * by item id, so a lookup is a single binary search that reads failed conditions of colliding hashes only.
+ * Both files are read through mappings of regions of up to {@link #REGION_SIZE} bytes, so a large result
+ * takes a few mappings rather than one per chunk.
+ * Safe for parallel validation: a full buffer is encoded and written outside the lock, and its failed conditions
+ * are read from memory until the chunk is written, so the heap briefly holds a full buffer per spilling thread.
+ */
+class SpillingValidationResult implements SpilledValidationResult {
+
+    /**
+     * Max size of a mapped region of a spill file.
+     */
+    private static final long REGION_SIZE = 1L << 30;
+
+    /**
+     * Size of an index entry: hash of the item id and position of the failed condition,
+     * which is the chunk number in the high half and the offset in the chunk in the low half.
+     */
+    private static final int ENTRY_SIZE = 2 * Long.BYTES;
+
+    private final Path parentDirectory;
+    private final int memoryBudget;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final List<IndexRun> indexRuns = new ArrayList<>();
+    private List<FailedCondition> buffer = new ArrayList<>();
+    private Map<Object, List<FailedCondition>> bufferByItem = new HashMap<>();
+    private Path directory;
+    private Path dataFile;
+    private FileChannel dataChannel;
+    private IndexFile indexFile;
+    private long dataSize;
+    private long spilledCount;
+    private int pendingWrites;
+    private boolean closed;
+    private volatile boolean truncated;
+    private volatile List<ExpectationStatistics> expectationStatistics = List.of();
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param parentDirectory - directory to create the temporary directory of spill files in
+     * @param memoryBudget    - max count of failed conditions kept in memory
+     */
+    SpillingValidationResult(Path parentDirectory, int memoryBudget) {
+        this.parentDirectory = parentDirectory;
+        this.memoryBudget = memoryBudget;
+    }
+
+    @Override
+    public synchronized boolean isSuccessful() {
+        return getTotalFailureCount() == 0;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return !isSuccessful();
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public void markTruncated() {
+        truncated = true;
+    }
+
+    @Override
+    public void addFailedCondition(FailedCondition failedCondition) {
+        final Chunk chunk;
+        synchronized (this) {
+            checkOpen();
+            buffer.add(failedCondition);
+            bufferByItem.computeIfAbsent(failedCondition.getItemId(), (Object itemId) -> new ArrayList<>())
+                    .add(failedCondition);
+            if (buffer.size() < memoryBudget) {
+                return;
+            }
+            chunk = new Chunk(chunks.size(), buffer);
+            chunks.add(chunk);
+            spilledCount += buffer.size();
+            pendingWrites++;
+            buffer = new ArrayList<>();
+            bufferByItem = new HashMap<>();
+        }
+        spill(chunk);
+    }
+
+    @Override
+    public synchronized Set<FailedCondition> getFailedConditions(Object itemId) {
+        checkOpen();
+        mergeIndexRuns();
+        final var hash = hash(itemId);
+        final Map<Long, FailedCondition> itemConditions = new TreeMap<>();
+        for (IndexRun run : indexRuns) {
+            for (var entry = lowerBound(run, hash); entry < run.end() && indexFile.hashAt(entry) == hash; entry++) {
+                final var position = indexFile.positionAt(entry);
+                final var record = dataOf(chunks.get((int) (position >>> 32))).duplicate();
+                record.position((int) position);
+                if (Objects.equals(FailureCodec.readItemId(record), itemId)) {
+                    itemConditions.put(position, FailureCodec.read(record));
+                }
+            }
+        }
+        for (Chunk chunk : chunks) {
+            final var pending = chunk.pending;
+            for (var index = 0; pending != null && index < pending.size(); index++) {
+                if (Objects.equals(pending.get(index).getItemId(), itemId)) {
+                    itemConditions.put((long) chunk.number << 32 | index, pending.get(index));
+                }
+            }
+        }
+        final Set<FailedCondition> failedConditions = new LinkedHashSet<>(itemConditions.values());
+        failedConditions.addAll(bufferByItem.getOrDefault(itemId, List.of()));
+        return Collections.unmodifiableSet(failedConditions);
+    }
+
+    /**
+     * Gets all failed conditions of all items, reading all spilled failed conditions to memory.
+     *
+     * @return - Set of FailedCondition
+     */
+    @Override
+    public synchronized Set<FailedCondition> getFailedConditions() {
+        final Set<FailedCondition> failedConditions = new LinkedHashSet<>();
+        forEachFailedCondition(failedConditions::add);
+        return failedConditions;
+    }
+
+    /**
+     * Gets ids of all items that have at least one failed condition, reading all spilled failed conditions.
+     * Returned set is a copy.
+     *
+     * @return - Set of failed item ids
+     */
+    @Override
+    public synchronized Set<Object> getFailedItemIds() {
+        final Set<Object> itemIds = new LinkedHashSet<>();
+        forEachFailedCondition((FailedCondition failedCondition) -> itemIds.add(failedCondition.getItemId()));
+        return Collections.unmodifiableSet(itemIds);
+    }
+
+    @Override
+    public synchronized void forEachFailedCondition(Consumer<? super FailedCondition> action) {
+        checkOpen();
+        for (Chunk chunk : chunks) {
+            if (chunk.pending != null) {
+                chunk.pending.forEach(action);
+                continue;
+            }
+            final var data = dataOf(chunk).duplicate();
+            while (data.hasRemaining()) {
+                action.accept(FailureCodec.read(data));
+            }
+        }
+        buffer.forEach(action);
+    }
+
+    @Override
+    public int getFailureCount() {
+        return (int) Math.min(Integer.MAX_VALUE, getTotalFailureCount());
+    }
+
+    @Override
+    public synchronized long getTotalFailureCount() {
+        return spilledCount + buffer.size();
+    }
+
+    @Override
+    public synchronized long getSpilledCount() {
+        return spilledCount;
+    }
+
+    @Override
+    public List<ExpectationStatistics> getExpectationStatistics() {
+        return expectationStatistics;
+    }
+
+    @Override
+    public void setExpectationStatistics(List<ExpectationStatistics> expectationStatistics) {
+        this.expectationStatistics = expectationStatistics;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.clear();
+        bufferByItem.clear();
+        chunks.clear();
+        indexRuns.clear();
+        if (directory == null) {
+            return;
+        }
+        try {
+            dataChannel.close();
+            indexFile.delete();
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to delete spill files of " + directory, e);
+        }
+    }
+
+    /**
+     * Encodes failed conditions of a chunk and appends them and their index run to the spill files.
+     * Encoding and writing run outside the lock: the lock is taken to reserve ranges of the files
+     * and to publish the written chunk only.
+     *
+     * @param chunk - chunk of failed conditions taken from the buffer
+     */
+    private void spill(Chunk chunk) {
+        final var pending = chunk.pending;
+        final var encoded = new ByteArrayOutputStream();
+        final var encodedOutput = new DataOutputStream(encoded);
+        final var keys = new long[pending.size()];
+        final var offsets = new int[pending.size()];
+        try {
+            for (var index = 0; index < keys.length; index++) {
+                final var failedCondition = pending.get(index);
+                keys[index] = (long) hash(failedCondition.getItemId()) << 32 | index;
+                offsets[index] = encoded.size();
+                FailureCodec.write(encodedOutput, failedCondition);
+            }
+            Arrays.sort(keys);
+            final var entries = ByteBuffer.allocate(keys.length * ENTRY_SIZE);
+            final var entryLongs = entries.asLongBuffer();
+            for (long key : keys) {
+                entryLongs.put(key >> 32).put((long) chunk.number << 32 | offsets[(int) key]);
+            }
+            final FileChannel data;
+            final FileChannel index;
+            final long dataOffset;
+            final long indexOffset;
+            synchronized (this) {
+                checkOpen();
+                openFiles();
+                data = dataChannel;
+                index = indexFile.channel;
+                dataOffset = dataSize;
+                dataSize += encoded.size();
+                indexOffset = indexFile.reserve(entries.capacity());
+            }
+            write(data, ByteBuffer.wrap(encoded.toByteArray()), dataOffset);
+            write(index, entries, indexOffset);
+            synchronized (this) {
+                chunk.dataOffset = dataOffset;
+                chunk.dataLength = encoded.size();
+                chunk.pending = null;
+                indexRuns.add(new IndexRun(indexOffset / ENTRY_SIZE, keys.length));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to spill failed conditions to " + directory, e);
+        } finally {
+            synchronized (this) {
+                pendingWrites--;
+            }
+        }
+    }
+
+    private void openFiles() throws IOException {
+        if (directory != null) {
+            return;
+        }
+        directory = Files.createTempDirectory(parentDirectory, "failures");
+        dataFile = directory.resolve("failures.data");
+        dataChannel = FileChannel.open(dataFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        indexFile = new IndexFile(directory.resolve("failures.index"));
+    }
+
+    /**
+     * Gets encoded failed conditions of a written chunk. Maps a region that starts with the chunk and spans
+     * the following written chunks that are adjacent in the data file, up to the region size,
+     * so every chunk of the region shares the same mapping.
+     *
+     * @param chunk - written chunk
+     * @return - buffer of the chunk
+     */
+    private ByteBuffer dataOf(Chunk chunk) {
+        if (chunk.data != null) {
+            return chunk.data;
+        }
+        var last = chunk.number;
+        var end = chunk.dataOffset + chunk.dataLength;
+        while (last + 1 < chunks.size()) {
+            final var next = chunks.get(last + 1);
+            if (next.pending != null || next.data != null || next.dataOffset != end
+                    || next.dataOffset + next.dataLength - chunk.dataOffset > REGION_SIZE) {
+                break;
+            }
+            end = next.dataOffset + next.dataLength;
+            last++;
+        }
+        final var region = map(dataChannel, chunk.dataOffset, end - chunk.dataOffset);
+        for (var number = chunk.number; number <= last; number++) {
+            final var regionChunk = chunks.get(number);
+            final var slice = region.duplicate();
+            slice.position((int) (regionChunk.dataOffset - chunk.dataOffset));
+            slice.limit(slice.position() + regionChunk.dataLength);
+            regionChunk.data = slice.slice();
+        }
+        return chunk.data;
+    }
+
+    /**
+     * Merges runs of the index into a single run of a new index file, unless chunks are being written.
+     */
+    private void mergeIndexRuns() {
+        if (indexRuns.size() <= 1 || pendingWrites > 0) {
+            return;
+        }
+        final var queue = new PriorityQueue<RunCursor>();
+        var count = 0L;
+        for (IndexRun run : indexRuns) {
+            queue.add(new RunCursor(run.start, run.end()));
+            count += run.count;
+        }
+        try {
+            final var merged = new IndexFile(Files.createTempFile(directory, "failures", ".index"));
+            try (var output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(
+                    merged.channel)))) {
+                while (!queue.isEmpty()) {
+                    final var cursor = queue.poll();
+                    output.writeLong(cursor.hash);
+                    output.writeLong(cursor.position);
+                    if (cursor.advance()) {
+                        queue.add(cursor);
+                    }
+                }
+            }
+            merged.reopen(count * ENTRY_SIZE);
+            indexFile.delete();
+            indexFile = merged;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to merge index of spilled failed conditions of " + directory, e);
+        }
+        indexRuns.clear();
+        indexRuns.add(new IndexRun(0, count));
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Validation result is closed");
+        }
+    }
+
+    private static int hash(Object itemId) {
+        return itemId == null ? 0 : itemId.hashCode();
+    }
+
+    private static void write(FileChannel channel, ByteBuffer bytes, long position) throws IOException {
+        final var length = bytes.remaining();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes, position + length - bytes.remaining());
+        }
+    }
+
+    private ByteBuffer map(FileChannel channel, long offset, long length) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read spilled failed conditions of " + directory, e);
+        }
+    }
+
+    /**
+     * Finds the first entry of the run with a hash that is not less than the hash.
+     *
+     * @param run  - sorted run of the index
+     * @param hash - hash to find
+     * @return - number of the entry; end of the run in case all entries are less than the hash
+     */
+    private long lowerBound(IndexRun run, int hash) {
+        var low = run.start;
+        var high = run.end();
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (indexFile.hashAt(middle) < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Chunk of failed conditions taken from the buffer: failed conditions until the chunk is written,
+     * then the range of the data file, mapped on the first read.
+     */
+    private static final class Chunk {
+
+        private final int number;
+        private List<FailedCondition> pending;
+        private long dataOffset;
+        private int dataLength;
+        private ByteBuffer data;
+
+        private Chunk(int number, List<FailedCondition> pending) {
+            this.number = number;
+            this.pending = pending;
+        }
+    }
+
+    /**
+     * Sorted run of entries of the index file.
+     */
+    private static final class IndexRun {
+
+        private final long start;
+        private final long count;
+
+        private IndexRun(long start, long count) {
+            this.start = start;
+            this.count = count;
+        }
+
+        private long end() {
+            return start + count;
+        }
+    }
+
+    /**
+     * Index file read through mappings of aligned regions, so entries never cross a region.
+     * A region is mapped again in case the file has grown within the region since it was mapped.
+     */
+    private final class IndexFile {
+
+        private final Path path;
+        private final List<LongBuffer> regions = new ArrayList<>();
+        private FileChannel channel;
+        private long size;
+
+        private IndexFile(Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+
+        private long reserve(long length) {
+            final var offset = size;
+            size += length;
+            return offset;
+        }
+
+        private void reopen(long length) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            size = length;
+        }
+
+        private long hashAt(long entry) {
+            return region(entry).get(slot(entry));
+        }
+
+        private long positionAt(long entry) {
+            return region(entry).get(slot(entry) + 1);
+        }
+
+        private int slot(long entry) {
+            return (int) (entry * ENTRY_SIZE % REGION_SIZE / Long.BYTES);
+        }
+
+        private LongBuffer region(long entry) {
+            final var number = (int) (entry * ENTRY_SIZE / REGION_SIZE);
+            while (regions.size() <= number) {
+                regions.add(null);
+            }
+            var region = regions.get(number);
+            if (region == null || region.limit() < slot(entry) + 2) {
+                final var start = number * REGION_SIZE;
+                try {
+                    region = map(channel, start, Math.min(REGION_SIZE, channel.size() - start)).asLongBuffer();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Unable to read index of spilled failed conditions", e);
+                }
+                regions.set(number, region);
+            }
+            return region;
+        }
+
+        private void delete() throws IOException {
+            regions.clear();
+            channel.close();
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Cursor of a run of the index in a merge of runs, ordered by hash and position of its current entry.
+     */
+    private final class RunCursor implements Comparable<RunCursor> {
+
+        private final long end;
+        private long entry;
+        private long hash;
+        private long position;
+
+        private RunCursor(long start, long end) {
+            this.entry = start;
+            this.end = end;
+            read();
+        }
+
+        private boolean advance() {
+            if (++entry == end) {
+                return false;
+            }
+            read();
+            return true;
+        }
+
+        private void read() {
+            hash = indexFile.hashAt(entry);
+            position = indexFile.positionAt(entry);
+        }
+
+        @Override
+        public int compareTo(RunCursor other) {
+            final var comparison = Long.compare(hash, other.hash);
+            return comparison != 0 ? comparison : Long.compare(position, other.position);
+        }
+    }
+}
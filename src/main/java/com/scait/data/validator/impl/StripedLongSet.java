@@ -0,0 +1,37 @@
+package com.scait.data.validator.impl;
+
+/**
+ * Thread-safe set of primitive {@code long} keys.
+ * Keys are split by hash into stripes with a lock each, so parallel workers adding different keys rarely contend.
+ */
+class StripedLongSet {
+
+    private static final int STRIPES = 64;
+
+    private final LongHashSet[] stripes = new LongHashSet[STRIPES];
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param expectedSize - expected count of keys
+     * @param offHeap      - whether keys should be kept in direct memory
+     */
+    StripedLongSet(int expectedSize, boolean offHeap) {
+        for (var index = 0; index < STRIPES; index++) {
+            stripes[index] = new LongHashSet(expectedSize / STRIPES, offHeap);
+        }
+    }
+
+    /**
+     * Adds a key to the set.
+     *
+     * @param key - key to add
+     * @return - true in case the key was not in the set
+     */
+    boolean add(long key) {
+        final var stripe = stripes[(int) (LongHashSet.mix(key) >>> Long.SIZE - Integer.numberOfTrailingZeros(STRIPES))];
+        synchronized (stripe) {
+            return stripe.add(key);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.FailureSink;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of {@link FailureSink} that publishes failed conditions to a {@link Flow.Subscriber}
+ * with respect to its demand. Signals to the subscriber are serialized, so the sink can be used
+ * in parallel validation mode.
+ */
+class SubscriberFailureSink implements FailureSink, Flow.Subscription {
+
+    private final Flow.Subscriber<? super FailedCondition> subscriber;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition demandAvailable = lock.newCondition();
+    private long demand;
+    private boolean cancelled;
+    private boolean completed;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param subscriber - subscriber of failed conditions
+     */
+    SubscriberFailureSink(Flow.Subscriber<? super FailedCondition> subscriber) {
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public void accept(FailedCondition failedCondition) {
+        lock.lock();
+        try {
+            while (demand == 0 && !cancelled) {
+                demandAvailable.await();
+            }
+            if (cancelled) {
+                return;
+            }
+            demand--;
+            subscriber.onNext(failedCondition);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for subscriber demand", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void complete() {
+        lock.lock();
+        try {
+            if (!cancelled && !completed) {
+                completed = true;
+                subscriber.onComplete();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void fail(Throwable error) {
+        lock.lock();
+        try {
+            if (!cancelled && !completed) {
+                completed = true;
+                subscriber.onError(error);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        lock.lock();
+        try {
+            if (cancelled || completed) {
+                return;
+            }
+            if (n <= 0) {
+                cancelled = true;
+                demandAvailable.signalAll();
+                subscriber.onError(new IllegalArgumentException("Requested count should be positive: " + n));
+                return;
+            }
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            demandAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        lock.lock();
+        try {
+            cancelled = true;
+            demandAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ValidationResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Future of an asynchronous validation run.
+ * Cancellation of the future cancels the run, so the validation pipeline stops on the next item or expectation.
+ * The future is cancelled before the run, so a run that stops on cancellation cannot complete it first.
+ */
+class ValidationFuture extends CompletableFuture<ValidationResult> {
+
+    private final ValidationRun<?> run;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param run - validation run
+     */
+    ValidationFuture(ValidationRun<?> run) {
+        this.run = run;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        final var cancelled = super.cancel(mayInterruptIfRunning);
+        run.cancel();
+        return cancelled;
+    }
+
+    @Override
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new CompletableFuture<>();
+    }
+}
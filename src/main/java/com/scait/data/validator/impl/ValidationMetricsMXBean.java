@@ -0,0 +1,58 @@
+package com.scait.data.validator.impl;
+
+import java.util.Map;
+
+/**
+ * Management interface of validation metrics, see {@link JmxMetricsListener}.
+ */
+public interface ValidationMetricsMXBean {
+
+    /**
+     * Gets count of items processed by the last reported validation.
+     *
+     * @return - count of processed items
+     */
+    long getProcessedItems();
+
+    /**
+     * Gets throughput of the last reported validation.
+     *
+     * @return - processed items per second
+     */
+    double getItemsPerSecond();
+
+    /**
+     * Gets count of pending parallel tasks of the last reported validation.
+     *
+     * @return - count of pending tasks
+     */
+    int getQueueDepth();
+
+    /**
+     * Gets approximate count of bytes allocated per processed item of the last reported validation.
+     *
+     * @return - allocated bytes per item; -1 in case it is not measured
+     */
+    long getAllocatedBytesPerItem();
+
+    /**
+     * Gets median evaluation latency of every expectation.
+     *
+     * @return - latency in nanoseconds by expectation name
+     */
+    Map<String, Long> getMedianLatencyNanos();
+
+    /**
+     * Gets 99th percentile evaluation latency of every expectation.
+     *
+     * @return - latency in nanoseconds by expectation name
+     */
+    Map<String, Long> getP99LatencyNanos();
+
+    /**
+     * Gets max evaluation latency of every expectation.
+     *
+     * @return - latency in nanoseconds by expectation name
+     */
+    Map<String, Long> getMaxLatencyNanos();
+}
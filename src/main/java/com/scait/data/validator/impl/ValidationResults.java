@@ -0,0 +1,176 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ExpectationStatistics;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.SpilledValidationResult;
+import com.scait.data.validator.ValidationResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Binary wire format and merge of validation results, e.g. partial results of shards validated by other processes.
+ * A written result is a header followed by frames: a frame with the truncation flag and statistics of expectations,
+ * then a frame per failed condition encoded by {@link FailureCodec} and an empty frame at the end,
+ * so results are written and read as a stream of failed conditions.
+ * Only retained failed conditions are written, so a result that pushes failed conditions to a sink
+ * or aggregates them is written with the ones it retains.
+ */
+public final class ValidationResults {
+
+    private static final int MAGIC = 0x56524553;
+    private static final int VERSION = 1;
+
+    private ValidationResults() {
+        //No op.
+    }
+
+    /**
+     * Writes a validation result to a stream. The stream is flushed and not closed.
+     *
+     * @param validationResult - validation result
+     * @param output           - stream to write to
+     * @throws IOException - in case the stream cannot be written
+     */
+    public static void write(ValidationResult validationResult, OutputStream output) throws IOException {
+        final var dataOutput = new DataOutputStream(output);
+        dataOutput.writeInt(MAGIC);
+        dataOutput.writeByte(VERSION);
+        final var frame = new ByteArrayOutputStream();
+        final var frameOutput = new DataOutputStream(frame);
+        frameOutput.writeBoolean(validationResult.isTruncated());
+        final var expectationStatistics = validationResult.getExpectationStatistics();
+        FailureCodec.writeVarLong(frameOutput, expectationStatistics.size());
+        for (ExpectationStatistics statistics : expectationStatistics) {
+            FailureCodec.writeValue(frameOutput, statistics.getExpectationName());
+            FailureCodec.writeVarLong(frameOutput, statistics.getCheckedCount());
+            FailureCodec.writeVarLong(frameOutput, statistics.getFailedCount());
+            FailureCodec.writeVarLong(frameOutput, statistics.getEvaluationTime().toNanos());
+        }
+        writeFrame(dataOutput, frame);
+        try {
+            forEachFailedCondition(validationResult, (FailedCondition failedCondition) -> {
+                try {
+                    frame.reset();
+                    FailureCodec.write(frameOutput, failedCondition);
+                    writeFrame(dataOutput, frame);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        FailureCodec.writeVarLong(dataOutput, 0);
+        dataOutput.flush();
+    }
+
+    /**
+     * Reads a validation result written by {@link #write(ValidationResult, OutputStream)}.
+     * Reads the stream up to the end of the result only, so results may follow each other in the same stream;
+     * the stream should be buffered.
+     *
+     * @param input - stream to read from
+     * @return - validation result
+     * @throws IOException - in case the stream cannot be read or does not contain a validation result
+     */
+    public static ValidationResult read(InputStream input) throws IOException {
+        final var dataInput = new DataInputStream(input);
+        if (dataInput.readInt() != MAGIC || dataInput.readByte() != VERSION) {
+            throw new IOException("Stream does not contain a validation result");
+        }
+        final var validationResult = new DataValidationResult();
+        var frame = new byte[256];
+        var length = (int) FailureCodec.readVarLong(dataInput);
+        frame = readFrame(dataInput, frame, length);
+        final var header = ByteBuffer.wrap(frame, 0, length);
+        if (header.get() != 0) {
+            validationResult.markTruncated();
+        }
+        final var statisticsCount = (int) FailureCodec.readVarLong(header);
+        final List<ExpectationStatistics> expectationStatistics = new ArrayList<>(statisticsCount);
+        for (var index = 0; index < statisticsCount; index++) {
+            final var counter = new ExpectationCounter((String) FailureCodec.readValue(header));
+            counter.record(FailureCodec.readVarLong(header), FailureCodec.readVarLong(header),
+                    FailureCodec.readVarLong(header));
+            expectationStatistics.add(counter);
+        }
+        validationResult.setExpectationStatistics(List.copyOf(expectationStatistics));
+        while ((length = (int) FailureCodec.readVarLong(dataInput)) != 0) {
+            frame = readFrame(dataInput, frame, length);
+            validationResult.addFailedCondition(FailureCodec.read(ByteBuffer.wrap(frame, 0, length)));
+        }
+        return validationResult;
+    }
+
+    /**
+     * Merges two validation results into a new result. Merge is associative: failed conditions of the first
+     * result are followed by the ones of the second result, statistics of expectations of the same name are summed
+     * and the merged result is truncated in case any of the results is truncated.
+     *
+     * @param first  - first validation result
+     * @param second - second validation result
+     * @return - merged validation result
+     */
+    public static ValidationResult merge(ValidationResult first, ValidationResult second) {
+        final var validationResult = new DataValidationResult();
+        final Map<String, ExpectationCounter> counters = new LinkedHashMap<>();
+        mergeInto(validationResult, counters, first);
+        mergeInto(validationResult, counters, second);
+        validationResult.setExpectationStatistics(List.copyOf(counters.values()));
+        return validationResult;
+    }
+
+    /**
+     * Adds failed conditions and truncation of a result to an accumulating result and sums its statistics
+     * of expectations into counters by name, so any count of results is merged in a single pass over each of them.
+     * Statistics of the accumulating result are set by the caller from the counters once all results are added.
+     *
+     * @param validationResult - accumulating validation result
+     * @param counters         - counters of expectations of the accumulating result by name
+     * @param partialResult    - validation result to add
+     */
+    static void mergeInto(ValidationResult validationResult, Map<String, ExpectationCounter> counters,
+                          ValidationResult partialResult) {
+        forEachFailedCondition(partialResult, validationResult::addFailedCondition);
+        if (partialResult.isTruncated()) {
+            validationResult.markTruncated();
+        }
+        for (ExpectationStatistics statistics : partialResult.getExpectationStatistics()) {
+            counters.computeIfAbsent(statistics.getExpectationName(), ExpectationCounter::new)
+                    .record(statistics.getCheckedCount(), statistics.getFailedCount(),
+                            statistics.getEvaluationTime().toNanos());
+        }
+    }
+
+    private static void forEachFailedCondition(ValidationResult validationResult,
+                                               Consumer<FailedCondition> action) {
+        if (validationResult instanceof SpilledValidationResult) {
+            ((SpilledValidationResult) validationResult).forEachFailedCondition(action);
+        } else {
+            validationResult.getFailedConditions().forEach(action);
+        }
+    }
+
+    private static void writeFrame(DataOutputStream output, ByteArrayOutputStream frame) throws IOException {
+        FailureCodec.writeVarLong(output, frame.size());
+        frame.writeTo(output);
+    }
+
+    private static byte[] readFrame(DataInputStream input, byte[] frame, int length) throws IOException {
+        final var buffer = frame.length < length ? new byte[Math.max(length, frame.length * 2)] : frame;
+        input.readFully(buffer, 0, length);
+        return buffer;
+    }
+}
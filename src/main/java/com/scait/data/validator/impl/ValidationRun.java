@@ -0,0 +1,192 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ExpectationStatistics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * State of a single validation run.
+ * Counts processed items, failed conditions and evaluations of every expectation with striped counters,
+ * applies the failure budget and tells the validation pipeline when it should stop.
+ *
+ * @param <T> - type of entity for validation
+ */
+class ValidationRun<T> {
+
+    /**
+     * Budget value that means no limit.
+     */
+    static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final int maxFailures;
+    private final int maxFailuresPerItem;
+    private final ExpectationCounter[] expectationCounters;
+    private final RunInstrumentation instrumentation;
+    private final EvaluationOrder<T> evaluationOrder;
+    private final AtomicLong budgetFailures = new AtomicLong();
+    private final LongAdder processedItems = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private FingerprintRun<T> fingerprints;
+    private volatile boolean stopped;
+    private volatile boolean cancelled;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param maxFailures        - max count of failed conditions of the run
+     * @param maxFailuresPerItem - max count of failed conditions of a single item
+     * @param expectations       - compiled expectations of the run
+     * @param instrumented       - whether latencies and other metrics of the run should be recorded
+     * @param adaptiveOrder      - whether expectations should be reordered by measured cost and failure rate
+     */
+    ValidationRun(int maxFailures, int maxFailuresPerItem, CompiledExpectations<T> expectations,
+                  boolean instrumented, boolean adaptiveOrder) {
+        this.maxFailures = maxFailures;
+        this.maxFailuresPerItem = maxFailuresPerItem;
+        this.expectationCounters = new ExpectationCounter[expectations.size()];
+        for (var index = 0; index < expectationCounters.length; index++) {
+            expectationCounters[index] = new ExpectationCounter(expectations.getName(index));
+        }
+        this.instrumentation = instrumented ? new RunInstrumentation(this) : null;
+        this.evaluationOrder = new EvaluationOrder<>(expectations, adaptiveOrder ? expectationCounters : null);
+    }
+
+    /**
+     * Acquires budget for one more failed condition.
+     * Does not touch shared budget state in case the run is not limited.
+     *
+     * @return - true in case failed condition fits the budget and should be recorded
+     */
+    boolean acquire() {
+        if (maxFailures == UNLIMITED) {
+            failures.increment();
+            return true;
+        }
+        final var count = budgetFailures.incrementAndGet();
+        if (count >= maxFailures) {
+            stopped = true;
+        }
+        if (count <= maxFailures) {
+            failures.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets counter of evaluations of the expectation.
+     *
+     * @param index - index of the expectation
+     * @return - counter of the expectation
+     */
+    ExpectationCounter getExpectationCounter(int index) {
+        return expectationCounters[index];
+    }
+
+    /**
+     * Gets order of expectation evaluation of the run.
+     *
+     * @return - evaluation order
+     */
+    EvaluationOrder<T> getEvaluationOrder() {
+        return evaluationOrder;
+    }
+
+    /**
+     * Gets fingerprints of items of the run.
+     *
+     * @return - fingerprints; null in case unchanged items are not skipped
+     */
+    FingerprintRun<T> getFingerprints() {
+        return fingerprints;
+    }
+
+    /**
+     * Sets fingerprints of items of the run, before the run is started.
+     *
+     * @param fingerprints - fingerprints of items
+     */
+    void setFingerprints(FingerprintRun<T> fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Gets instrumentation of the run.
+     *
+     * @return - instrumentation; null in case the run is not instrumented
+     */
+    RunInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Gets statistics of all expectations of the run.
+     *
+     * @return - List of ExpectationStatistics
+     */
+    List<ExpectationStatistics> getExpectationStatistics() {
+        return List.of(expectationCounters);
+    }
+
+    /**
+     * Counts an item processed by the run.
+     */
+    void itemProcessed() {
+        processedItems.increment();
+    }
+
+    /**
+     * Cancels the run: the pipeline stops on the next item or expectation.
+     */
+    void cancel() {
+        cancelled = true;
+        stopped = true;
+    }
+
+    /**
+     * Defines whether the run should stop, because the budget is exhausted or the run is cancelled.
+     *
+     * @return - true in case no more items should be validated
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Defines whether the run is cancelled.
+     *
+     * @return - true in case the run is cancelled
+     */
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Gets max count of failed conditions of a single item.
+     *
+     * @return - max count of failed conditions per item
+     */
+    int getMaxFailuresPerItem() {
+        return maxFailuresPerItem;
+    }
+
+    /**
+     * Gets count of items processed so far.
+     *
+     * @return - count of processed items
+     */
+    long getProcessedItems() {
+        return processedItems.sum();
+    }
+
+    /**
+     * Gets count of failed conditions recorded so far.
+     *
+     * @return - count of failed conditions
+     */
+    long getFailures() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,183 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.RecordView;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Validation run that verifies every item on its own virtual thread.
+ * Count of items in flight is limited by a semaphore, so expectations with blocking lookups
+ * may keep thousands of lookups in flight without exhausting platform threads.
+ * Virtual threads are looked up at runtime, so the library keeps its Java 11 baseline
+ * and the mode is available on Java 21 and later.
+ * Items are detached from their source before they are handed to virtual threads, see {@link #detach(Object)}.
+ *
+ * @param <T> - type of entity for validation
+ */
+class VirtualThreadValidation<T> {
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private final int maxConcurrency;
+    private final Predicate<T> itemValidation;
+    private final ChunkedResult chunkedResult;
+    private final Semaphore permits;
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private volatile boolean stopped;
+
+    /**
+     * Parametrized constructor.
+     *
+     * @param maxConcurrency - max count of items validated at the same time
+     * @param itemValidation - validation of a single item that returns false in case validation should stop
+     * @param chunkedResult  - result that collects failed conditions per item; null in case it does not
+     */
+    VirtualThreadValidation(int maxConcurrency, Predicate<T> itemValidation, ChunkedResult chunkedResult) {
+        this.maxConcurrency = maxConcurrency;
+        this.itemValidation = itemValidation;
+        this.chunkedResult = chunkedResult;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Gets count of items that are being validated at the moment.
+     *
+     * @return - count of items in flight
+     */
+    int getPendingTasks() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Defines whether virtual threads are supported by the running JVM.
+     *
+     * @return - true in case virtual threads are available
+     */
+    static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Validates all items of the sources in order and waits for completion of all item tasks.
+     * Items are pulled from a source one at a time, once a permit is available,
+     * so the source is not read ahead of the items in flight.
+     *
+     * @param sources - spliterators of accepted data streams
+     */
+    void run(List<Spliterator<T>> sources) {
+        final var executor = newVirtualThreadExecutor();
+        try {
+            final var itemIndex = new long[1];
+            for (Spliterator<T> source : sources) {
+                while (!stopped && source.tryAdvance((T item) -> submit(executor, item, itemIndex[0]++))) {
+                    //Submits item by item until the source ends or validation stops.
+                }
+            }
+            permits.acquire(maxConcurrency);
+        } catch (InterruptedException e) {
+            stop();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for item validation", e);
+        } finally {
+            executor.shutdown();
+        }
+        final var cause = error.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+    }
+
+    /**
+     * Stops the validation: no more items are submitted and pending item tasks are skipped.
+     */
+    void stop() {
+        stopped = true;
+    }
+
+    private void submit(ExecutorService executor, T item, long itemIndex) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for item validation", e);
+        }
+        final var detachedItem = detach(item);
+        executor.execute(() -> validate(detachedItem, itemIndex));
+    }
+
+    /**
+     * Detaches an item from its source before it is handed to a virtual thread:
+     * a flyweight record view is materialized, as the source moves the view to the next record
+     * while the item is still being validated.
+     *
+     * @param item - item of the source
+     * @return - item that can be kept by another thread
+     */
+    @SuppressWarnings("unchecked")
+    private T detach(T item) {
+        return item instanceof RecordView ? (T) ((RecordView) item).materialize() : item;
+    }
+
+    private void validate(T item, long itemIndex) {
+        if (chunkedResult != null) {
+            chunkedResult.beginChunk(orderKey(itemIndex));
+        }
+        try {
+            if (!stopped && !itemValidation.test(item)) {
+                stop();
+            }
+        } catch (Throwable e) {
+            error.compareAndSet(null, e);
+            stop();
+        } finally {
+            if (chunkedResult != null) {
+                chunkedResult.endChunk();
+            }
+            permits.release();
+        }
+    }
+
+    /**
+     * Gets order key of an item by its index as two non-negative parts.
+     *
+     * @param itemIndex - index of the item in encounter order
+     * @return - order key of the item
+     */
+    private static int[] orderKey(long itemIndex) {
+        return new int[]{(int) (itemIndex >>> Integer.SIZE - 1), (int) itemIndex & Integer.MAX_VALUE};
+    }
+
+    private ExecutorService newVirtualThreadExecutor() {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    private static MethodHandle findVirtualThreadExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
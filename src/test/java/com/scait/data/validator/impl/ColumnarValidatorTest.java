@@ -0,0 +1,163 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Bounds;
+import com.scait.data.validator.Difference;
+import com.scait.data.validator.FailedCondition;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ColumnarDataValidator} class.
+ */
+class ColumnarValidatorTest {
+
+    private static final int ROWS = 1000;
+    private static final int LARGE_ROWS = 3_000_000;
+
+    @Test
+    void shouldMatchDifferencesOfIntColumn() {
+        final var column = randomInts(ROWS);
+        for (Difference difference : Difference.values()) {
+            for (int expectedValue : new int[]{Integer.MIN_VALUE, -1, 0, 7, Integer.MAX_VALUE}) {
+                final var validationResult = new ColumnarDataValidator()
+                        .expect(ColumnExpectation.of(column, difference, expectedValue))
+                        .validate();
+
+                final var expected = new BitSet();
+                for (var row = 0; row < column.length; row++) {
+                    if (!difference.test(Integer.compare(column[row], expectedValue))) {
+                        expected.set(row);
+                    }
+                }
+                assertEquals(expected, validationResult.getFailureBitmap(0), difference + " " + expectedValue);
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchBoundsOfLongColumn() {
+        final var column = new Random(1).longs(ROWS, -20, 20).toArray();
+        for (Bounds bounds : Bounds.values()) {
+            final var validationResult = new ColumnarDataValidator()
+                    .expect(ColumnExpectation.between(column, -5L, 5L, bounds))
+                    .validate();
+
+            final var expected = new BitSet();
+            for (var row = 0; row < column.length; row++) {
+                if (!bounds.getLowerDifference().test(Long.compare(column[row], -5))
+                        || !bounds.getUpperDifference().test(Long.compare(column[row], 5))) {
+                    expected.set(row);
+                }
+            }
+            assertEquals(expected, validationResult.getFailureBitmap(0), bounds.toString());
+        }
+    }
+
+    @Test
+    void shouldFailNotANumberOfDoubleColumn() {
+        final double[] column = {0.5, Double.NaN, 1.0, Double.POSITIVE_INFINITY, -0.25};
+
+        final var validationResult = new ColumnarDataValidator()
+                .expect(ColumnExpectation.of(column, Difference.LESS, 1.0))
+                .expect(ColumnExpectation.of(column, Difference.NOT_EQUAL, 1.0))
+                .validate();
+
+        assertEquals(BitSet.valueOf(new long[]{0b1110}), validationResult.getFailureBitmap(0));
+        assertEquals(BitSet.valueOf(new long[]{0b0100}), validationResult.getFailureBitmap(1));
+    }
+
+    @Test
+    void shouldCompareDoubleColumnAsDoubleExpectation() {
+        final double[] column = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 1.0};
+        for (Difference difference : Difference.values()) {
+            for (double expectedValue : new double[]{Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY}) {
+                final var validationResult = new ColumnarDataValidator()
+                        .expect(ColumnExpectation.of(column, difference, expectedValue))
+                        .expect(ColumnExpectation.between(column, -0.0, expectedValue, Bounds.INCLUSIVE))
+                        .validate();
+
+                final var expectation = DoubleExpectation.of(expectedValue, (Double value) -> value, difference);
+                final var rangeExpectation = DoubleExpectation.between(-0.0, expectedValue,
+                        (Double value) -> value, Bounds.INCLUSIVE);
+                final var expected = new BitSet();
+                final var expectedRange = new BitSet();
+                for (var row = 0; row < column.length; row++) {
+                    expected.set(row, !expectation.evaluate(column[row]).isJustified());
+                    expectedRange.set(row, !rangeExpectation.evaluate(column[row]).isJustified());
+                }
+                assertEquals(expected, validationResult.getFailureBitmap(0), difference + " " + expectedValue);
+                assertEquals(expectedRange, validationResult.getFailureBitmap(1), "range " + expectedValue);
+            }
+        }
+    }
+
+    @Test
+    void shouldJoinBitmapsWithIdColumn() {
+        final int[] amounts = {5, -1, 12, 3};
+        final long[] ids = {100, 101, 102, 103};
+
+        final var validationResult = new ColumnarDataValidator()
+                .setItemIds(ids)
+                .expect(ColumnExpectation.between(amounts, 0, 10, Bounds.INCLUSIVE).named("amount"))
+                .expect(ColumnExpectation.of(amounts, Difference.GREATER, 4).named("minimum"))
+                .validate();
+
+        assertEquals(4, validationResult.getFailureCount());
+        assertEquals(List.of(101L, 101L, 102L, 103L), validationResult.getFailedConditions().stream()
+                .map(FailedCondition::getItemId)
+                .collect(Collectors.toList()));
+        final var conditions = List.copyOf(validationResult.getFailedConditions(101L));
+        assertEquals("amount", conditions.get(0).getExpectationName());
+        assertEquals(0, conditions.get(0).getExpectedValue());
+        assertEquals(-1, conditions.get(0).getActualValue());
+        assertEquals(10, List.copyOf(validationResult.getFailedConditions(102L)).get(0).getExpectedValue());
+        assertEquals(2, validationResult.getExpectationStatistics().get(0).getFailedCount());
+        assertEquals(4, validationResult.getExpectationStatistics().get(1).getCheckedCount());
+    }
+
+    @Test
+    void shouldValidateDirectBuffersInParallel() {
+        final var column = randomInts(LARGE_ROWS);
+        final var buffer = ByteBuffer.allocateDirect(LARGE_ROWS * Integer.BYTES).order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+        buffer.put(column).flip();
+
+        final var arrayResult = new ColumnarDataValidator()
+                .expect(ColumnExpectation.of(column, Difference.GREATER_OR_EQUAL, 0))
+                .validate();
+        final var bufferResult = new ColumnarDataValidator()
+                .expect(ColumnExpectation.of(buffer, Difference.GREATER_OR_EQUAL, 0))
+                .parallel()
+                .validate();
+
+        assertEquals(arrayResult.getFailureBitmap(0), bufferResult.getFailureBitmap(0));
+        assertTrue(bufferResult.getFailureCount() > 0);
+    }
+
+    @Test
+    void shouldRejectColumnsOfDifferentRowCounts() {
+        final var validator = new ColumnarDataValidator()
+                .expect(ColumnExpectation.of(new int[3], Difference.EQUAL, 0))
+                .expect(ColumnExpectation.of(new long[4], Difference.EQUAL, 0L));
+
+        assertThrows(IllegalArgumentException.class, validator::validate);
+    }
+
+    private static int[] randomInts(int count) {
+        final var random = new Random(count);
+        final var column = random.ints(count, -10, 10).toArray();
+        column[0] = Integer.MIN_VALUE;
+        column[1] = Integer.MAX_VALUE;
+        return column;
+    }
+}
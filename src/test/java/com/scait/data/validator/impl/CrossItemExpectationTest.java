@@ -0,0 +1,142 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Difference;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.KeyStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CrossItemExpectation} class.
+ */
+class CrossItemExpectationTest {
+
+    private static final int ITEMS = 100_000;
+
+    @Test
+    void shouldFindDuplicateKeysInParallel() {
+        final var validationResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .accept(IntStream.of(0, 17, ITEMS - 1).boxed())
+                .expect(CrossItemExpectation.uniqueLong((Integer item) -> (long) item, ITEMS, KeyStorage.OFF_HEAP))
+                .parallel(4)
+                .validate();
+
+        assertEquals(3, validationResult.getFailureCount());
+        assertEquals(Set.of(0L, 17L, ITEMS - 1L), validationResult.getFailedConditions().stream()
+                .map(FailedCondition::getActualValue)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldFindDuplicateObjectKeys() {
+        final var validationResult = new DataValidator<String>()
+                .accept(List.of("a", "b", "a", "c", "b").stream())
+                .expect(CrossItemExpectation.unique((String item) -> item))
+                .validate();
+
+        assertEquals(2, validationResult.getFailureCount());
+    }
+
+    @Test
+    void shouldFindMissingReferences() {
+        final var validationResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(CrossItemExpectation.references((Integer item) -> (long) item,
+                        () -> LongStream.range(0, ITEMS).filter((long key) -> key % 1000 != 0),
+                        KeyStorage.HEAP, true))
+                .parallel()
+                .validate();
+
+        assertEquals(ITEMS / 1000, validationResult.getFailureCount());
+    }
+
+    @Test
+    void shouldCheckSumOfAllItems() {
+        final var expectedTotal = (long) ITEMS * (ITEMS - 1) / 2;
+        final var passedResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(CrossItemExpectation.sum((Integer item) -> item, expectedTotal))
+                .parallel()
+                .validate();
+        final var failedResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(CrossItemExpectation.sum((Integer item) -> item, expectedTotal, Difference.LESS))
+                .validate();
+        final var failedCondition = failedResult.getFailedConditions().iterator().next();
+
+        assertTrue(passedResult.isSuccessful());
+        assertEquals(1, failedResult.getFailureCount());
+        assertNull(failedCondition.getItemId());
+        assertEquals(expectedTotal, failedCondition.getActualValue());
+    }
+
+    @Test
+    void shouldAggregateItemsBeyondFailureBudgetOfItem() {
+        final var validationResult = new DataValidator<Integer>()
+                .accept(Stream.of(-5, 5, 10))
+                .expect(Expectation.of(() -> 0, (Integer item) -> item, Integer::compareTo,
+                        Difference.GREATER_OR_EQUAL))
+                .expect(CrossItemExpectation.sum((Integer item) -> item, 10))
+                .maxFailuresPerItem(1)
+                .validate();
+
+        assertEquals(1, validationResult.getFailureCount());
+        assertEquals(Set.of(-5), validationResult.getFailedItemIds());
+        assertTrue(validationResult.isTruncated());
+    }
+
+    @Test
+    void shouldFindDuplicateKeysBeyondFailureBudgetOfItem() {
+        final var validationResult = new DataValidator<Integer>()
+                .accept(Stream.of(-1, -1, 2, 2))
+                .expect(Expectation.of(() -> 0, (Integer item) -> item, Integer::compareTo,
+                        Difference.GREATER_OR_EQUAL))
+                .expect(CrossItemExpectation.uniqueLong((Integer item) -> (long) item))
+                .maxFailuresPerItem(1)
+                .adaptiveOrder()
+                .validate();
+
+        assertEquals(3, validationResult.getFailureCount());
+        assertEquals(Set.of(-1, 2), validationResult.getFailedItemIds());
+    }
+
+    @Test
+    void shouldReportAggregateFailureAfterOrderedItemFailures() {
+        final var validationResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(Expectation.of(() -> 0, (Integer item) -> item % 1000))
+                .expect(CrossItemExpectation.sum((Integer item) -> item, 0))
+                .parallel(4)
+                .ordered()
+                .validate();
+        final var failedConditions = List.copyOf(validationResult.getFailedConditions());
+        final var lastCondition = failedConditions.get(failedConditions.size() - 1);
+
+        assertEquals(ITEMS - ITEMS / 1000 + 1, failedConditions.size());
+        assertEquals(1, failedConditions.get(0).getItemId());
+        assertNull(lastCondition.getItemId());
+        assertEquals((long) ITEMS * (ITEMS - 1) / 2, lastCondition.getActualValue());
+    }
+
+    @Test
+    void shouldNameFailedConditionsOfCrossItemExpectation() {
+        final var validationResult = new DataValidator<Integer>()
+                .accept(Stream.of(1, 2, 1))
+                .expect(CrossItemExpectation.uniqueLong((Integer item) -> (long) item).named("unique"))
+                .validate();
+
+        assertEquals("unique", List.copyOf(validationResult.getFailedConditions()).get(0).getExpectationName());
+        assertEquals("unique", validationResult.getExpectationStatistics().get(0).getExpectationName());
+    }
+}
@@ -0,0 +1,137 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.Reconciler;
+import com.scait.data.validator.ValidationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.scait.data.validator.impl.Expectation.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link DataReconciler} class.
+ */
+class DataReconcilerTest {
+
+    private static final int ROWS = 10_000;
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void shouldReconcileByHashJoin() {
+        final var validationResult = reconciler().reconcile();
+
+        assertFailures(validationResult);
+    }
+
+    @Test
+    void shouldReconcileSortedDataByMergeJoin() {
+        final var validationResult = reconciler()
+                .sorted(Comparator.naturalOrder())
+                .reconcile();
+
+        assertFailures(validationResult);
+    }
+
+    @Test
+    void shouldFailMergeJoinOfUnsortedData() {
+        final var reconciler = new DataReconciler<Integer, Integer>()
+                .acceptLeft(Stream.of(1, 2, 3))
+                .acceptRight(Stream.of(1, 3, 2))
+                .sorted(Comparator.naturalOrder());
+
+        final var exception = assertThrows(IllegalStateException.class, reconciler::reconcile);
+        assertEquals("Items on right are not sorted by id: 2 follows 3", exception.getMessage());
+    }
+
+    @Test
+    void shouldMergeJoinNullItems() {
+        final var validationResult = new DataReconciler<String, String>()
+                .acceptLeft(Stream.of(null, "a", "b"))
+                .acceptRight(Stream.of(null, "b"))
+                .sorted(Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .reconcile();
+
+        assertEquals(Set.of("a"), validationResult.getFailedItemIds());
+    }
+
+    @Test
+    void shouldReconcileSpilledPartitions() throws IOException {
+        final var validationResult = reconciler()
+                .spillTo(spillDirectory, 8)
+                .reconcile();
+
+        assertFailures(validationResult);
+        try (var files = Files.list(spillDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    /**
+     * Left rows are 0..ROWS-1 without 10; right rows are 1..ROWS with a different amount of row 20.
+     */
+    private Reconciler<Row, Integer> reconciler() {
+        return new DataReconciler<Row, Integer>()
+                .acceptLeft(IntStream.range(0, ROWS).filter((int id) -> id != 10)
+                        .mapToObj((int id) -> new Row(id, id)))
+                .acceptRight(IntStream.rangeClosed(1, ROWS)
+                        .mapToObj((int id) -> new Row(id, id == 20 ? -1 : id)))
+                .setItemId(Row::getId)
+                .expect(of((MatchedPair<Row> pair) -> pair.getLeft().getAmount(),
+                        (MatchedPair<Row> pair) -> pair.getRight().getAmount()).named("amount"));
+    }
+
+    private static void assertFailures(ValidationResult validationResult) {
+        final var failedIds = validationResult.getFailedConditions().stream()
+                .collect(Collectors.groupingBy(FailedCondition::getExpectationName,
+                        Collectors.mapping(FailedCondition::getItemId, Collectors.toSet())));
+
+        assertEquals(4, validationResult.getFailureCount());
+        assertEquals(Map.of("missing on right", Set.of(0), "missing on left", Set.of(10, ROWS), "amount", Set.of(20)),
+                failedIds);
+    }
+
+    /**
+     * Mock data row for reconciler testing.
+     */
+    private static class Row implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int id;
+        private final long amount;
+
+        /**
+         * Parametrized constructor.
+         *
+         * @param id     - id
+         * @param amount - amount
+         */
+        Row(int id, long amount) {
+            this.id = id;
+            this.amount = amount;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+    }
+}
@@ -1,15 +1,38 @@
 package com.scait.data.validator.impl;
 
 import com.scait.data.validator.Difference;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.FailureSummary;
+import com.scait.data.validator.ValidationMetrics;
 import org.junit.jupiter.api.Test;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.scait.data.validator.impl.Expectation.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Unit tests for {@link DataValidator} class.
@@ -45,6 +68,8 @@ class DataValidatorTest {
         assertTrue(validationResult.isFailed());
         assertEquals(2, failedConditions1.size());
         assertEquals(1, failedConditions2.size());
+        assertEquals(3, validationResult.getFailureCount());
+        assertEquals(Set.of(ID_1, ID_2), validationResult.getFailedItemIds());
     }
 
     @Test
@@ -68,6 +93,421 @@ class DataValidatorTest {
         assertTrue(validationResult.isFailed());
         assertEquals(2, failedConditions1.size());
         assertEquals(1, failedConditions2.size());
+        assertEquals(3, validationResult.getFailureCount());
+        assertEquals(Set.of(ID_1, ID_2), validationResult.getFailedItemIds());
+    }
+
+    @Test
+    void shouldStopOnFirstFailureInFailFastMode() {
+        final var object1 = obj(ID_1, NAME_1, VALUE_1, List.of(ITEM_1));
+        final var object2 = obj(ID_2, NAME_2, VALUE_2, List.of(ITEM_1, ITEM_2));
+
+        final DataValidator<TestObject> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(Stream.of(object1, object2))
+                .setItemId(TestObject::getId)
+                .expect(of(TestObject::getId, TestObject::getName))
+                .expect(of(() -> 2, TestObject::getValue, Integer::compareTo, Difference.GREATER_OR_EQUAL))
+                .failFast()
+                .validate();
+
+        assertTrue(validationResult.isFailed());
+        assertTrue(validationResult.isTruncated());
+        assertEquals(1, validationResult.getFailureCount());
+        assertEquals(Set.of(ID_1), validationResult.getFailedItemIds());
+    }
+
+    @Test
+    void shouldSkipItemExpectationsOverItemFailureBudget() {
+        final var object1 = obj(ID_1, NAME_1, VALUE_1, List.of(ITEM_1));
+        final var object2 = obj(ID_2, NAME_2, VALUE_2, List.of(ITEM_1, ITEM_2));
+
+        final DataValidator<TestObject> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(Stream.of(object1, object2))
+                .setItemId(TestObject::getId)
+                .expect(of(TestObject::getId, TestObject::getName))
+                .expect(of(() -> 2, TestObject::getValue, Integer::compareTo, Difference.GREATER_OR_EQUAL))
+                .maxFailuresPerItem(1)
+                .validate();
+
+        assertTrue(validationResult.isTruncated());
+        assertEquals(1, validationResult.getFailedConditions(ID_1).size());
+        assertEquals(1, validationResult.getFailedConditions(ID_2).size());
+    }
+
+    @Test
+    void shouldRespectFailureBudgetInParallel() {
+        final DataValidator<Integer> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(IntStream.range(0, 100_000).boxed())
+                .expect(of(() -> -1, (Integer item) -> item, Integer::compareTo, Difference.LESS))
+                .maxFailures(10)
+                .parallel()
+                .validate();
+
+        assertTrue(validationResult.isTruncated());
+        assertEquals(10, validationResult.getFailureCount());
+    }
+
+    @Test
+    void shouldNotTruncateWithinFailureBudget() {
+        final var object1 = obj(ID_1, NAME_1, VALUE_1, List.of(ITEM_1));
+
+        final DataValidator<TestObject> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(Stream.of(object1))
+                .setItemId(TestObject::getId)
+                .expect(of(TestObject::getId, TestObject::getName))
+                .maxFailures(2)
+                .validate();
+
+        assertFalse(validationResult.isTruncated());
+        assertEquals(1, validationResult.getFailureCount());
+    }
+
+    @Test
+    void shouldPushFailedConditionsToSink() {
+        final var object1 = obj(ID_1, NAME_1, VALUE_1, List.of(ITEM_1));
+        final var object2 = obj(ID_2, NAME_2, VALUE_2, List.of(ITEM_1, ITEM_2));
+        final var failedConditions = new ArrayList<FailedCondition>();
+
+        final DataValidator<TestObject> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(Stream.of(object1, object2))
+                .setItemId(TestObject::getId)
+                .expect(of(TestObject::getId, TestObject::getName))
+                .expect(of(() -> 2, TestObject::getValue, Integer::compareTo, Difference.GREATER_OR_EQUAL))
+                .validate(FailureSinks.of(failedConditions::add));
+
+        assertTrue(validationResult.isFailed());
+        assertEquals(3, validationResult.getFailureCount());
+        assertEquals(3, failedConditions.size());
+        assertTrue(validationResult.getFailedConditions().isEmpty());
+    }
+
+    @Test
+    void shouldValidateOfferedItems() {
+        final var object1 = obj(ID_1, NAME_1, VALUE_1, List.of(ITEM_1));
+        final var object2 = obj(ID_2, NAME_2, VALUE_2, List.of(ITEM_1, ITEM_2));
+
+        final DataValidator<TestObject> dataVerifier = new DataValidator<>();
+        final var validation = dataVerifier
+                .setItemId(TestObject::getId)
+                .expect(of(() -> 2, TestObject::getValue, Integer::compareTo, Difference.GREATER_OR_EQUAL))
+                .open();
+
+        assertTrue(validation.offer(object1));
+        assertTrue(validation.offerAll(List.of(object2)));
+        final var validationResult = validation.finish();
+
+        assertEquals(Set.of(ID_1), validationResult.getFailedItemIds());
+    }
+
+    @Test
+    void shouldStopOfferedItemsOnFailFast() {
+        final var object1 = obj(ID_1, NAME_1, VALUE_1, List.of(ITEM_1));
+        final var object2 = obj(ID_2, NAME_2, VALUE_2, List.of(ITEM_1, ITEM_2));
+
+        final DataValidator<TestObject> dataVerifier = new DataValidator<>();
+        final var validation = dataVerifier
+                .setItemId(TestObject::getId)
+                .expect(of(TestObject::getId, TestObject::getName))
+                .failFast()
+                .open();
+
+        assertFalse(validation.offerAll(List.of(object1, object2)));
+        assertEquals(Set.of(ID_1), validation.finish().getFailedItemIds());
+    }
+
+    @Test
+    void shouldSplitSingleSourceOverExecutorWorkers() {
+        final var pool = new ForkJoinPool(4);
+        final var threads = ConcurrentHashMap.<Thread>newKeySet();
+        try {
+            final DataValidator<Integer> dataVerifier = new DataValidator<>();
+            final var validationResult = dataVerifier
+                    .accept(IntStream.range(0, 100_000).boxed().collect(Collectors.toList()).stream())
+                    .accept(IntStream.range(0, 1_000).boxed())
+                    .expect(of(() -> 0, (Integer item) -> {
+                        threads.add(Thread.currentThread());
+                        return item % 1_000;
+                    }))
+                    .parallel(pool)
+                    .validate();
+
+            assertEquals(100_000 - 100 + 1_000 - 1, validationResult.getFailureCount());
+            assertTrue(threads.size() > 1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldPropagateExpectationErrorOfParallelValidation() {
+        final DataValidator<Integer> dataVerifier = new DataValidator<>();
+        dataVerifier
+                .accept(IntStream.range(0, 1_000).boxed())
+                .expect(of(() -> 0, (Integer item) -> 1 / (item - 500)))
+                .parallel(2);
+
+        assertThrows(ArithmeticException.class, dataVerifier::validate);
+    }
+
+    @Test
+    void shouldValidateItemsOnVirtualThreads() {
+        assumeTrue(VirtualThreadValidation.isSupported());
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+
+        final DataValidator<Integer> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(IntStream.range(0, 1_000).boxed())
+                .expect(of(() -> 0, (Integer item) -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                    inFlight.decrementAndGet();
+                    return item % 10;
+                }))
+                .virtualThreads(100)
+                .validate();
+
+        assertEquals(900, validationResult.getFailureCount());
+        assertTrue(maxInFlight.get() <= 100);
+    }
+
+    @Test
+    void shouldPullItemsOnDemandOnVirtualThreads() {
+        assumeTrue(VirtualThreadValidation.isSupported());
+        final var pulled = new AtomicInteger();
+
+        final DataValidator<Integer> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(IntStream.range(0, 1_000_000).boxed().peek((Integer item) -> pulled.incrementAndGet()))
+                .accept(IntStream.range(0, 1_000_000).boxed().peek((Integer item) -> pulled.incrementAndGet()))
+                .expect(of(() -> 0, (Integer item) -> 1))
+                .virtualThreads(4)
+                .failFast()
+                .validate();
+
+        assertEquals(1, validationResult.getFailureCount());
+        assertTrue(pulled.get() < 1_000, "pulled " + pulled.get());
+    }
+
+    @Test
+    void shouldRejectVirtualThreadsOnOlderJvm() {
+        assumeFalse(VirtualThreadValidation.isSupported());
+
+        assertThrows(UnsupportedOperationException.class, () -> new DataValidator<Integer>().virtualThreads(10));
+    }
+
+    @Test
+    void shouldValidateAsynchronously() {
+        final var object1 = obj(ID_1, NAME_1, VALUE_1, List.of(ITEM_1));
+        final var object2 = obj(ID_2, NAME_2, VALUE_2, List.of(ITEM_1, ITEM_2));
+
+        final DataValidator<TestObject> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(Stream.of(object1, object2))
+                .setItemId(TestObject::getId)
+                .expect(of(() -> 2, TestObject::getValue, Integer::compareTo, Difference.GREATER_OR_EQUAL))
+                .validateAsync(ForkJoinPool.commonPool())
+                .join();
+
+        assertEquals(Set.of(ID_1), validationResult.getFailedItemIds());
+    }
+
+    @Test
+    void shouldStopAsynchronousValidationOnCancel() throws InterruptedException {
+        final var executor = Executors.newSingleThreadExecutor();
+        final var processed = new AtomicInteger();
+        try {
+            final DataValidator<Integer> dataVerifier = new DataValidator<>();
+            final var future = dataVerifier
+                    .accept(Stream.generate(() -> 1))
+                    .expect(of(() -> 1, (Integer item) -> processed.incrementAndGet() > 0 ? item : 0))
+                    .validateAsync(executor);
+            while (processed.get() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertTrue(future.cancel(true));
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue(future.isCancelled());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReportFinalProgress() {
+        final var progress = new AtomicLong[]{new AtomicLong(), new AtomicLong()};
+
+        final DataValidator<Integer> dataVerifier = new DataValidator<>();
+        dataVerifier
+                .accept(IntStream.range(0, 1_000).boxed())
+                .expect(of(() -> 0, (Integer item) -> item % 10))
+                .onProgress((long processedItems, long failedConditions) -> {
+                    progress[0].set(processedItems);
+                    progress[1].set(failedConditions);
+                }, Duration.ofMillis(1))
+                .parallel()
+                .validate();
+
+        assertEquals(1_000, progress[0].get());
+        assertEquals(900, progress[1].get());
+    }
+
+    @Test
+    void shouldReportParallelFailuresInEncounterOrder() {
+        final var sequentialResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, 50_000).boxed())
+                .accept(IntStream.range(50_000, 60_000).boxed())
+                .expect(of(() -> 0, (Integer item) -> item % 7))
+                .validate();
+        final var parallelResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, 50_000).boxed())
+                .accept(IntStream.range(50_000, 60_000).boxed())
+                .expect(of(() -> 0, (Integer item) -> item % 7))
+                .parallel(4)
+                .ordered()
+                .validate();
+
+        assertEquals(List.copyOf(sequentialResult.getFailedItemIds()), List.copyOf(parallelResult.getFailedItemIds()));
+    }
+
+    @Test
+    void shouldCountChecksAndFailuresPerExpectation() {
+        final var validationResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, 10_000).boxed())
+                .expect(of(() -> 0, (Integer item) -> item % 2).named("even"))
+                .expect(of(() -> 0, (Integer item) -> item % 5))
+                .parallel(4)
+                .validate();
+        final var statistics = validationResult.getExpectationStatistics();
+
+        assertEquals(2, statistics.size());
+        assertEquals("even", statistics.get(0).getExpectationName());
+        assertEquals("expectation-2", statistics.get(1).getExpectationName());
+        assertEquals(10_000, statistics.get(0).getCheckedCount());
+        assertEquals(5_000, statistics.get(0).getFailedCount());
+        assertEquals(8_000, statistics.get(1).getFailedCount());
+        assertEquals(5_000, validationResult.getFailedConditions().stream()
+                .filter((FailedCondition condition) -> "even".equals(condition.getExpectationName()))
+                .count());
+    }
+
+    @Test
+    void shouldEstimateEvaluationTimeFromSampledEvaluations() {
+        final var counter = new ExpectationCounter("sampled");
+        counter.record(false, 100);
+        counter.record(true);
+        counter.record(false);
+        counter.record(true, 300);
+        final var statistics = new DataValidator<Integer>()
+                .accept(IntStream.range(0, 10_000).boxed())
+                .expect(of(() -> 0, (Integer item) -> item % 2))
+                .validate()
+                .getExpectationStatistics()
+                .get(0);
+
+        assertEquals(4, counter.getCheckedCount());
+        assertEquals(2, counter.getFailedCount());
+        assertEquals(800, counter.getEvaluationNanos());
+        assertEquals(10_000, statistics.getCheckedCount());
+        assertTrue(statistics.getEvaluationTime().toNanos() > 0);
+    }
+
+    @Test
+    void shouldSkipExpectationWithFailedPrerequisite() {
+        final Expectation<TestObject, String> nameExpectation = of(() -> NAME_1, TestObject::getName);
+        final var validationResult = new DataValidator<TestObject>()
+                .accept(Stream.of(obj(ID_1, NAME_1, VALUE_1, List.of()), obj(ID_2, NAME_2, VALUE_1, List.of())))
+                .setItemId(TestObject::getId)
+                .expect(nameExpectation)
+                .expect(of(() -> VALUE_2, TestObject::getValue).dependsOn(nameExpectation))
+                .validate();
+
+        assertEquals(2, validationResult.getFailureCount());
+        assertEquals(1, validationResult.getFailedConditions(ID_1).size());
+        assertEquals(1, validationResult.getFailedConditions(ID_2).size());
+        assertEquals(1, validationResult.getExpectationStatistics().get(1).getCheckedCount());
+    }
+
+    @Test
+    void shouldRejectPrerequisiteThatIsNotExpected() {
+        final Expectation<TestObject, String> nameExpectation = of(() -> NAME_1, TestObject::getName);
+
+        assertThrows(IllegalArgumentException.class, () -> new DataValidator<TestObject>()
+                .expect(of(() -> VALUE_2, TestObject::getValue).dependsOn(nameExpectation)));
+    }
+
+    @Test
+    void shouldEvaluateCheapFailingExpectationFirstInAdaptiveOrder() {
+        final var validationResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, 100_000).boxed())
+                .expect(of(() -> 0, (Integer item) -> {
+                    LockSupport.parkNanos(1_000);
+                    return 0;
+                }).named("expensive"))
+                .expect(of(() -> -1, (Integer item) -> item).named("failing"))
+                .maxFailuresPerItem(1)
+                .adaptiveOrder()
+                .validate();
+        final var statistics = validationResult.getExpectationStatistics();
+
+        assertEquals(100_000, validationResult.getFailureCount());
+        assertEquals(100_000, statistics.get(1).getCheckedCount());
+        assertTrue(statistics.get(0).getCheckedCount() < 50_000);
+    }
+
+    @Test
+    void shouldPublishMetricsOfInstrumentedValidation() throws JMException {
+        final var objectName = "com.scait.data.validator:type=Metrics,name=test";
+        try (var jmxListener = new JmxMetricsListener(objectName)) {
+            final var lastMetrics = new AtomicReference<ValidationMetrics>();
+            new DataValidator<Integer>()
+                    .accept(IntStream.range(0, 10_000).boxed())
+                    .expect(of(() -> 0, (Integer item) -> item % 2).named("even"))
+                    .parallel(4)
+                    .instrument((ValidationMetrics metrics) -> {
+                        lastMetrics.set(metrics);
+                        jmxListener.onMetrics(metrics);
+                    }, Duration.ofSeconds(10))
+                    .validate();
+            final var metrics = lastMetrics.get();
+            final var latency = metrics.getExpectationLatencies().get(0);
+
+            assertEquals(10_000, metrics.getProcessedItems());
+            assertEquals(0, metrics.getQueueDepth());
+            assertEquals("even", latency.getExpectationName());
+            assertEquals(10_000, latency.getCount());
+            assertTrue(latency.getPercentile(50).compareTo(latency.getMax()) <= 0);
+            assertEquals(10_000L, ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(new ObjectName(objectName), "ProcessedItems"));
+        }
+    }
+
+    @Test
+    void shouldAggregateFailuresPerExpectation() {
+        final var validationResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, 100_000).boxed())
+                .expect(of(() -> 0, (Integer item) -> item % 10 == 0 ? 1 : 2))
+                .expect(of(() -> 0, (Integer item) -> item % 2))
+                .parallel(4)
+                .validateAggregated(1, 10);
+        final var summaries = validationResult.getFailureSummaries();
+
+        assertEquals(150_000, validationResult.getFailureCount());
+        assertEquals(2, summaries.size());
+        final var valueSummary = summaries.stream()
+                .filter((FailureSummary summary) -> summary.getFailureCount() == 100_000)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Set.of(2), valueSummary.getTopActualValues().keySet());
+        assertEquals(10, valueSummary.getSample().size());
+        assertTrue(validationResult.getFailedConditions().size() <= 20);
     }
 
     private TestObject obj(String id, String name, int value, Collection<Object> items) {
@@ -0,0 +1,129 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Bounds;
+import com.scait.data.validator.Difference;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.scait.data.validator.impl.Expectation.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link Expectation} class.
+ */
+class ExpectationTest {
+
+    @Test
+    void shouldKeepComputedValuesOfFailedOutcome() {
+        final var outcome = of(() -> "expected", Function.<String>identity()).evaluate("actual");
+
+        assertFalse(outcome.isJustified());
+        assertEquals("expected", outcome.getExpectedValue());
+        assertEquals("actual", outcome.getActualValue());
+    }
+
+    @Test
+    void shouldNotKeepValuesOfJustifiedOutcome() {
+        final var outcome = of(() -> "value", Function.<String>identity()).evaluate("value");
+
+        assertTrue(outcome.isJustified());
+        assertNull(outcome.getActualValue());
+    }
+
+    @Test
+    void shouldEvaluateProvidersOncePerFailedItem() {
+        final var expectedCalls = new AtomicInteger();
+        final var actualCalls = new AtomicInteger();
+        final var idCalls = new AtomicInteger();
+
+        final DataValidator<String> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(Stream.of("item"))
+                .setItemId((String item) -> idCalls.incrementAndGet())
+                .expect(of((String item) -> expectedCalls.incrementAndGet(),
+                        (String item) -> actualCalls.decrementAndGet()))
+                .expect(of(() -> "other", Function.<String>identity()))
+                .validate();
+
+        assertEquals(2, validationResult.getFailureCount());
+        assertEquals(1, expectedCalls.get());
+        assertEquals(-1, actualCalls.get());
+        assertEquals(1, idCalls.get());
+    }
+
+    @Test
+    void shouldEvaluatePrimitiveExpectations() {
+        assertTrue(IntExpectation.of(2, (String item) -> item.length(), Difference.GREATER_OR_EQUAL)
+                .evaluate("abc").isJustified());
+        assertTrue(LongExpectation.of(3L, (String item) -> item.length(), Difference.EQUAL)
+                .evaluate("abc").isJustified());
+        assertTrue(DoubleExpectation.of(0.5, (String item) -> 1.0 / item.length(), Difference.LESS)
+                .evaluate("abc").isJustified());
+    }
+
+    @Test
+    void shouldBoxValuesOfFailedPrimitiveExpectation() {
+        final var outcome = IntExpectation.of((String item) -> 5, String::length, Difference.GREATER)
+                .evaluate("abc");
+
+        assertFalse(outcome.isJustified());
+        assertEquals(5, outcome.getExpectedValue());
+        assertEquals(3, outcome.getActualValue());
+    }
+
+    @Test
+    void shouldCompareBySignOfComparatorResult() {
+        final Comparator<String> distanceComparator = (String actual, String expected) ->
+                actual.charAt(0) - expected.charAt(0);
+
+        assertTrue(of(() -> "z", Function.<String>identity(), distanceComparator, Difference.LESS)
+                .isJustified("a"));
+        assertTrue(of(() -> "a", Function.<String>identity(), String::compareTo, Difference.GREATER)
+                .isJustified("z"));
+        assertTrue(of(() -> "a", Function.<String>identity(), String::compareTo, Difference.NOT_EQUAL)
+                .isJustified("b"));
+        assertFalse(of(() -> "a", Function.<String>identity(), String::compareTo, Difference.NOT_EQUAL)
+                .isJustified("a"));
+    }
+
+    @Test
+    void shouldTestDifferencesBySignMask() {
+        for (Difference difference : Difference.values()) {
+            for (int result : new int[]{Integer.MIN_VALUE, -5, -1, 0, 1, 7, Integer.MAX_VALUE}) {
+                final var sign = Integer.signum(result);
+                final var expected = IntStream.of(difference.getExpectedValues())
+                        .anyMatch((int value) -> value == sign);
+
+                assertEquals(expected, difference.test(result), difference + " " + result);
+                assertEquals(expected, difference.asPredicate().test(result), difference + " " + result);
+            }
+        }
+    }
+
+    @Test
+    void shouldReportViolatedBoundOfRangeExpectation() {
+        final var expectation = Expectation.between(() -> 1, () -> 10, Function.<Integer>identity(),
+                Integer::compareTo, Bounds.LOWER_INCLUSIVE);
+
+        assertTrue(expectation.isJustified(1));
+        assertEquals(10, expectation.evaluate(10).getExpectedValue());
+        assertEquals(1, expectation.evaluate(0).getExpectedValue());
+    }
+
+    @Test
+    void shouldEvaluatePrimitiveRangeExpectation() {
+        final var expectation = IntExpectation.between(1, 10, (Integer item) -> item, Bounds.EXCLUSIVE);
+
+        assertTrue(expectation.isJustified(5));
+        assertFalse(expectation.isJustified(1));
+        assertEquals(10, expectation.evaluate(10).getExpectedValue());
+    }
+}
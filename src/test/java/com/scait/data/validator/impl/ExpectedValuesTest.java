@@ -0,0 +1,117 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.scait.data.validator.impl.Expectation.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ExpectedValues} class.
+ */
+class ExpectedValuesTest {
+
+    private static final int ITEMS = 10_000;
+
+    @Test
+    void shouldComputeMemoizedValueOnce() {
+        final var calls = new AtomicInteger();
+        final var expectation = of(ExpectedValues.memoized(() -> calls.incrementAndGet() * 0), (Integer item) -> 0);
+
+        validate(expectation);
+        validate(expectation);
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldComputeRunScopedValueOncePerRun() {
+        final var calls = new AtomicInteger();
+        final var expectation = of(ExpectedValues.perRun(calls::incrementAndGet), (Integer item) -> 1);
+
+        final var firstResult = validate(expectation);
+        final var secondResult = validate(expectation);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, firstResult.getFailureCount());
+        assertEquals(ITEMS, secondResult.getFailureCount());
+    }
+
+    @Test
+    void shouldKeepRunScopedValueOfConcurrentRunsApart() {
+        final var calls = new AtomicInteger();
+        final var plan = new DataValidator<Integer>()
+                .expect(of(ExpectedValues.perRun(calls::incrementAndGet), (Integer item) -> item))
+                .compile();
+        final var firstRun = plan.open();
+        firstRun.offer(1);
+        final var secondRun = plan.open();
+        secondRun.offer(2);
+        firstRun.offer(1);
+        secondRun.offer(2);
+
+        assertEquals(2, calls.get());
+        assertTrue(firstRun.finish().isSuccessful());
+        assertTrue(secondRun.finish().isSuccessful());
+        assertEquals(0, plan.validateBatch(new Integer[]{3, 3}).getFailureCount());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void shouldRecomputeMemoizedValueAfterTimeToLive() throws InterruptedException {
+        final var calls = new AtomicInteger();
+        final var supplier = ExpectedValues.memoized(calls::incrementAndGet, Duration.ofMillis(1));
+
+        supplier.get();
+        Thread.sleep(5);
+        supplier.get();
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldLoadCachedValueOncePerKey() {
+        final var loads = new AtomicInteger();
+        final var validationResult = new DataValidator<Integer>()
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(of(ExpectedValues.cached((Integer item) -> item % 10, (Integer key) -> {
+                    loads.incrementAndGet();
+                    return key;
+                }, 16), (Integer item) -> item % 10))
+                .validate();
+
+        assertEquals(10, loads.get());
+        assertEquals(0, validationResult.getFailureCount());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedKey() {
+        final var loads = new AtomicInteger();
+        final var provider = ExpectedValues.cached((Integer item) -> item, (Integer key) -> {
+            loads.incrementAndGet();
+            return key;
+        }, 1);
+
+        provider.apply(1);
+        provider.apply(2);
+        provider.apply(1);
+
+        assertEquals(3, loads.get());
+        assertThrows(IllegalArgumentException.class, () -> ExpectedValues.cached((Integer item) -> item,
+                (Integer key) -> key, 0));
+    }
+
+    private ValidationResult validate(Expectation<Integer, Integer> expectation) {
+        return new DataValidator<Integer>()
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(expectation)
+                .parallel()
+                .validate();
+    }
+}
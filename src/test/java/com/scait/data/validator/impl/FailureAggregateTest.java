@@ -0,0 +1,42 @@
+package com.scait.data.validator.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link FailureAggregate} class.
+ */
+class FailureAggregateTest {
+
+    @Test
+    void shouldEvictLeastFrequentValue() {
+        final var aggregate = new FailureAggregate(null, 2, 0);
+        Stream.of("a", "a", "b", "a", "b", "a", "a", "c", "c")
+                .forEach((String value) -> aggregate.add(new FailedRecord<>(value, null, value, "expectation")));
+        final var topActualValues = aggregate.getTopActualValues();
+
+        assertEquals(9, aggregate.getFailureCount());
+        assertEquals(List.of("a", "c"), List.copyOf(topActualValues.keySet()));
+        assertEquals(Map.of("a", 5L, "c", 4L), topActualValues);
+    }
+
+    @Test
+    void shouldCountValuesOfEqualFrequency() {
+        final var aggregate = new FailureAggregate(null, 3, 1);
+        Stream.of(1, 2, 3, 3, 2, 1, 4)
+                .forEach((Integer value) -> aggregate.add(new FailedRecord<>(value, null, value, "expectation")));
+
+        final var topActualValues = aggregate.getTopActualValues();
+
+        assertEquals(3, topActualValues.size());
+        assertEquals(4, topActualValues.keySet().iterator().next());
+        assertEquals(3L, topActualValues.get(4));
+        assertEquals(7L, topActualValues.values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(1, aggregate.getSample().size());
+    }
+}
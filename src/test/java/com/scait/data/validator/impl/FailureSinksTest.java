@@ -0,0 +1,118 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.scait.data.validator.impl.Expectation.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link FailureSinks} class.
+ */
+class FailureSinksTest {
+
+    private static final int ITEMS = 1_000;
+
+    @Test
+    void shouldPublishFailedConditionsOnSubscriberDemand() {
+        final var subscriber = new OneByOneSubscriber();
+
+        final DataValidator<Integer> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(of(() -> -1, (Integer item) -> item))
+                .parallel()
+                .validate(FailureSinks.toSubscriber(subscriber));
+
+        assertEquals(ITEMS, validationResult.getFailureCount());
+        assertEquals(ITEMS, subscriber.received.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void shouldSignalErrorOfValidationToSubscriber() {
+        final var subscriber = new OneByOneSubscriber();
+        final var validator = new DataValidator<Integer>()
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(of(() -> -1, (Integer item) -> {
+                    if (item == ITEMS / 2) {
+                        throw new IllegalStateException("broken item");
+                    }
+                    return item;
+                }));
+
+        assertThrows(IllegalStateException.class,
+                () -> validator.validate(FailureSinks.toSubscriber(subscriber)));
+        assertEquals(ITEMS / 2, subscriber.received.size());
+        assertEquals("broken item", subscriber.error.getMessage());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void shouldPutFailedConditionsToBoundedQueue() throws InterruptedException {
+        final var queue = new ArrayBlockingQueue<FailedCondition>(10);
+        final var consumer = new Thread(() -> {
+            for (var i = 0; i < ITEMS; i++) {
+                try {
+                    queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        consumer.start();
+
+        final DataValidator<Integer> dataVerifier = new DataValidator<>();
+        final var validationResult = dataVerifier
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(of(() -> -1, (Integer item) -> item))
+                .validate(FailureSinks.toQueue(queue));
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertEquals(ITEMS, validationResult.getFailureCount());
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Subscriber that requests failed conditions one by one.
+     */
+    private static class OneByOneSubscriber implements Flow.Subscriber<FailedCondition> {
+
+        private final List<FailedCondition> received = new CopyOnWriteArrayList<>();
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(FailedCondition item) {
+            received.add(item);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
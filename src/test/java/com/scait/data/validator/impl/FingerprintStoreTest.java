@@ -0,0 +1,155 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.ValidationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link FingerprintStore} class.
+ */
+class FingerprintStoreTest {
+
+    private static final int ITEMS = 10_000;
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    @Test
+    void shouldSkipUnchangedItems() {
+        final var store = new FingerprintStore();
+        final var firstResult = validate(rows(), store, false);
+
+        assertEquals(ITEMS, evaluations.getAndSet(0));
+        assertEquals(ITEMS, store.size());
+        assertEquals(ITEMS / 2, store.getFailedItemCount());
+
+        final var secondResult = validate(rows(), store, false);
+
+        assertEquals(0, evaluations.get());
+        assertEquals(ITEMS, store.getSkippedCount());
+        assertEquals(failedIds(firstResult), failedIds(secondResult));
+        assertEquals("even", List.copyOf(secondResult.getFailedConditions(1L)).get(0).getExpectationName());
+    }
+
+    @Test
+    void shouldValidateChangedItemsOnly() {
+        final var store = new FingerprintStore();
+        validate(rows(), store, true);
+        evaluations.set(0);
+
+        final var changedRows = rows().stream()
+                .filter((long[] row) -> row[0] != 5)
+                .map((long[] row) -> row[0] == 1 || row[0] == 2 ? new long[]{row[0], row[1] + 1} : row)
+                .collect(Collectors.toList());
+        final var validationResult = validate(changedRows, store, true);
+
+        assertEquals(2, evaluations.get());
+        assertEquals(ITEMS - 3, store.getSkippedCount());
+        assertEquals(ITEMS - 1, store.size());
+        final var expected = IntStream.range(0, ITEMS)
+                .filter((int id) -> id % 2 == 1 && id != 1 && id != 5 || id == 2)
+                .mapToObj((int id) -> (long) id)
+                .collect(Collectors.toSet());
+        assertEquals(expected, failedIds(validationResult));
+    }
+
+    @Test
+    void shouldCarryFailuresForwardFromSavedStore() throws IOException {
+        final var path = directory.resolve("fingerprints");
+        final var store = FingerprintStore.load(path);
+        final var firstResult = validate(rows(), store, false);
+        store.save(path);
+        evaluations.set(0);
+
+        final var loadedStore = FingerprintStore.load(path);
+        final var secondResult = validate(rows(), loadedStore, false);
+
+        assertEquals(0, evaluations.get());
+        assertEquals(ITEMS, loadedStore.getSkippedCount());
+        assertEquals(failedIds(firstResult), failedIds(secondResult));
+        final var condition = List.copyOf(secondResult.getFailedConditions(3L)).get(0);
+        assertEquals("even", condition.getExpectationName());
+        assertEquals(0L, condition.getExpectedValue());
+        assertEquals(1L, condition.getActualValue());
+    }
+
+    @Test
+    void shouldIgnoreStoreOfOtherExpectations() throws IOException {
+        final var path = directory.resolve("fingerprints");
+        final var store = new FingerprintStore();
+        validate(rows(), store, false);
+        store.save(path);
+        evaluations.set(0);
+
+        final var loadedStore = FingerprintStore.load(path);
+        final var validationResult = new DataValidator<long[]>()
+                .accept(rows().stream())
+                .setItemId((long[] row) -> row[0])
+                .expect(Expectation.of((long[] row) -> 1L, (long[] row) -> {
+                    evaluations.incrementAndGet();
+                    return row[1] % 2;
+                }).named("odd"))
+                .skipUnchanged((long[] row) -> row[1], loadedStore)
+                .validate();
+
+        assertEquals(ITEMS, evaluations.getAndSet(0));
+        assertEquals(0, loadedStore.getSkippedCount());
+        assertEquals("odd", List.copyOf(validationResult.getFailedConditions(0L)).get(0).getExpectationName());
+        assertEquals(ITEMS / 2, validationResult.getFailureCount());
+
+        validate(rows(), loadedStore, false);
+
+        assertEquals(ITEMS, evaluations.get());
+        assertEquals(0, loadedStore.getSkippedCount());
+    }
+
+    @Test
+    void shouldRejectCrossItemExpectations() {
+        final var validator = new DataValidator<long[]>()
+                .expect(CrossItemExpectation.uniqueLong((long[] row) -> row[0]))
+                .skipUnchanged((long[] row) -> row[1], new FingerprintStore());
+
+        assertThrows(IllegalStateException.class, validator::compile);
+    }
+
+    private ValidationResult validate(List<long[]> rows, FingerprintStore store, boolean parallel) {
+        final var validator = new DataValidator<long[]>()
+                .accept(rows.stream())
+                .setItemId((long[] row) -> row[0])
+                .expect(Expectation.of((long[] row) -> 0L, (long[] row) -> {
+                    evaluations.incrementAndGet();
+                    return row[1] % 2;
+                }).named("even"))
+                .skipUnchanged((long[] row) -> row[1], store);
+        if (parallel) {
+            validator.parallel(4);
+        }
+        return validator.validate();
+    }
+
+    private static List<long[]> rows() {
+        return IntStream.range(0, ITEMS)
+                .mapToObj((int id) -> new long[]{id, id * 7L})
+                .collect(Collectors.toList());
+    }
+
+    private static Set<Object> failedIds(ValidationResult validationResult) {
+        return validationResult.getFailedConditions().stream()
+                .map(FailedCondition::getItemId)
+                .collect(Collectors.toSet());
+    }
+}
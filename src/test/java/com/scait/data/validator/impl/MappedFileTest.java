@@ -0,0 +1,199 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Difference;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.RecordView;
+import com.scait.data.validator.ValidationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for {@link MappedFile} class.
+ */
+class MappedFileTest {
+
+    private static final int LINES = 20_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadDelimitedFields() throws IOException {
+        final var path = write("id,amount,name\r\n1,12.5,\"Smith, \"\"J\"\"\"\r\n\r\n2, -7 ,plain\r\n");
+
+        try (var file = MappedFile.open(path, RecordFormat.csv().withHeader())) {
+            final var records = file.records()
+                    .map((RecordView record) -> record.getLong(0) + "|" + record.getDouble(1) + "|"
+                            + record.getString(2) + "|" + record.getFieldCount())
+                    .collect(Collectors.toList());
+
+            assertEquals(List.of("1|12.5|Smith, \"J\"|3", "2|-7.0|plain|3"), records);
+        }
+    }
+
+    @Test
+    void shouldReadFixedWidthFields() throws IOException {
+        final var path = write("A1   42 \nB2  1e3\nC3\n");
+
+        try (var file = MappedFile.open(path, RecordFormat.fixedWidth(2, 5))) {
+            final var records = file.records().map(RecordView::materialize).collect(Collectors.toList());
+
+            assertEquals(3, records.size());
+            assertTrue(records.get(0).contentEquals(0, "A1"));
+            assertEquals(42, records.get(0).getLong(1));
+            assertEquals(1000.0, records.get(1).getDouble(1));
+            assertEquals(0, records.get(2).getFieldLength(1));
+            assertThrows(NumberFormatException.class, () -> records.get(2).getLong(1));
+        }
+    }
+
+    @Test
+    void shouldReadBinaryFields() throws IOException {
+        final var path = directory.resolve("records.bin");
+        try (var output = new DataOutputStream(Files.newOutputStream(path))) {
+            for (var index = 0; index < 3; index++) {
+                output.writeInt(index);
+                output.writeDouble(index * 1.5);
+                output.writeBytes(index == 1 ? "AB\0\0" : "XYZW");
+            }
+        }
+
+        try (var file = MappedFile.open(path, RecordFormat.binary(4, 8, 4))) {
+            final var records = file.records()
+                    .map((RecordView record) -> record.getLong(0) + "|" + record.getDouble(1) + "|"
+                            + record.getString(2) + "|" + record.getOffset())
+                    .collect(Collectors.toList());
+
+            assertEquals(List.of("0|0.0|XYZW|0", "1|1.5|AB|16", "2|3.0|XYZW|32"), records);
+        }
+    }
+
+    @Test
+    void shouldRejectTruncatedBinaryFile() throws IOException {
+        final var path = write("12345");
+
+        assertThrows(IOException.class, () -> MappedFile.open(path, RecordFormat.binary(4)));
+    }
+
+    @Test
+    void shouldValidateRecordsInParallelAcrossRegions() throws IOException {
+        final var path = write(IntStream.range(0, LINES)
+                .mapToObj((int index) -> index + "," + (index % 97 == 0 ? -index : index) + "\n")
+                .collect(Collectors.joining()));
+
+        try (var file = MappedFile.open(path, RecordFormat.csv(), 4096)) {
+            assertTrue(file.getRegionCount() > 1);
+            final var sequentialResult = validate(file, false);
+            final var parallelResult = validate(file, true);
+
+            final var expected = IntStream.range(1, LINES)
+                    .filter((int index) -> index % 97 == 0)
+                    .boxed()
+                    .collect(Collectors.toSet());
+            assertEquals(expected, failedIds(sequentialResult));
+            assertEquals(expected, failedIds(parallelResult));
+        }
+    }
+
+    @Test
+    void shouldKeepMaterializedRecord() throws IOException {
+        final var path = write("1,a\n2,b\n");
+
+        try (var file = MappedFile.open(path, RecordFormat.csv())) {
+            final var records = file.records().map(RecordView::materialize).collect(Collectors.toList());
+            final var views = file.records().collect(Collectors.toList());
+
+            assertEquals("b", records.get(1).getString(1));
+            assertEquals(records.get(0), records.get(0).materialize());
+            assertFalse(records.get(0).equals(records.get(1)));
+            assertSame(views.get(0), views.get(1));
+        }
+    }
+
+    @Test
+    void shouldMaterializeRecordsKeptAsItemIds() throws IOException {
+        final var path = write("1,5\n2,-5\n3,-7\n4,9\n");
+
+        try (var file = MappedFile.open(path, RecordFormat.csv())) {
+            final var validationResult = new DataValidator<RecordView>()
+                    .accept(file.records())
+                    .expect(Expectation.of((RecordView record) -> 0L, (RecordView record) -> record.getLong(1),
+                            Comparator.naturalOrder(), Difference.GREATER_OR_EQUAL))
+                    .validate();
+            final var failedIds = validationResult.getFailedConditions().stream()
+                    .map((FailedCondition condition) -> ((RecordView) condition.getItemId()).getLong(0))
+                    .collect(Collectors.toList());
+
+            assertEquals(List.of(2L, 3L), failedIds);
+            assertEquals(2, validationResult.getFailedItemIds().size());
+        }
+    }
+
+    @Test
+    void shouldValidateRecordsOnVirtualThreads() throws IOException {
+        assumeTrue(VirtualThreadValidation.isSupported());
+        final var path = write(IntStream.range(0, LINES)
+                .mapToObj((int index) -> index + "," + (index % 97 == 0 ? -index : index) + "\n")
+                .collect(Collectors.joining()));
+
+        try (var file = MappedFile.open(path, RecordFormat.csv(), 4096)) {
+            final var validationResult = new DataValidator<RecordView>()
+                    .accept(file.records())
+                    .expect(Expectation.of((RecordView record) -> 0L, (RecordView record) -> {
+                        LockSupport.parkNanos(1_000);
+                        return record.getLong(1);
+                    }, Comparator.naturalOrder(), Difference.GREATER_OR_EQUAL))
+                    .virtualThreads(64)
+                    .validate();
+            final var failedIds = validationResult.getFailedConditions().stream()
+                    .map((FailedCondition condition) -> (int) ((RecordView) condition.getItemId()).getLong(0))
+                    .collect(Collectors.toSet());
+
+            assertEquals(IntStream.range(1, LINES)
+                    .filter((int index) -> index % 97 == 0)
+                    .boxed()
+                    .collect(Collectors.toSet()), failedIds);
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("records.txt"), content);
+    }
+
+    private static ValidationResult validate(MappedFile file, boolean parallel) {
+        final var validator = new DataValidator<RecordView>()
+                .accept(file.records())
+                .setItemId((RecordView record) -> record.getLong(0))
+                .expect(Expectation.of((RecordView record) -> 0L, (RecordView record) -> record.getLong(1),
+                        Comparator.naturalOrder(), Difference.GREATER_OR_EQUAL));
+        if (parallel) {
+            validator.parallel(4);
+        }
+        return validator.validate();
+    }
+
+    private static Set<Integer> failedIds(ValidationResult validationResult) {
+        return validationResult.getFailedConditions().stream()
+                .map(FailedCondition::getItemId)
+                .map((Object itemId) -> ((Long) itemId).intValue())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,137 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.SpilledValidationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.scait.data.validator.impl.Expectation.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link SpillingValidationResult} class.
+ */
+class SpillingValidationResultTest {
+
+    private static final int ITEMS = 10_000;
+    private static final int MEMORY_BUDGET = 128;
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void shouldSpillFailedConditionsOverBudget() throws IOException {
+        try (var validationResult = validate(false)) {
+            assertEquals(ITEMS * 2, validationResult.getTotalFailureCount());
+            assertEquals(ITEMS * 2, validationResult.getFailureCount());
+            assertEquals(ITEMS * 2 - ITEMS * 2 % MEMORY_BUDGET, validationResult.getSpilledCount());
+            try (var files = Files.list(spillDirectory)) {
+                assertEquals(1, files.count());
+            }
+
+            final List<Object> itemIds = new ArrayList<>();
+            validationResult.forEachFailedCondition((FailedCondition failedCondition) -> {
+                if ("even".equals(failedCondition.getExpectationName())) {
+                    itemIds.add(failedCondition.getItemId());
+                }
+            });
+            assertEquals(IntStream.range(0, ITEMS).boxed().collect(Collectors.toList()), itemIds);
+        }
+        try (var files = Files.list(spillDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void shouldLookUpFailedConditionsByItemId() {
+        try (var validationResult = validate(false)) {
+            for (int itemId : new int[]{0, 1, 4097, ITEMS - 1}) {
+                final var conditions = List.copyOf(validationResult.getFailedConditions(itemId));
+
+                assertEquals(2, conditions.size(), "item " + itemId);
+                assertEquals("even", conditions.get(0).getExpectationName());
+                assertEquals(itemId % 2 == 0 ? 0 : 1, conditions.get(0).getActualValue());
+                assertEquals("name", conditions.get(1).getExpectationName());
+                assertEquals("item-" + itemId, conditions.get(1).getActualValue());
+            }
+            assertTrue(validationResult.getFailedConditions(ITEMS).isEmpty());
+            assertEquals(ITEMS, validationResult.getFailedItemIds().size());
+        }
+    }
+
+    @Test
+    void shouldSpillParallelValidation() {
+        try (var validationResult = validate(true)) {
+            assertEquals(ITEMS * 2, validationResult.getFailedConditions().size());
+            assertEquals(2, validationResult.getFailedConditions(ITEMS / 2).size());
+        }
+    }
+
+    @Test
+    void shouldLookUpFailedConditionsBetweenSpills() {
+        try (var validationResult = new SpillingValidationResult(spillDirectory, 4)) {
+            for (var index = 0; index < 100; index++) {
+                validationResult.addFailedCondition(new FailedRecord<>(index % 10, index, index));
+                if (index % 7 == 0) {
+                    assertEquals(index / 10 + 1, validationResult.getFailedConditions(index % 10).size());
+                }
+            }
+
+            final var conditions = List.copyOf(validationResult.getFailedConditions(3));
+            assertEquals(10, conditions.size());
+            for (var index = 0; index < conditions.size(); index++) {
+                assertEquals(index * 10 + 3, conditions.get(index).getActualValue());
+            }
+            assertEquals(100, validationResult.getFailedConditions().size());
+        }
+    }
+
+    @Test
+    void shouldDecodeValuesOfFailedConditions() {
+        final List<Object> values = Arrays.asList(null, -1, Long.MIN_VALUE, 0.1, 1.5f, true, "\u00fcn\u00efcode", 'c',
+                new BigDecimal("-12345678901234567890.0012"), LocalDate.of(2020, 2, 29));
+        try (var validationResult = new SpillingValidationResult(spillDirectory, 1)) {
+            for (var index = 0; index < values.size(); index++) {
+                validationResult.addFailedCondition(new FailedRecord<>(index, values.get(index), index));
+            }
+
+            final var decoded = validationResult.getFailedConditions().stream()
+                    .map(FailedCondition::getExpectedValue)
+                    .collect(Collectors.toList());
+            assertEquals(values, decoded);
+            assertEquals(values.size(), validationResult.getSpilledCount());
+        }
+    }
+
+    @Test
+    void shouldRejectReadingOfClosedResult() {
+        final var validationResult = validate(false);
+        validationResult.close();
+
+        assertThrows(IllegalStateException.class, () -> validationResult.getFailedConditions(0));
+    }
+
+    private SpilledValidationResult validate(boolean parallel) {
+        final var validator = new DataValidator<Integer>()
+                .accept(IntStream.range(0, ITEMS).boxed())
+                .expect(of((Integer item) -> -1, (Integer item) -> item % 2).named("even"))
+                .expect(of((Integer item) -> "", (Integer item) -> "item-" + item).named("name"));
+        if (parallel) {
+            validator.parallel(4);
+        }
+        return validator.validateSpilling(spillDirectory, MEMORY_BUDGET);
+    }
+}
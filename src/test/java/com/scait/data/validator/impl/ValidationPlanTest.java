@@ -0,0 +1,202 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.Difference;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.ValidationPlan;
+import com.scait.data.validator.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.scait.data.validator.impl.Expectation.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ValidationPlan} compiled by {@link DataValidator}.
+ */
+class ValidationPlanTest {
+
+    private static final int THREADS = 8;
+    private static final int PAYLOADS = 500;
+
+    @Test
+    void shouldValidatePayloadsFromManyThreads() throws Exception {
+        final var plan = newPlan();
+        final var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (var thread = 0; thread < THREADS; thread++) {
+                final var offset = thread * PAYLOADS;
+                tasks.add(() -> {
+                    for (var payload = offset; payload < offset + PAYLOADS; payload++) {
+                        final var items = List.of(payload, -payload - 1);
+                        final var validationResult = plan.validate(items);
+                        if (validationResult.getFailureCount() != 1
+                                || !validationResult.getFailedItemIds().equals(Set.of(-payload - 1))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldShareDedicatedPoolByRunsOfPlan() {
+        final Set<String> pools = ConcurrentHashMap.newKeySet();
+        final var plan = new DataValidator<Integer>()
+                .expect(of(() -> 0, (Integer item) -> {
+                    final var threadName = Thread.currentThread().getName();
+                    if (threadName.startsWith("ForkJoinPool-")) {
+                        pools.add(threadName.substring(0, threadName.indexOf("-worker")));
+                    }
+                    return 0;
+                }))
+                .parallel(2)
+                .compile();
+
+        for (var run = 0; run < 3; run++) {
+            assertTrue(plan.validate(IntStream.range(0, 100_000).boxed()).isSuccessful());
+        }
+        assertEquals(1, pools.size());
+    }
+
+    @Test
+    void shouldNotBeAffectedByLaterValidatorChanges() {
+        final var validator = new DataValidator<Integer>()
+                .expect(of((Integer item) -> 0, (Integer item) -> item, Comparator.naturalOrder(), Difference.GREATER));
+        final var plan = validator.compile();
+
+        validator.expect(of((Integer item) -> 0, (Integer item) -> item));
+        validator.failFast();
+
+        assertEquals(4, plan.validate(List.of(0, -1, -2, -3)).getFailureCount());
+    }
+
+    @Test
+    void shouldProduceSameResultForStreamAndIterable() {
+        final var plan = newPlan();
+        final var items = IntStream.range(-50, 50).boxed().collect(Collectors.toList());
+
+        final var streamResult = plan.validate(items.stream());
+        final var iterableResult = plan.validate(items);
+
+        assertEquals(conditionsOf(streamResult), conditionsOf(iterableResult));
+        assertEquals(1, iterableResult.getExpectationStatistics().size());
+        assertEquals(items.size(), iterableResult.getExpectationStatistics().get(0).getCheckedCount());
+    }
+
+    @Test
+    void shouldOpenIncrementalValidationInNewRun() {
+        final var plan = newPlan();
+
+        final var firstValidation = plan.open();
+        final var secondValidation = plan.open();
+        firstValidation.offerAll(List.of(-1, -2));
+        secondValidation.offer(1);
+
+        assertEquals(2, firstValidation.finish().getFailureCount());
+        assertTrue(secondValidation.finish().isSuccessful());
+    }
+
+    @Test
+    void shouldValidateParallelRuns() {
+        final var plan = new DataValidator<Integer>()
+                .expect(nonNegative())
+                .parallel()
+                .ordered()
+                .compile();
+
+        final var validationResult = plan.validate(Stream.iterate(-1000, (Integer item) -> item + 1).limit(2000));
+
+        assertEquals(1000, validationResult.getFailureCount());
+    }
+
+    @Test
+    void shouldShareSuccessfulResultOfPassingBatches() {
+        final var plan = newPlan();
+
+        final var firstResult = plan.validateBatch(List.of(1, 2, 3));
+        final var secondResult = plan.validateBatch(new Integer[]{4, 5});
+
+        assertSame(firstResult, secondResult);
+        assertTrue(firstResult.isSuccessful());
+        assertThrows(UnsupportedOperationException.class, firstResult::markTruncated);
+    }
+
+    @Test
+    void shouldReportFailedConditionsOfBatch() {
+        final var plan = newPlan();
+
+        final var listResult = plan.validateBatch(List.of(1, -2, 3, -4));
+        final var arrayResult = plan.validateBatch(new Integer[]{1, -2, 3, -4});
+
+        assertEquals(List.of(-2, -4), conditionsOf(listResult));
+        assertEquals(List.of(-2, -4), conditionsOf(arrayResult));
+        assertFalse(listResult.isTruncated());
+    }
+
+    @Test
+    void shouldResetReusedBatchResult() {
+        final var plan = newPlan();
+        final var batchResult = plan.newBatchResult();
+
+        assertSame(batchResult, plan.validateBatch(List.of(-1, -2), batchResult));
+        assertEquals(2, batchResult.getFailureCount());
+        plan.validateBatch(List.of(1, 2), batchResult);
+
+        assertTrue(batchResult.isSuccessful());
+        assertTrue(batchResult.getFailedItemIds().isEmpty());
+    }
+
+    @Test
+    void shouldApplyFailureBudgetsAndPrerequisitesToBatch() {
+        final var positive = nonNegative();
+        final var plan = new DataValidator<Integer>()
+                .expect(positive)
+                .expect(of((Integer item) -> 0, (Integer item) -> item % 2).dependsOn(positive))
+                .maxFailures(2)
+                .compile();
+
+        final var validationResult = plan.validateBatch(List.of(-1, 3, 2, -5, -7));
+
+        assertEquals(List.of(-1, 3), conditionsOf(validationResult));
+        assertTrue(validationResult.isTruncated());
+    }
+
+    private static ValidationPlan<Integer> newPlan() {
+        return new DataValidator<Integer>()
+                .expect(nonNegative())
+                .compile();
+    }
+
+    private static Expectation<Integer, Integer> nonNegative() {
+        return of((Integer item) -> 0, (Integer item) -> item, Comparator.naturalOrder(), Difference.GREATER_OR_EQUAL);
+    }
+
+    private static List<Object> conditionsOf(ValidationResult validationResult) {
+        return validationResult.getFailedConditions().stream()
+                .map(FailedCondition::getItemId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,144 @@
+package com.scait.data.validator.impl;
+
+import com.scait.data.validator.ExpectationStatistics;
+import com.scait.data.validator.FailedCondition;
+import com.scait.data.validator.ValidationResult;
+import com.scait.data.validator.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.scait.data.validator.impl.Expectation.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ValidationResults} and {@link ShardedValidator} classes.
+ */
+class ValidationResultsTest {
+
+    private static final int ITEMS = 10_000;
+
+    @Test
+    void shouldReadWrittenResults() throws IOException {
+        final var firstResult = validator(0, ITEMS).validate();
+        final var secondResult = validator(0, 10).maxFailures(3).validate();
+        final var output = new ByteArrayOutputStream();
+        ValidationResults.write(firstResult, output);
+        ValidationResults.write(secondResult, output);
+
+        final var input = new BufferedInputStream(new ByteArrayInputStream(output.toByteArray()));
+        final var firstRead = ValidationResults.read(input);
+        final var secondRead = ValidationResults.read(input);
+
+        assertEquals(describe(firstResult), describe(firstRead));
+        assertEquals(statistics(firstResult), statistics(firstRead));
+        assertFalse(firstRead.isTruncated());
+        assertEquals(3, secondRead.getFailureCount());
+        assertTrue(secondRead.isTruncated());
+        final var condition = List.copyOf(firstRead.getFailedConditions(7)).get(0);
+        assertEquals(new BigDecimal("0.7"), condition.getActualValue());
+        assertEquals(BigDecimal.ZERO, condition.getExpectedValue());
+    }
+
+    @Test
+    void shouldMergeAssociatively() {
+        final var first = validator(0, 100).validate();
+        final var second = validator(100, 200).maxFailures(1).validate();
+        final var third = validator(200, 300).validate();
+
+        final var left = ValidationResults.merge(ValidationResults.merge(first, second), third);
+        final var right = ValidationResults.merge(first, ValidationResults.merge(second, third));
+
+        assertEquals(describe(left), describe(right));
+        assertEquals(statistics(left), statistics(right));
+        assertTrue(left.isTruncated());
+        final var checked = first.getExpectationStatistics().get(0).getCheckedCount()
+                + second.getExpectationStatistics().get(0).getCheckedCount()
+                + third.getExpectationStatistics().get(0).getCheckedCount();
+        assertEquals(checked, left.getExpectationStatistics().get(0).getCheckedCount());
+        assertEquals(first.getFailureCount() + 1 + third.getFailureCount(), left.getFailureCount());
+    }
+
+    @Test
+    void shouldMergeResultsOfShards() {
+        final var plan = validator(0, 0).compile();
+        final var expected = plan.validate(IntStream.range(0, ITEMS).boxed());
+
+        final var validationResult = new ShardedValidator<>(plan, (Integer item) -> item, 4)
+                .validate(IntStream.range(0, ITEMS).boxed());
+
+        assertEquals(Set.copyOf(describe(expected)), Set.copyOf(describe(validationResult)));
+        assertEquals(statistics(expected), statistics(validationResult));
+        assertEquals(expected.getFailureCount(), validationResult.getFailureCount());
+    }
+
+    @Test
+    void shouldValidateNullItemsInShards() {
+        final var plan = new DataValidator<Integer>()
+                .expect(of((Integer item) -> 0, (Integer item) -> item == null ? -1 : 0))
+                .expect(of((Integer item) -> 0, (Integer item) -> item == null ? 0 : item % 2))
+                .compile();
+        final var items = Arrays.asList(1, null, 2, null, 3);
+        final var expected = plan.validate(items.stream());
+
+        final var validationResult = new ShardedValidator<>(plan, (Integer item) -> item, 2)
+                .validate(items.stream());
+
+        assertEquals(4, expected.getFailureCount());
+        assertEquals(Set.copyOf(describe(expected)), Set.copyOf(describe(validationResult)));
+        assertEquals(statistics(expected), statistics(validationResult));
+    }
+
+    @Test
+    void shouldFailShardOfFailedWorkerWithoutBlockingPartitioning() {
+        final var plan = new DataValidator<Integer>()
+                .expect(of((Integer item) -> 0, (Integer item) -> {
+                    if (item == 1) {
+                        throw new AssertionError("worker failure");
+                    }
+                    return 0;
+                }))
+                .compile();
+        final var shardedValidator = new ShardedValidator<>(plan, (Integer item) -> item, 2);
+
+        final var exception = assertThrows(IllegalStateException.class,
+                () -> shardedValidator.validate(IntStream.range(0, ITEMS * 10).boxed()));
+
+        assertEquals(AssertionError.class, exception.getCause().getClass());
+    }
+
+    private static Validator<Integer> validator(int from, int to) {
+        return new DataValidator<Integer>()
+                .accept(IntStream.range(from, to).boxed())
+                .expect(of((Integer item) -> BigDecimal.ZERO,
+                        (Integer item) -> item % 10 == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(item % 10, 1))
+                        .named("amount"))
+                .expect(of((Integer item) -> 0, (Integer item) -> item % 2).named("odd"));
+    }
+
+    private static List<String> describe(ValidationResult validationResult) {
+        return validationResult.getFailedConditions().stream()
+                .map((FailedCondition failedCondition) -> failedCondition.getItemId() + ":"
+                        + failedCondition.getExpectationName() + ":" + failedCondition.getActualValue())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> statistics(ValidationResult validationResult) {
+        return validationResult.getExpectationStatistics().stream()
+                .map((ExpectationStatistics statistics) -> statistics.getExpectationName() + "="
+                        + statistics.getCheckedCount() + "/" + statistics.getFailedCount())
+                .collect(Collectors.toList());
+    }
+}